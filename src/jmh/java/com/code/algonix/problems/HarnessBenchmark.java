@@ -0,0 +1,54 @@
+package com.code.algonix.problems;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Funksiya kodini bajariladigan dasturga o'rash (wrapFunctionCode), "Add Two Numbers" masalasi
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HarnessBenchmark {
+
+    private static final long PROBLEM_ID = 2L;
+
+    private static final Map<String, String> SOURCES = Map.of(
+            "javascript", "function addTwoNumbers(a, b) {\n    return a + b;\n}\n",
+            "python", "def addTwoNumbers(a, b):\n    return a + b\n",
+            "java", "class Solution {\n    public int addTwoNumbers(int a, int b) {\n        return a + b;\n    }\n}\n",
+            "cpp", "int addTwoNumbers(int a, int b) {\n    return a + b;\n}\n");
+
+    @Param({"javascript", "python", "java", "cpp"})
+    private String language;
+
+    private LeetCodeExecutionService leetCode;
+    private SimpleJudgeService simpleJudge;
+    private String source;
+
+    @Setup
+    public void setup() {
+        leetCode = new LeetCodeExecutionService(null, null);
+        simpleJudge = new SimpleJudgeService(null, null, null);
+        source = SOURCES.get(language);
+    }
+
+    @Benchmark
+    public String leetCodeWrapFunctionCode() {
+        return leetCode.wrapFunctionCode(source, language, PROBLEM_ID);
+    }
+
+    @Benchmark
+    public String simpleJudgeWrapFunctionCode() {
+        return simpleJudge.wrapFunctionCode(source, language, PROBLEM_ID);
+    }
+}
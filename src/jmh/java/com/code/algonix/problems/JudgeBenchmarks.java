@@ -0,0 +1,101 @@
+package com.code.algonix.problems;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Judge benchmark'larini ishga tushirish: natija JSON'ga yoziladi (-Djmh.result) va
+ * saqlangan baseline (-Djmh.baseline) bilan taqqoslanadi.
+ * -Djmh.max-regression-pct (default 25) dan ko'p sekinlashgan benchmark build'ni yiqitadi; 0 - faqat hisobot.
+ * Yangi baseline: natija faylini src/jmh/baseline.json ga nusxalash.
+ */
+public final class JudgeBenchmarks {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JudgeBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String resultFile = System.getProperty("jmh.result", "target/jmh-result.json");
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(commandLine)
+                .resultFormat(ResultFormatType.JSON)
+                .result(resultFile);
+        if (commandLine.getIncludes().isEmpty()) {
+            builder.include(JudgeBenchmarks.class.getPackageName() + "\\..*Benchmark");
+        }
+        Options options = builder.build();
+        Collection<RunResult> results = new Runner(options).run();
+        System.out.printf("%nJMH results written to %s (%d benchmarks)%n", resultFile, results.size());
+
+        File baseline = new File(System.getProperty("jmh.baseline", "src/jmh/baseline.json"));
+        if (!baseline.isFile()) {
+            System.out.println("No baseline at " + baseline + ", skipping comparison");
+            return;
+        }
+        double maxRegressionPct = Double.parseDouble(System.getProperty("jmh.max-regression-pct", "25"));
+        int regressions = compare(read(baseline), read(new File(resultFile)), maxRegressionPct);
+        if (regressions > 0) {
+            System.err.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, maxRegressionPct);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Baseline bilan taqqoslash, chegaradan oshgan regressiyalar soni qaytadi
+     */
+    private static int compare(Map<String, Double> baseline, Map<String, Double> current, double maxRegressionPct) {
+        int regressions = 0;
+        System.out.printf("%n%-90s %12s %12s %9s%n", "Benchmark", "Baseline", "Current", "Change");
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double before = baseline.get(entry.getKey());
+            if (before == null || before == 0) {
+                System.out.printf("%-90s %12s %12.3f %9s%n", entry.getKey(), "-", entry.getValue(), "new");
+                continue;
+            }
+            // Barcha benchmark'lar vaqt o'lchaydi - ko'proq = sekinroq
+            double changePct = (entry.getValue() - before) / before * 100;
+            boolean regressed = maxRegressionPct > 0 && changePct > maxRegressionPct;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %12.3f %12.3f %+8.1f%%%s%n", entry.getKey(), before, entry.getValue(),
+                    changePct, regressed ? " REGRESSION" : "");
+        }
+        return regressions;
+    }
+
+    /**
+     * JMH JSON natijasi: "benchmark [param=value, ...]" -> score
+     */
+    private static Map<String, Double> read(File file) throws IOException {
+        Map<String, Double> scores = new LinkedHashMap<>();
+        for (JsonNode run : MAPPER.readTree(file)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            if (params.isObject()) {
+                Map<String, String> sorted = new TreeMap<>();
+                params.fields().forEachRemaining(p -> sorted.put(p.getKey(), p.getValue().asText()));
+                key.append(' ').append(sorted);
+            }
+            scores.put(key.toString(), run.path("primaryMetric").path("score").asDouble());
+        }
+        return scores;
+    }
+}
@@ -0,0 +1,59 @@
+package com.code.algonix.problems;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Chiqishni taqqoslash: LeetCode engine (aniq tenglik) va SimpleJudge (normalizatsiya bilan)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OutputComparisonBenchmark {
+
+    @Param({"1", "1000"})
+    private int lines;
+
+    private LeetCodeExecutionService leetCode;
+    private SimpleJudgeService simpleJudge;
+    private String expected;
+    private String actual;
+
+    @Setup
+    public void setup() {
+        leetCode = new LeetCodeExecutionService(null, null);
+        simpleJudge = new SimpleJudgeService(null, null, null);
+
+        StringBuilder expectedBuilder = new StringBuilder();
+        StringBuilder actualBuilder = new StringBuilder();
+        for (int i = 0; i < lines; i++) {
+            expectedBuilder.append(i).append(' ').append(i * 31 % 97).append('\n');
+            actualBuilder.append(i).append("  ").append(i * 31 % 97).append("\r\n");
+        }
+        expected = expectedBuilder.toString().trim();
+        actual = actualBuilder.toString();
+    }
+
+    @Benchmark
+    public boolean leetCodeCompareOutputs() {
+        return leetCode.compareOutputs(expected, expected);
+    }
+
+    @Benchmark
+    public boolean simpleJudgeCompareOutputs() {
+        return simpleJudge.compareOutputs(expected, actual);
+    }
+
+    @Benchmark
+    public String simpleJudgeNormalizeOutput() {
+        return simpleJudge.normalizeOutput(actual);
+    }
+}
@@ -0,0 +1,48 @@
+package com.code.algonix.problems;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * Process chiqishini o'qish (readProcessOutput) - kichik natija va limitgacha to'lgan chiqish
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ProcessOutputBenchmark {
+
+    @Param({"16", "10240"})
+    private int outputBytes;
+
+    private SimpleJudgeService simpleJudge;
+    private byte[] output;
+
+    @Setup
+    public void setup() {
+        simpleJudge = new SimpleJudgeService(null, null, null);
+        ReflectionTestUtils.setField(simpleJudge, "maxOutputSize", 10240);
+
+        StringBuilder builder = new StringBuilder(outputBytes);
+        for (int i = 0; builder.length() < outputBytes; i++) {
+            builder.append(i).append('\n');
+        }
+        output = builder.substring(0, outputBytes).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String readProcessOutput() throws IOException {
+        return simpleJudge.readProcessOutput(new ByteArrayInputStream(output));
+    }
+}
@@ -0,0 +1,76 @@
+package com.code.algonix.problems;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.code.algonix.config.LanguageDriverConfig;
+
+/**
+ * Trivial dastur uchun process ishga tushishidan tugashigacha bo'lgan vaqt (kompilyatsiyasiz).
+ * O'rnatilmagan til benchmark'i setup'da xato bilan tugaydi, qolganlari davom etadi.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ProcessSpawnBenchmark {
+
+    private static final long TIMEOUT_MS = 10000;
+    private static final int MAX_OUTPUT_BYTES = 4096;
+
+    @Param({"python", "javascript", "java", "cpp", "c"})
+    private String language;
+
+    private Path workDir;
+    private List<String> command;
+
+    @Setup
+    public void setup() throws Exception {
+        LanguageDriverConfig config = new LanguageDriverConfig();
+        ReflectionTestUtils.setField(config, "javaTimeMultiplier", 1.0);
+        LanguageDriverRegistry registry = new LanguageDriverRegistry(List.of(
+                config.pythonDriver(), config.python3Driver(), config.javascriptDriver(),
+                config.javaDriver(), config.cppDriver(), config.cDriver()));
+        ReflectionTestUtils.setField(registry, "probeTimeoutMs", TIMEOUT_MS);
+        ReflectionTestUtils.setField(registry, "compileTimeoutMs", 60000L);
+        registry.discover();
+
+        LanguageDriver driver = registry.find(language)
+                .orElseThrow(() -> new IllegalStateException(language + " toolchain is not installed"));
+        workDir = Files.createTempDirectory("jmh-spawn-");
+        LanguageDriver.Program program = registry.prepare(driver, driver.warmUpProgram(), workDir, null);
+        if (program.compileError() != null) {
+            throw new IllegalStateException("Warm-up program failed to compile: " + program.compileError());
+        }
+        command = program.command();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (workDir == null) {
+            return;
+        }
+        try (var paths = Files.walk(workDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public ProcessRunner.Result spawnToExit() throws Exception {
+        return ProcessRunner.run(command, workDir, "", TIMEOUT_MS, MAX_OUTPUT_BYTES);
+    }
+}
@@ -0,0 +1,85 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.code.algonix.problems.dto.SubmissionResponse;
+import com.code.algonix.user.UserEntity;
+
+/**
+ * SubmissionResultMapper: engine natijasi -> TestResult entity'lari -> javob DTO
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResultMappingBenchmark {
+
+    @Param({"10", "100"})
+    private int tests;
+
+    private SubmissionResultMapper mapper;
+    private Problem problem;
+    private Submission submission;
+    private List<CodeExecutionService.TestCaseResult> caseResults;
+
+    @Setup
+    public void setup() {
+        TestResultStorage storage = new TestResultStorage();
+        ReflectionTestUtils.setField(storage, "previewChars", 1024);
+        ReflectionTestUtils.setField(storage, "maxStoredChars", 1048576);
+        mapper = new SubmissionResultMapper(storage);
+
+        problem = Problem.builder().id(2L).testCases(new ArrayList<>()).build();
+        caseResults = new ArrayList<>();
+        for (long i = 1; i <= tests; i++) {
+            TestCase testCase = TestCase.builder().id(i).problem(problem)
+                    .input(i + " " + i).expectedOutput(String.valueOf(2 * i)).build();
+            problem.getTestCases().add(testCase);
+            boolean passed = i < tests;
+            caseResults.add(CodeExecutionService.TestCaseResult.builder()
+                    .testCaseId(i)
+                    .status(passed ? CodeExecutionService.ExecutionStatus.ACCEPTED
+                            : CodeExecutionService.ExecutionStatus.WRONG_ANSWER)
+                    .passed(passed)
+                    .input(testCase.getInput())
+                    .expectedOutput(testCase.getExpectedOutput())
+                    .actualOutput(passed ? testCase.getExpectedOutput() : "0")
+                    .errorMessage(passed ? null : "Wrong Answer")
+                    .runtime(12)
+                    .memory(41.5)
+                    .build());
+        }
+
+        UserEntity user = new UserEntity();
+        user.setId(1L);
+        submission = Submission.builder()
+                .id(1L)
+                .user(user)
+                .problem(problem)
+                .language("javascript")
+                .status(Submission.SubmissionStatus.WRONG_ANSWER)
+                .build();
+        submission.getTestResults().addAll(mapper.toTestResults(submission, problem, caseResults));
+    }
+
+    @Benchmark
+    public List<TestResult> mapTestResults() {
+        return mapper.toTestResults(submission, problem, caseResults);
+    }
+
+    @Benchmark
+    public SubmissionResponse mapToSubmissionResponse() {
+        return mapper.toResponse(submission, null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.code.algonix.problems;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Xavfli kod tekshiruvi (containsDangerousCode) - xavfsiz kodni to'liq o'tish eng qimmat holat
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SecurityScanBenchmark {
+
+    @Param({"1000", "50000"})
+    private int codeLength;
+
+    @Param({"javascript", "python"})
+    private String language;
+
+    private SimpleJudgeService simpleJudge;
+    private String code;
+
+    @Setup
+    public void setup() {
+        SecurityExecutionService securityService = new SecurityExecutionService(new StandardEnvironment());
+        securityService.buildScanners();
+        simpleJudge = new SimpleJudgeService(null, null, securityService);
+
+        String line = "javascript".equals(language)
+                ? "const total = values.reduce((sum, v) => sum + v, 0); // evaluate\n"
+                : "total = sum(v for v in values)  # evaluate\n";
+        StringBuilder builder = new StringBuilder(codeLength + line.length());
+        while (builder.length() < codeLength) {
+            builder.append(line);
+        }
+        code = builder.substring(0, codeLength);
+    }
+
+    @Benchmark
+    public boolean containsDangerousCode() {
+        return simpleJudge.containsDangerousCode(code, language);
+    }
+}
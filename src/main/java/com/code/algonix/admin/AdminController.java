@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -28,6 +29,7 @@ import com.code.algonix.admin.dto.AdminUserResponse;
 import com.code.algonix.admin.dto.BroadcastMessageRequest;
 import com.code.algonix.messages.MessageService;
 import com.code.algonix.problems.Problem;
+import com.code.algonix.problems.ProblemChangedEvent;
 import com.code.algonix.problems.ProblemRepository;
 import com.code.algonix.problems.Submission;
 import com.code.algonix.problems.SubmissionRepository;
@@ -50,6 +52,7 @@ public class AdminController {
     private final SubmissionRepository submissionRepository;
     private final UserStatisticsRepository userStatisticsRepository;
     private final MessageService messageService;
+    private final ApplicationEventPublisher eventPublisher;
     
     /**
      * Admin Dashboard - Umumiy statistikalar
@@ -209,6 +212,7 @@ public class AdminController {
         }
         
         problemRepository.deleteById(problemId);
+        eventPublisher.publishEvent(new ProblemChangedEvent(problemId));
         return ResponseEntity.ok(Map.of("message", "Problem deleted successfully"));
     }
     
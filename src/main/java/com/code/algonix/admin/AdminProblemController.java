@@ -1,14 +1,28 @@
 package com.code.algonix.admin;
 
+import com.code.algonix.exception.InvalidInputException;
+import com.code.algonix.problems.MarkdownRenderer;
 import com.code.algonix.problems.Problem;
+import com.code.algonix.problems.ProblemChangedEvent;
+import com.code.algonix.problems.ProblemImportService;
 import com.code.algonix.problems.ProblemRepository;
 import com.code.algonix.problems.ProblemService;
+import com.code.algonix.problems.TimeLimitCalibration;
+import com.code.algonix.problems.TimeLimitCalibrationService;
 import com.code.algonix.problems.dto.CreateProblemRequest;
+import com.code.algonix.problems.dto.ProblemImportResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,6 +34,13 @@ public class AdminProblemController {
     
     private final ProblemService problemService;
     private final ProblemRepository problemRepository;
+    private final TimeLimitCalibrationService timeLimitCalibrationService;
+    private final ProblemImportService problemImportService;
+    private final MarkdownRenderer markdownRenderer;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${problems.markdown.max-length:100000}")
+    private int maxDescriptionLength;
     
     /**
      * Yangi masala yaratish
@@ -30,6 +51,29 @@ public class AdminProblemController {
         return ResponseEntity.ok(problem);
     }
     
+    /**
+     * Masalalarni ommaviy import qilish (JSON massiv oqim sifatida o'qiladi, o'zgarmaganlar o'tkazib yuboriladi)
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<ProblemImportResponse> importProblems(InputStream body) {
+        return ResponseEntity.ok(problemImportService.importProblems(body, "admin-api"));
+    }
+    
+    /**
+     * Tavsif preview'i: Markdown -> tozalangan HTML (saqlashdagi bilan bir xil renderer)
+     */
+    @PostMapping("/preview-description")
+    public ResponseEntity<Map<String, String>> previewDescription(@RequestBody Map<String, String> request) {
+        String markdown = request.get("markdown");
+        if (markdown == null) {
+            throw new InvalidInputException("markdown is required");
+        }
+        if (markdown.length() > maxDescriptionLength) {
+            throw new InvalidInputException("Description is too long (max " + maxDescriptionLength + " characters)");
+        }
+        return ResponseEntity.ok(Map.of("html", markdownRenderer.render(markdown)));
+    }
+    
     /**
      * Masalani yangilash
      */
@@ -44,15 +88,16 @@ public class AdminProblemController {
         // Update fields
         existingProblem.setTitle(request.getTitle());
         existingProblem.setDescription(request.getDescription());
+        existingProblem.setDescriptionHtml(markdownRenderer.render(request.getDescription()));
         existingProblem.setDifficulty(request.getDifficulty());
         existingProblem.setCategories(request.getCategories());
         existingProblem.setTags(request.getTags());
         existingProblem.setHints(request.getHints());
-        // timeLimit va memoryLimit default qiymatlar bilan
-        existingProblem.setTimeLimitMs(2000); // 2 seconds
-        existingProblem.setMemoryLimitMb(256); // 256 MB
+        // timeLimit/memoryLimit o'zgarmaydi - reference yechimlar bo'yicha kalibrlangan limit saqlanib qoladi
+        // (testlar bu endpoint orqali o'zgarmaydi, qayta kalibrlash kerak emas)
         
         Problem updatedProblem = problemRepository.save(existingProblem);
+        eventPublisher.publishEvent(new ProblemChangedEvent(updatedProblem.getId()));
         return ResponseEntity.ok(updatedProblem);
     }
     
@@ -64,15 +109,15 @@ public class AdminProblemController {
         Problem problem = problemRepository.findById(problemId)
                 .orElseThrow(() -> new RuntimeException("Problem not found"));
         
-        Map<String, Object> stats = Map.of(
-                "totalSubmissions", problem.getTotalSubmissions(),
-                "totalAccepted", problem.getTotalAccepted(),
-                "acceptanceRate", problem.getAcceptanceRate(),
-                "likes", problem.getLikes(),
-                "dislikes", problem.getDislikes(),
-                "difficulty", problem.getDifficulty(),
-                "categories", problem.getCategories()
-        );
+        // Import qilingan masalalarda likes/dislikes null bo'lishi mumkin - Map.of null qabul qilmaydi
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("totalSubmissions", problem.getTotalSubmissions());
+        stats.put("totalAccepted", problem.getTotalAccepted());
+        stats.put("acceptanceRate", problem.getAcceptanceRate());
+        stats.put("likes", problem.getLikes());
+        stats.put("dislikes", problem.getDislikes());
+        stats.put("difficulty", problem.getDifficulty());
+        stats.put("categories", problem.getCategories());
         
         return ResponseEntity.ok(stats);
     }
@@ -93,4 +138,37 @@ public class AdminProblemController {
                 "problemId", problemId.toString()
         ));
     }
-}
\ No newline at end of file
+
+    /**
+     * Reference yechimlarni almashtirish (time limit qayta kalibrlanadi)
+     */
+    @PutMapping("/{problemId}/reference-solutions")
+    public ResponseEntity<Map<String, Object>> replaceReferenceSolutions(
+            @PathVariable Long problemId,
+            @RequestBody List<CreateProblemRequest.ReferenceSolutionRequest> request) {
+        int count = problemService.replaceReferenceSolutions(problemId, request);
+        return ResponseEntity.ok(Map.of(
+                "problemId", problemId,
+                "referenceSolutions", count
+        ));
+    }
+
+    /**
+     * Reference yechimlar bo'yicha time limitni kalibrlash (apply=false - faqat taklif)
+     */
+    @PostMapping("/{problemId}/calibrate-time-limit")
+    public ResponseEntity<TimeLimitCalibration> calibrateTimeLimit(
+            @PathVariable Long problemId,
+            @RequestParam(defaultValue = "false") boolean apply) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(timeLimitCalibrationService.calibrate(problemId, apply));
+    }
+
+    /**
+     * Time limit kalibrlash tarixi (oxirgisi birinchi)
+     */
+    @GetMapping("/{problemId}/time-limit-calibrations")
+    public ResponseEntity<List<TimeLimitCalibration>> getTimeLimitCalibrations(@PathVariable Long problemId) {
+        return ResponseEntity.ok(timeLimitCalibrationService.getCalibrations(problemId));
+    }
+}
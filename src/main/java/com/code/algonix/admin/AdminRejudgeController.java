@@ -0,0 +1,69 @@
+package com.code.algonix.admin;
+
+import java.util.List;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.code.algonix.admin.dto.RejudgeRequest;
+import com.code.algonix.problems.RejudgeJob;
+import com.code.algonix.problems.RejudgeService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/rejudge")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "http://localhost:4200")
+@PreAuthorize("hasRole('ADMIN')")
+public class AdminRejudgeController {
+
+    private final RejudgeService rejudgeService;
+
+    /**
+     * Masala/contest bo'yicha rejudge job yaratish (til va verdict bo'yicha filtr ixtiyoriy)
+     */
+    @PostMapping
+    public ResponseEntity<RejudgeJob> createJob(@RequestBody RejudgeRequest request, Authentication authentication) {
+        RejudgeJob job = rejudgeService.createJob(
+                request.getProblemId(),
+                request.getContestId(),
+                request.getLanguage(),
+                request.getVerdict(),
+                authentication.getName());
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(job);
+    }
+
+    /**
+     * Barcha rejudge job'lar (oxirgisi birinchi)
+     */
+    @GetMapping
+    public ResponseEntity<List<RejudgeJob>> getJobs() {
+        return ResponseEntity.ok(rejudgeService.getJobs());
+    }
+
+    /**
+     * Job holati va progressi
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<RejudgeJob> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(rejudgeService.getJob(jobId));
+    }
+
+    /**
+     * Job'ni bekor qilish
+     */
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<RejudgeJob> cancelJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(rejudgeService.cancelJob(jobId));
+    }
+}
@@ -0,0 +1,17 @@
+package com.code.algonix.admin.dto;
+
+import com.code.algonix.problems.Submission;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RejudgeRequest {
+    private Long problemId;
+    private Long contestId;
+    private String language; // ixtiyoriy
+    private Submission.SubmissionStatus verdict; // ixtiyoriy, masalan faqat WRONG_ANSWER
+}
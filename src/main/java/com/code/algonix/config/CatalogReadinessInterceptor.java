@@ -0,0 +1,33 @@
+package com.code.algonix.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import com.code.algonix.exception.ServiceUnavailableException;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Masalalar katalogi yuklanmaguncha unga bog'liq endpoint'lar 503 + Retry-After qaytaradi
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogReadinessInterceptor implements HandlerInterceptor {
+
+    private final StartupReadiness readiness;
+
+    @Value("${startup.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!readiness.isReady()) {
+            throw new ServiceUnavailableException("Problem catalog is still loading (" + readiness.getPhase() + ")",
+                    retryAfterSeconds);
+        }
+        return true;
+    }
+}
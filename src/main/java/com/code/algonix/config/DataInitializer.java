@@ -5,20 +5,21 @@ import com.code.algonix.user.UserEntity;
 import com.code.algonix.user.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+/**
+ * Default foydalanuvchilar (StartupDataLoader fonda chaqiradi)
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class DataInitializer implements CommandLineRunner {
+public class DataInitializer {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
 
-    @Override
-    public void run(String... args) {
+    public void run() {
         // Create default admin user if not exists
         if (userRepository.findByUsername("admin").isEmpty()) {
             UserEntity admin = UserEntity.builder()
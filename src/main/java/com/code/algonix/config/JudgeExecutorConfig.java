@@ -0,0 +1,99 @@
+package com.code.algonix.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Judge uchun thread pool'lar:
+ * - judgeExecutor: submission'larni fon rejimida baholash
+ * - runExecutor: "Run" (custom input) uchun alohida kichik pool
+ * - calibrationExecutor: reference yechimlar bilan time limitni kalibrlash
+ * - rejudgeExecutor / rejudgeWorkerExecutor: ommaviy rejudge (jonli submission'lar ko'p bo'lsa kutadi)
+ */
+@Configuration
+public class JudgeExecutorConfig {
+
+    @Value("${judge.async.pool-size:4}")
+    private int poolSize;
+
+    @Value("${judge.async.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${judge.run.pool-size:2}")
+    private int runPoolSize;
+
+    @Value("${judge.run.queue-capacity:20}")
+    private int runQueueCapacity;
+
+    @Value("${judge.time-limit.pool-size:2}")
+    private int calibrationPoolSize;
+
+    @Value("${judge.time-limit.queue-capacity:50}")
+    private int calibrationQueueCapacity;
+
+    @Value("${judge.rejudge.parallelism:2}")
+    private int rejudgeParallelism;
+
+    @Value("${judge.rejudge.page-size:50}")
+    private int rejudgePageSize;
+
+    @Bean(name = "judgeExecutor")
+    public ThreadPoolTaskExecutor judgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("judge-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = "runExecutor")
+    public ThreadPoolTaskExecutor runExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(runPoolSize);
+        executor.setMaxPoolSize(runPoolSize);
+        executor.setQueueCapacity(runQueueCapacity);
+        executor.setThreadNamePrefix("run-");
+        return executor;
+    }
+
+    @Bean(name = "calibrationExecutor")
+    public ThreadPoolTaskExecutor calibrationExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(calibrationPoolSize);
+        executor.setMaxPoolSize(calibrationPoolSize);
+        executor.setQueueCapacity(calibrationQueueCapacity);
+        executor.setThreadNamePrefix("calibration-");
+        return executor;
+    }
+
+    /**
+     * Rejudge job'larini ketma-ket boshqaradi (bir vaqtda bitta job)
+     */
+    @Bean(name = "rejudgeExecutor")
+    public ThreadPoolTaskExecutor rejudgeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("rejudge-");
+        return executor;
+    }
+
+    /**
+     * Rejudge sahifasidagi submission'larni parallel baholaydi; navbat bitta sahifaga yetadi
+     */
+    @Bean(name = "rejudgeWorkerExecutor")
+    public ThreadPoolTaskExecutor rejudgeWorkerExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(rejudgeParallelism);
+        executor.setMaxPoolSize(rejudgeParallelism);
+        executor.setQueueCapacity(rejudgePageSize);
+        executor.setThreadNamePrefix("rejudge-worker-");
+        return executor;
+    }
+}
@@ -0,0 +1,119 @@
+package com.code.algonix.config;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.code.algonix.problems.CommandLanguageDriver;
+import com.code.algonix.problems.LanguageDriver;
+
+/**
+ * Lokal judge uchun til drayverlari.
+ * Bir til uchun bir nechta drayver bo'lishi mumkin (masalan python / python3) -
+ * registry startupda qaysi biri o'rnatilganini aniqlaydi.
+ */
+@Configuration
+public class LanguageDriverConfig {
+
+    @Value("${judge.languages.java.time-multiplier:1.0}")
+    private double javaTimeMultiplier;
+
+    @Value("${judge.languages.java.memory-multiplier:2.0}")
+    private double javaMemoryMultiplier;
+
+    @Value("${judge.languages.php.command:php}")
+    private String phpCommand;
+
+    @Bean
+    public LanguageDriver pythonDriver() {
+        return python("python", 1);
+    }
+
+    @Bean
+    public LanguageDriver python3Driver() {
+        return python("python3", 0);
+    }
+
+    @Bean
+    public LanguageDriver javascriptDriver() {
+        return CommandLanguageDriver.builder()
+                .language("javascript")
+                .alias("js")
+                .displayName("Node.js")
+                .versionCommand(List.of("node", "--version"))
+                .extension(".js")
+                .runTemplate(List.of("node", "{source}"))
+                .warmUpProgram("console.log(1);\n")
+                .build();
+    }
+
+    @Bean
+    public LanguageDriver javaDriver() {
+        return CommandLanguageDriver.builder()
+                .language("java")
+                .displayName("OpenJDK")
+                .versionCommand(List.of("javac", "-version"))
+                .extension(".java")
+                .defaultMainName("Main")
+                .compileTemplate(List.of("javac", "{source}"))
+                .runTemplate(List.of("java", "-cp", "{dir}", "{main}"))
+                .timeMultiplier(javaTimeMultiplier)
+                .memoryMultiplier(javaMemoryMultiplier)
+                .warmUpProgram("public class Main { public static void main(String[] a) { System.out.println(1); } }\n")
+                .build();
+    }
+
+    @Bean
+    public LanguageDriver cppDriver() {
+        return CommandLanguageDriver.builder()
+                .language("cpp")
+                .alias("c++")
+                .displayName("GNU C++17")
+                .versionCommand(List.of("g++", "--version"))
+                .extension(".cpp")
+                .compileTemplate(List.of("g++", "-o", "{exe}", "{source}", "-std=c++17", "-O2"))
+                .runTemplate(List.of("{exe}"))
+                .warmUpProgram("#include <iostream>\nint main() { std::cout << 1 << std::endl; return 0; }\n")
+                .build();
+    }
+
+    @Bean
+    public LanguageDriver cDriver() {
+        return CommandLanguageDriver.builder()
+                .language("c")
+                .displayName("GNU C11")
+                .versionCommand(List.of("gcc", "--version"))
+                .extension(".c")
+                .compileTemplate(List.of("gcc", "-o", "{exe}", "{source}", "-std=c11", "-O2"))
+                .runTemplate(List.of("{exe}"))
+                .build();
+    }
+
+    @Bean
+    public LanguageDriver phpDriver() {
+        return CommandLanguageDriver.builder()
+                .language("php")
+                .displayName("PHP")
+                .versionCommand(List.of(phpCommand, "--version"))
+                .extension(".php")
+                .sourcePrefix("<?php\n")
+                .runTemplate(List.of(phpCommand, "{source}"))
+                .build();
+    }
+
+    private static LanguageDriver python(String command, int priority) {
+        return CommandLanguageDriver.builder()
+                .language("python")
+                .alias("python3")
+                .alias("py")
+                .priority(priority)
+                .displayName("CPython (" + command + ")")
+                .versionCommand(List.of(command, "--version"))
+                .extension(".py")
+                .runTemplate(List.of(command, "{source}"))
+                .warmUpProgram("print(1)\n")
+                .build();
+    }
+}
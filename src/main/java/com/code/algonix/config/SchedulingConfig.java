@@ -0,0 +1,14 @@
+package com.code.algonix.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Davriy vazifalar (percentile histogrammalarini saqlash va h.k.).
+ * Scheduler pool'i bir nechta thread'li (spring.task.scheduling.pool.size) - bir necha soniyalik
+ * node kalibrlashi boshqa flush'larni kechiktirmaydi
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,79 @@
+package com.code.algonix.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.code.algonix.problems.CodeTemplateService;
+import com.code.algonix.problems.LanguageDriverRegistry;
+import com.code.algonix.problems.ProblemCatalogIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Startup ma'lumotlari: foydalanuvchilar, masalalar, template'lar, katalog indeksi va til toolchain'lari.
+ * Web server ishga tushgandan keyin fonda yuklanadi - boshqa endpoint'lar kutmaydi,
+ * holat StartupReadiness orqali kuzatiladi. Bosqichdagi xato keyingi bosqichlarni to'xtatmaydi.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StartupDataLoader {
+
+    private final DataInitializer dataInitializer;
+    private final ProblemDataLoader problemDataLoader;
+    private final CodeTemplateService codeTemplateService;
+    private final ProblemCatalogIndex problemCatalogIndex;
+    private final LanguageDriverRegistry languageDriverRegistry;
+    private final StartupReadiness readiness;
+
+    @Value("${startup.background-loading:true}")
+    private boolean background;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void start() {
+        if (!background) {
+            load();
+            return;
+        }
+        Thread.ofPlatform().name("startup-loader").daemon(true).start(this::load);
+    }
+
+    private void load() {
+        long start = System.nanoTime();
+        // Toolchain probe'lari (har biri bir necha soniyagacha) parallel ishlaydi va katalog READY'ni kutdirmaydi
+        Thread.ofVirtual().name("toolchain-discovery").start(this::discoverToolchains);
+        runPhase(StartupReadiness.Phase.SEEDING_USERS, dataInitializer::run);
+        runPhase(StartupReadiness.Phase.LOADING_PROBLEMS, problemDataLoader::run);
+        runPhase(StartupReadiness.Phase.LOADING_TEMPLATES, () -> {
+            codeTemplateService.loadTemplates();
+            codeTemplateService.reload();
+        });
+        runPhase(StartupReadiness.Phase.INDEXING, problemCatalogIndex::rebuild);
+        readiness.enter(StartupReadiness.Phase.READY);
+        log.info("Startup data ready in {}ms", (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void discoverToolchains() {
+        try {
+            languageDriverRegistry.ensureDiscovered();
+            readiness.markToolchainsReady();
+            languageDriverRegistry.warmUp();
+        } catch (RuntimeException e) {
+            log.error("Toolchain discovery failed", e);
+            readiness.recordError("TOOLCHAINS", e.getMessage());
+        }
+    }
+
+    private void runPhase(StartupReadiness.Phase phase, Runnable action) {
+        readiness.enter(phase);
+        try {
+            action.run();
+        } catch (RuntimeException e) {
+            log.error("Startup phase {} failed", phase, e);
+            readiness.recordError(phase, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.code.algonix.config;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Startup ma'lumotlarini yuklash holati (fonda yuklanadi, ilova esa darhol so'rov qabul qiladi).
+ * Katalogga bog'liq endpoint'lar READY bo'lguncha 503 qaytaradi (CatalogReadinessInterceptor).
+ * Til toolchain'larini aniqlash katalogni kutdirmaydi - alohida kuzatiladi (toolchainsReady).
+ */
+@Component
+public class StartupReadiness {
+
+    public enum Phase {
+        STARTING, SEEDING_USERS, LOADING_PROBLEMS, LOADING_TEMPLATES, INDEXING, READY
+    }
+
+    private final AtomicInteger problemsLoaded = new AtomicInteger();
+    private final List<String> errors = new ArrayList<>();
+    private volatile Phase phase = Phase.STARTING;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime readyAt;
+    private volatile boolean toolchainsReady;
+
+    /**
+     * Holat nusxasi (readiness endpoint uchun)
+     */
+    public record Status(Phase phase, boolean ready, boolean toolchainsReady, int problemsLoaded,
+                         LocalDateTime startedAt, LocalDateTime readyAt, List<String> errors) {
+    }
+
+    public boolean isReady() {
+        return phase == Phase.READY;
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    public synchronized Status status() {
+        return new Status(phase, isReady(), toolchainsReady, problemsLoaded.get(), startedAt, readyAt,
+                List.copyOf(errors));
+    }
+
+    void enter(Phase next) {
+        if (startedAt == null) {
+            startedAt = LocalDateTime.now();
+        }
+        if (next == Phase.READY) {
+            readyAt = LocalDateTime.now();
+        }
+        phase = next;
+    }
+
+    public boolean isToolchainsReady() {
+        return toolchainsReady;
+    }
+
+    void markToolchainsReady() {
+        toolchainsReady = true;
+    }
+
+    void addProblemsLoaded(int count) {
+        problemsLoaded.addAndGet(count);
+    }
+
+    synchronized void recordError(Phase failed, String message) {
+        recordError(failed.name(), message);
+    }
+
+    synchronized void recordError(String step, String message) {
+        errors.add(step + ": " + message);
+    }
+}
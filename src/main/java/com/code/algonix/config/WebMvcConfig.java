@@ -0,0 +1,24 @@
+package com.code.algonix.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Katalogga bog'liq endpoint'lar startup yuklash tugashini kutadi, qolganlari darhol ishlaydi
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final CatalogReadinessInterceptor catalogReadinessInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(catalogReadinessInterceptor)
+                .addPathPatterns("/api/problems/**", "/api/submissions/**", "/api/contests/**",
+                        "/api/templates/**", "/api/admin/problems/**");
+    }
+}
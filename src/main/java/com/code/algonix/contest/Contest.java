@@ -17,7 +17,8 @@ import java.util.List;
 public class Contest {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contests_seq")
+    @SequenceGenerator(name = "contests_seq", sequenceName = "contests_seq", allocationSize = 50)
     private Long id;
     
     @Column(nullable = false, unique = true)
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class ContestParticipant {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contest_participants_seq")
+    @SequenceGenerator(name = "contest_participants_seq", sequenceName = "contest_participants_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -14,7 +14,8 @@ import lombok.NoArgsConstructor;
 public class ContestProblem {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contest_problems_seq")
+    @SequenceGenerator(name = "contest_problems_seq", sequenceName = "contest_problems_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
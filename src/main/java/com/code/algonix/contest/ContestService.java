@@ -11,6 +11,7 @@ import com.code.algonix.user.UserRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +32,7 @@ public class ContestService {
     private final SubmissionService submissionService;
     private final UserRepository userRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public ContestResponse createContest(CreateContestRequest request) {
@@ -203,11 +205,7 @@ public class ContestService {
         long timeTaken = java.time.Duration.between(contest.getStartTime(), now).getSeconds();
         contestSubmission.setTimeTaken(timeTaken);
         
-        if (submission.getStatus() == Submission.SubmissionStatus.ACCEPTED) {
-            contestSubmission.setScore(contestProblem.getPoints());
-        } else {
-            contestSubmission.setScore(0);
-        }
+        contestSubmission.setScore(calculateSubmissionScore(contestProblem, submission));
         
         contestSubmissionRepository.save(contestSubmission);
         
@@ -263,7 +261,7 @@ public class ContestService {
                                     pr.setTimeTaken(accepted.get().getTimeTaken());
                                 } else {
                                     pr.setSolved(false);
-                                    pr.setScore(0);
+                                    pr.setScore(calculateProblemScore(cp, submissions));
                                     pr.setTimeTaken(null);
                                 }
                                 
@@ -316,6 +314,33 @@ public class ContestService {
         return buildFinalResultsResponse(contest, participants, now);
     }
     
+    /**
+     * Rejudge'dan keyin: contest submission'lar natijasini yangilash va
+     * ta'sirlangan ishtirokchilar ballarini bir martada qayta hisoblash
+     */
+    @Transactional
+    public void rescoreSubmissions(Collection<Long> submissionIds) {
+        List<ContestSubmission> affected = contestSubmissionRepository.findBySubmissionIdIn(submissionIds);
+        if (affected.isEmpty()) {
+            return;
+        }
+        
+        Set<Long> contestProblemIds = new HashSet<>();
+        Map<Long, Set<Long>> usersByContest = new HashMap<>();
+        for (ContestSubmission cs : affected) {
+            Submission submission = cs.getSubmission();
+            cs.setIsAccepted(submission.getStatus() == Submission.SubmissionStatus.ACCEPTED);
+            cs.setScore(calculateSubmissionScore(cs.getContestProblem(), submission));
+            contestProblemIds.add(cs.getContestProblem().getId());
+            usersByContest.computeIfAbsent(cs.getContest().getId(), id -> new HashSet<>()).add(cs.getUser().getId());
+        }
+        contestSubmissionRepository.saveAll(affected);
+        
+        contestProblemIds.forEach(this::updateContestProblemStats);
+        usersByContest.forEach((contestId, userIds) ->
+                userIds.forEach(userId -> updateParticipantScore(contestId, userId)));
+    }
+    
     private void updateAllParticipantScores(Long contestId) {
         List<ContestParticipant> participants = participantRepository.findByContestIdOrderByRegisteredAtAsc(contestId);
         
@@ -537,6 +562,7 @@ public class ContestService {
         for (Problem problem : contestProblems) {
             problem.setPublishTime(LocalDateTime.now());
             problemRepository.save(problem);
+            eventPublisher.publishEvent(new ProblemChangedEvent(problem.getId()));
         }
     }
     
@@ -611,6 +637,9 @@ public class ContestService {
                         .filter(s -> !s.getIsAccepted() && s.getSubmittedAt().isBefore(accepted.get().getSubmittedAt()))
                         .count();
                 totalPenalty += wrongAttempts * 300; // 5 minutes = 300 seconds
+            } else {
+                // Qisman ball (subtask'lar) - penalty qo'shilmaydi
+                totalScore += calculateProblemScore(cp, submissions);
             }
         }
         
@@ -621,6 +650,52 @@ public class ContestService {
         participantRepository.save(participant);
     }
     
+    /**
+     * Bitta submission bali: guruhli masalada olingan subtask ballari
+     * contest balliga proporsional o'tkaziladi, aks holda hammasi yoki hech narsa
+     */
+    private int calculateSubmissionScore(ContestProblem contestProblem, Submission submission) {
+        if (submission.getStatus() == Submission.SubmissionStatus.ACCEPTED) {
+            return contestProblem.getPoints();
+        }
+        if (submission.getMaxScore() == null || submission.getMaxScore() <= 0 || submission.getScore() == null) {
+            return 0;
+        }
+        return scaleToContestPoints(contestProblem, submission.getScore(), submission.getMaxScore());
+    }
+    
+    /**
+     * IOI uslubida masala bali: har bir guruh bo'yicha barcha urinishlardagi
+     * eng yaxshi natijalar yig'indisi
+     */
+    private int calculateProblemScore(ContestProblem contestProblem, List<ContestSubmission> submissions) {
+        Map<String, Integer> bestByGroup = new HashMap<>();
+        int bestSingle = 0;
+        int maxScore = 0;
+        
+        for (ContestSubmission cs : submissions) {
+            bestSingle = Math.max(bestSingle, cs.getScore() != null ? cs.getScore() : 0);
+            Submission submission = cs.getSubmission();
+            if (submission == null || submission.getMaxScore() == null || submission.getMaxScore() <= 0) {
+                continue;
+            }
+            maxScore = submission.getMaxScore();
+            for (TestGroupResult gr : submission.getGroupResults()) {
+                bestByGroup.merge(gr.getGroupName(), gr.getEarnedPoints(), Math::max);
+            }
+        }
+        
+        if (maxScore == 0) {
+            return bestSingle;
+        }
+        int earned = Math.min(bestByGroup.values().stream().mapToInt(Integer::intValue).sum(), maxScore);
+        return Math.max(bestSingle, scaleToContestPoints(contestProblem, earned, maxScore));
+    }
+    
+    private int scaleToContestPoints(ContestProblem contestProblem, int earned, int maxScore) {
+        return (int) Math.round((double) contestProblem.getPoints() * earned / maxScore);
+    }
+    
     private void updateContestStatus(Contest contest) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime endTime = contest.getStartTime().plusSeconds(contest.getDurationSeconds());
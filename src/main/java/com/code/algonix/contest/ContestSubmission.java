@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class ContestSubmission {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "contest_submissions_seq")
+    @SequenceGenerator(name = "contest_submissions_seq", sequenceName = "contest_submissions_seq", allocationSize = 50)
     private Long id;
     
     @ManyToOne(fetch = FetchType.LAZY)
@@ -4,6 +4,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +19,8 @@ public interface ContestSubmissionRepository extends JpaRepository<ContestSubmis
            "ORDER BY cs.submittedAt DESC")
     List<ContestSubmission> findUserProblemSubmissions(Long contestId, Long userId, Long contestProblemId);
     
+    List<ContestSubmission> findBySubmissionIdIn(Collection<Long> submissionIds);
+    
     boolean existsByContestIdAndUserIdAndContestProblemIdAndIsAcceptedTrue(
             Long contestId, Long userId, Long contestProblemId);
 }
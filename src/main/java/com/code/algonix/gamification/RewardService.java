@@ -9,6 +9,7 @@ import com.code.algonix.problems.Submission;
 import com.code.algonix.problems.SubmissionRepository;
 import com.code.algonix.user.UserEntity;
 import com.code.algonix.user.UserStatistics;
+import com.code.algonix.user.UserSolvedStatsService;
 import com.code.algonix.user.UserStatisticsRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -22,6 +23,7 @@ public class RewardService {
     private final UserStatisticsRepository userStatisticsRepository;
     private final SubmissionRepository submissionRepository;
     private final MessageService messageService;
+    private final UserSolvedStatsService userSolvedStatsService;
 
     // Reward constants
     private static final int BEGINNER_COINS = 1;
@@ -71,6 +73,9 @@ public class RewardService {
                     .build();
         }
 
+        // Yechilgan masalalar hisoblagichi (statistika endpoint'lari shundan o'qiydi)
+        userSolvedStatsService.recordFirstSolve(stats, problem);
+
         // Calculate rewards based on difficulty
         int coinsEarned = calculateCoins(problem.getDifficulty());
         int xpEarned = calculateXP(problem.getDifficulty());
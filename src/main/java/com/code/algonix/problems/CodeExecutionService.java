@@ -12,6 +12,14 @@ public interface CodeExecutionService {
      */
     ExecutionResult executeCode(String code, String language, List<TestCase> testCases);
 
+    /**
+     * Kodni bajarish va har bir bosqich haqida listener'ga xabar berish
+     */
+    default ExecutionResult executeCode(String code, String language, List<TestCase> testCases,
+                                        JudgeProgressListener listener) {
+        return executeCode(code, language, testCases);
+    }
+
     /**
      * Bajarish natijasi
      */
@@ -37,6 +45,33 @@ public interface CodeExecutionService {
         private int passedTestCases;
         private int averageRuntime;
         private double averageMemory;
+        private List<GroupResult> groupResults; // faqat guruhli masalalar uchun
+        private Integer score;
+        private Integer maxScore;
+    }
+
+    /**
+     * Test guruhi holati
+     */
+    enum GroupStatus {
+        PASSED,
+        FAILED,
+        SKIPPED
+    }
+
+    /**
+     * Test guruhi (subtask) natijasi DTO
+     */
+    @lombok.Data
+    @lombok.Builder
+    class GroupResult {
+        private Long groupId;
+        private String name;
+        private GroupStatus status;
+        private int points;
+        private int earnedPoints;
+        private int testsRun;
+        private int totalTests;
     }
 
     /**
@@ -11,7 +11,8 @@ import lombok.*;
 @Builder
 public class CodeTemplate {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "code_templates_seq")
+    @SequenceGenerator(name = "code_templates_seq", sequenceName = "code_templates_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -1,12 +1,18 @@
 package com.code.algonix.problems;
 
+import com.code.algonix.problems.dto.CodeTemplateResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 
@@ -18,11 +24,27 @@ public class CodeTemplateController {
 
     private final CodeTemplateService codeTemplateService;
 
+    @Value("${templates.cache-max-age-seconds:60}")
+    private long cacheMaxAgeSeconds;
+
     @GetMapping("/problem/{problemId}")
-    @Operation(summary = "Masala uchun template'lar", description = "Masala uchun barcha template'larni olish")
-    public ResponseEntity<List<CodeTemplate>> getTemplatesForProblem(@PathVariable Long problemId) {
-        List<CodeTemplate> templates = codeTemplateService.getTemplatesForProblem(problemId);
-        return ResponseEntity.ok(templates);
+    @Operation(summary = "Masala uchun template'lar",
+            description = "Masala uchun barcha template'larni olish (keshdan, ETag bilan - If-None-Match bo'lsa 304)")
+    public ResponseEntity<List<CodeTemplateResponse>> getTemplatesForProblem(@PathVariable Long problemId,
+                                                                             WebRequest webRequest) {
+        CodeTemplateService.ProblemTemplates templates = codeTemplateService.getProblemTemplates(problemId);
+        // Qisqa muddat brauzer keshidan, keyin ETag bilan tekshiriladi
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAgeSeconds)).cachePublic();
+        if (webRequest.checkNotModified(templates.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(templates.etag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(templates.etag())
+                .cacheControl(cacheControl)
+                .body(templates.templates());
     }
 
     @PostMapping("/admin/load")
@@ -46,11 +68,11 @@ public class CodeTemplateController {
     @PostMapping("/admin/problem/{problemId}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Template yaratish", description = "Masala uchun yangi template yaratish")
-    public ResponseEntity<CodeTemplate> createTemplate(
+    public ResponseEntity<CodeTemplateResponse> createTemplate(
             @PathVariable Long problemId,
             @RequestParam String language,
             @RequestBody String code) {
-        CodeTemplate template = codeTemplateService.saveTemplate(problemId, language, code);
+        CodeTemplateResponse template = codeTemplateService.saveTemplate(problemId, language, code);
         return ResponseEntity.ok(template);
     }
 }
\ No newline at end of file
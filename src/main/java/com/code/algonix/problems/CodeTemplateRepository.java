@@ -1,8 +1,12 @@
 package com.code.algonix.problems;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,4 +27,23 @@ public interface CodeTemplateRepository extends JpaRepository<CodeTemplate, Long
      * Til bo'yicha barcha template'lar
      */
     List<CodeTemplate> findByLanguage(String language);
-}
\ No newline at end of file
+
+    /**
+     * Keshga yuklash uchun barcha template'lar: [id, problemId, language, code] (Problem yuklanmaydi)
+     */
+    @Query("SELECT t.id, t.problem.id, t.language, t.code FROM CodeTemplate t ORDER BY t.problem.id, t.language")
+    List<Object[]> findAllRows();
+
+    /**
+     * Bitta masalaning template'lari: [id, problemId, language, code]
+     */
+    @Query("SELECT t.id, t.problem.id, t.language, t.code FROM CodeTemplate t WHERE t.problem.id = :problemId ORDER BY t.language")
+    List<Object[]> findRowsByProblemId(@Param("problemId") Long problemId);
+
+    /**
+     * Masalalarning template'larini bitta DELETE bilan o'chirish
+     */
+    @Modifying
+    @Query("DELETE FROM CodeTemplate t WHERE t.problem.id IN :problemIds")
+    int deleteByProblemIdIn(@Param("problemIds") Collection<Long> problemIds);
+}
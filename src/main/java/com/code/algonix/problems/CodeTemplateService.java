@@ -1,18 +1,41 @@
 package com.code.algonix.problems;
 
+import com.code.algonix.exception.ResourceNotFoundException;
+import com.code.algonix.problems.dto.CodeTemplateResponse;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.annotation.Order;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import jakarta.annotation.PostConstruct;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+/**
+ * Kod template'lari. O'qish DB'ga bormaydi: barcha template'lar o'zgarmas map'da (problemId -> til -> template)
+ * saqlanadi va bitta so'rov bilan yuklanadi. O'zgarishda yangi map quriladi va butunlay almashtiriladi,
+ * o'quvchilar hech qachon yarim yangilangan holatni ko'rmaydi.
+ */
 @Service
 @Slf4j
 @RequiredArgsConstructor
@@ -21,97 +44,221 @@ public class CodeTemplateService {
     private final CodeTemplateRepository codeTemplateRepository;
     private final ProblemRepository problemRepository;
     private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
 
-    @PostConstruct
-    public void init() {
-        loadTemplates();
+    private volatile Map<Long, ProblemTemplates> templates;
+
+    /**
+     * Bitta masalaning template'lari (til bo'yicha tartiblangan) va ularning ETag'i
+     */
+    public record ProblemTemplates(List<CodeTemplateResponse> templates, String etag) {
+
+        static final ProblemTemplates EMPTY = of(List.of());
+
+        static ProblemTemplates of(List<CodeTemplateResponse> templates) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (CodeTemplateResponse template : templates) {
+                    digest.update((template.getId() + "\0" + template.getLanguage() + "\0" + template.getCode() + "\0")
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                return new ProblemTemplates(List.copyOf(templates),
+                        "\"" + HexFormat.of().formatHex(digest.digest(), 0, 16) + "\"");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public Optional<CodeTemplateResponse> find(String language) {
+            return templates.stream().filter(t -> t.getLanguage().equals(language)).findFirst();
+        }
     }
 
+    /**
+     * code-templates.json'dan yuklash - masalalar yuklangandan keyin (StartupDataLoader).
+     * Bitta tranzaksiya: eski template'lar bitta DELETE bilan o'chiriladi, yangilari saveAll bilan saqlanadi
+     */
+    @Transactional
     public void loadTemplates() {
         try {
             ClassPathResource resource = new ClassPathResource("code-templates.json");
-            
+
             TypeReference<List<Map<String, Object>>> typeRef = new TypeReference<>() {};
             List<Map<String, Object>> templateData = objectMapper.readValue(resource.getInputStream(), typeRef);
-            
+
+            Map<Long, Map<String, String>> byProblem = new LinkedHashMap<>();
             for (Map<String, Object> data : templateData) {
-                Long problemId = Long.valueOf(data.get("problemId").toString());
                 @SuppressWarnings("unchecked")
-                Map<String, String> templates = (Map<String, String>) data.get("templates");
-                
-                Optional<Problem> problemOpt = problemRepository.findById(problemId);
-                if (problemOpt.isPresent()) {
-                    Problem problem = problemOpt.get();
-                    
-                    // Eski template'larni o'chirish
-                    List<CodeTemplate> existingTemplates = codeTemplateRepository.findByProblem(problem);
-                    codeTemplateRepository.deleteAll(existingTemplates);
-                    log.info("Deleted {} existing templates for problem {}", existingTemplates.size(), problemId);
-                    
-                    // Yangi template'larni qo'shish
-                    for (Map.Entry<String, String> entry : templates.entrySet()) {
-                        String language = entry.getKey();
-                        String code = entry.getValue();
-                        
-                        CodeTemplate template = CodeTemplate.builder()
-                            .problem(problem)
-                            .language(language)
-                            .code(code)
-                            .build();
-                        
-                        codeTemplateRepository.save(template);
-                        log.debug("Saved new template for problem {} in {}", problemId, language);
-                    }
-                } else {
-                    log.warn("Problem with ID {} not found, skipping templates", problemId);
-                }
+                Map<String, String> problemTemplates = (Map<String, String>) data.get("templates");
+                byProblem.put(Long.valueOf(data.get("problemId").toString()), problemTemplates);
             }
-            
-            log.info("Code templates loaded successfully");
-            
+
+            Set<Long> existingIds = problemRepository.findAllById(byProblem.keySet()).stream()
+                    .map(Problem::getId)
+                    .collect(Collectors.toSet());
+            byProblem.keySet().stream()
+                    .filter(id -> !existingIds.contains(id))
+                    .forEach(id -> log.warn("Problem with ID {} not found, skipping templates", id));
+            if (existingIds.isEmpty()) {
+                return;
+            }
+
+            int deleted = codeTemplateRepository.deleteByProblemIdIn(existingIds);
+            List<CodeTemplate> toSave = new ArrayList<>();
+            for (Long problemId : existingIds) {
+                Problem problem = problemRepository.getReferenceById(problemId);
+                byProblem.get(problemId).forEach((language, code) -> toSave.add(CodeTemplate.builder()
+                        .problem(problem)
+                        .language(language)
+                        .code(code)
+                        .build()));
+            }
+            codeTemplateRepository.saveAll(toSave);
+            // Bitta event: commit'dan keyin kesh bir marta qayta quriladi, masala sahifalari birga o'chiriladi
+            eventPublisher.publishEvent(new CodeTemplatesChangedEvent(existingIds));
+
+            log.info("Code templates loaded: {} saved, {} replaced, {} problems", toSave.size(), deleted, existingIds.size());
+
         } catch (IOException e) {
             log.error("Failed to load code templates", e);
         }
     }
 
+    /**
+     * Barcha template'larni bitta so'rov bilan keshga yuklash (startup va ommaviy importdan keyin)
+     */
+    public synchronized void reload() {
+        List<Object[]> rows = readOnly(codeTemplateRepository::findAllRows);
+        Map<Long, List<CodeTemplateResponse>> grouped = new HashMap<>();
+        for (Object[] row : rows) {
+            CodeTemplateResponse template = toResponse(row);
+            grouped.computeIfAbsent(template.getProblemId(), id -> new ArrayList<>()).add(template);
+        }
+        Map<Long, ProblemTemplates> loaded = new HashMap<>(grouped.size() * 2);
+        grouped.forEach((problemId, list) -> loaded.put(problemId, ProblemTemplates.of(list)));
+        templates = Map.copyOf(loaded);
+        log.info("Code template cache loaded: {} templates for {} problems", rows.size(), loaded.size());
+    }
+
+    public boolean isLoaded() {
+        return templates != null;
+    }
+
+    /**
+     * Masala o'zgardi yoki o'chirildi - commit'dan keyin faqat shu masala qayta o'qiladi.
+     * ProblemDetailCache'dan oldin ishlaydi: qayta render qilingan sahifa yangi template'larni ko'radi
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        refresh(event.problemId());
+    }
+
+    /**
+     * Template'lar o'zgardi - bitta masala bo'lsa faqat u, ko'p bo'lsa map bir marta to'liq qayta quriladi
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(0)
+    public void onTemplatesChanged(CodeTemplatesChangedEvent event) {
+        if (!isLoaded()) {
+            // Hali yuklanmagan - reload() hammasini o'qiydi
+            return;
+        }
+        if (event.problemIds().size() == 1) {
+            refresh(event.problemIds().iterator().next());
+        } else {
+            reload();
+        }
+    }
+
+    private synchronized void refresh(Long problemId) {
+        Map<Long, ProblemTemplates> current = templates;
+        if (current == null) {
+            return;
+        }
+        List<CodeTemplateResponse> list = readOnly(() -> codeTemplateRepository.findRowsByProblemId(problemId))
+                .stream()
+                .map(CodeTemplateService::toResponse)
+                .toList();
+        Map<Long, ProblemTemplates> updated = new HashMap<>(current);
+        if (list.isEmpty()) {
+            updated.remove(problemId);
+        } else {
+            updated.put(problemId, ProblemTemplates.of(list));
+        }
+        templates = Map.copyOf(updated);
+    }
+
+    /**
+     * Masala uchun barcha template'lar va ETag (masala yo'q bo'lsa - bo'sh)
+     */
+    public ProblemTemplates getProblemTemplates(Long problemId) {
+        Map<Long, ProblemTemplates> current = templates;
+        if (current == null) {
+            reload();
+            current = templates;
+        }
+        return current.getOrDefault(problemId, ProblemTemplates.EMPTY);
+    }
+
     /**
      * Masala va til uchun template olish
      */
-    public Optional<CodeTemplate> getTemplate(Long problemId, String language) {
-        return problemRepository.findById(problemId)
-            .flatMap(problem -> codeTemplateRepository.findByProblemAndLanguage(problem, language));
+    public Optional<CodeTemplateResponse> getTemplate(Long problemId, String language) {
+        return getProblemTemplates(problemId).find(language);
     }
 
     /**
      * Masala uchun barcha template'lar
      */
-    public List<CodeTemplate> getTemplatesForProblem(Long problemId) {
-        return problemRepository.findById(problemId)
-            .map(codeTemplateRepository::findByProblem)
-            .orElse(List.of());
+    public List<CodeTemplateResponse> getTemplatesForProblem(Long problemId) {
+        return getProblemTemplates(problemId).templates();
     }
 
     /**
      * Template yaratish yoki yangilash
      */
-    public CodeTemplate saveTemplate(Long problemId, String language, String code) {
-        Problem problem = problemRepository.findById(problemId)
-            .orElseThrow(() -> new RuntimeException("Problem not found: " + problemId));
-        
-        Optional<CodeTemplate> existingTemplate = codeTemplateRepository
-            .findByProblemAndLanguage(problem, language);
-        
-        if (existingTemplate.isPresent()) {
-            CodeTemplate template = existingTemplate.get();
-            template.setCode(code);
-            return codeTemplateRepository.save(template);
-        } else {
-            CodeTemplate template = CodeTemplate.builder()
-                .problem(problem)
-                .language(language)
-                .code(code)
-                .build();
-            return codeTemplateRepository.save(template);
+    @Transactional
+    public CodeTemplateResponse saveTemplate(Long problemId, String language, String code) {
+        if (!problemRepository.existsById(problemId)) {
+            throw new ResourceNotFoundException("Problem not found: " + problemId);
         }
+        Problem problem = problemRepository.getReferenceById(problemId);
+
+        CodeTemplate template = codeTemplateRepository.findByProblemAndLanguage(problem, language)
+                .orElseGet(() -> CodeTemplate.builder()
+                        .problem(problem)
+                        .language(language)
+                        .build());
+        template.setCode(code);
+        CodeTemplate saved = codeTemplateRepository.save(template);
+        eventPublisher.publishEvent(new CodeTemplatesChangedEvent(Set.of(problemId)));
+
+        return CodeTemplateResponse.builder()
+                .id(saved.getId())
+                .problemId(problemId)
+                .language(saved.getLanguage())
+                .code(saved.getCode())
+                .build();
+    }
+
+    private static CodeTemplateResponse toResponse(Object[] row) {
+        return CodeTemplateResponse.builder()
+                .id((Long) row[0])
+                .problemId((Long) row[1])
+                .language((String) row[2])
+                .code((String) row[3])
+                .build();
+    }
+
+    /**
+     * Alohida read-only tranzaksiya: commit'dan keyin ham yangi holat o'qiladi
+     */
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
     }
-}
\ No newline at end of file
+}
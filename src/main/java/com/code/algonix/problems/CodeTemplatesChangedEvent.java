@@ -0,0 +1,14 @@
+package com.code.algonix.problems;
+
+import java.util.Set;
+
+/**
+ * Masalalarning kod template'lari o'zgardi (katalog yozuvlariga ta'sir qilmaydi).
+ * Tranzaksiya ichida yuborilsa, tinglovchilar commit'dan keyin ishlaydi.
+ */
+public record CodeTemplatesChangedEvent(Set<Long> problemIds) {
+
+    public CodeTemplatesChangedEvent {
+        problemIds = Set.copyOf(problemIds);
+    }
+}
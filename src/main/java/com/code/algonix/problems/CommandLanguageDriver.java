@@ -0,0 +1,109 @@
+package com.code.algonix.problems;
+
+import java.util.List;
+import java.util.Set;
+
+import lombok.Builder;
+import lombok.Singular;
+
+/**
+ * Komanda shablonlari orqali aniqlanadigan drayver.
+ * Shablonlarda {source}, {exe}, {dir} va {main} o'rniga Layout qiymatlari qo'yiladi.
+ */
+@Builder
+public class CommandLanguageDriver implements LanguageDriver {
+
+    private final String language;
+    @Singular
+    private final Set<String> aliases;
+    private final int priority;
+    private final String displayName;
+    private final List<String> versionCommand;
+    private final String extension;
+    @Builder.Default
+    private final String defaultMainName = "solution";
+    @Builder.Default
+    private final String sourcePrefix = "";
+    private final List<String> compileTemplate;
+    private final List<String> runTemplate;
+    @Builder.Default
+    private final double timeMultiplier = 1.0;
+    @Builder.Default
+    private final double memoryMultiplier = 1.0;
+    private final String warmUpProgram;
+
+    @Override
+    public String language() {
+        return language;
+    }
+
+    @Override
+    public Set<String> aliases() {
+        return aliases;
+    }
+
+    @Override
+    public int priority() {
+        return priority;
+    }
+
+    @Override
+    public String displayName() {
+        return displayName;
+    }
+
+    @Override
+    public List<String> versionCommand() {
+        return versionCommand;
+    }
+
+    @Override
+    public String extension() {
+        return extension;
+    }
+
+    @Override
+    public String defaultMainName() {
+        return defaultMainName;
+    }
+
+    @Override
+    public String prepareSource(String code) {
+        return sourcePrefix + code;
+    }
+
+    @Override
+    public List<String> compileCommand(Layout layout) {
+        return compileTemplate == null ? null : expand(compileTemplate, layout);
+    }
+
+    @Override
+    public List<String> runCommand(Layout layout) {
+        return expand(runTemplate, layout);
+    }
+
+    @Override
+    public double timeMultiplier() {
+        return timeMultiplier;
+    }
+
+    @Override
+    public double memoryMultiplier() {
+        return memoryMultiplier;
+    }
+
+    @Override
+    public String warmUpProgram() {
+        return warmUpProgram;
+    }
+
+    private static List<String> expand(List<String> template, Layout layout) {
+        return template.stream()
+                .map(part -> part
+                        .replace("{source}", layout.source().toString())
+                        .replace("{exe}", layout.executable().toString())
+                        .replace("{dir}", layout.workDir().toString())
+                        .replace("{main}", layout.mainName()))
+                .toList();
+    }
+}
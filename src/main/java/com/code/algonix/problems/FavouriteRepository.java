@@ -1,5 +1,6 @@
 package com.code.algonix.problems;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +19,10 @@ public interface FavouriteRepository extends JpaRepository<Favourite, Long> {
     // Check if user has favourited a problem
     boolean existsByUserAndProblem(UserEntity user, Problem problem);
     
+    // Masalalar ro'yxati overlay'i: berilgan masalalardan qaysilari sevimli
+    @Query("SELECT f.problem.id FROM Favourite f WHERE f.user.id = :userId AND f.problem.id IN :problemIds")
+    List<Long> findFavouriteProblemIds(@Param("userId") Long userId, @Param("problemIds") Collection<Long> problemIds);
+    
     // Find favourite by user and problem
     Optional<Favourite> findByUserAndProblem(UserEntity user, Problem problem);
     
@@ -27,40 +32,15 @@ public interface FavouriteRepository extends JpaRepository<Favourite, Long> {
     // Get all favourites for a user with pagination
     Page<Favourite> findByUserOrderByCreatedAtDesc(UserEntity user, Pageable pageable);
     
-    // Search favourites by problem title
-    @Query("SELECT f FROM Favourite f JOIN f.problem p WHERE f.user = :user AND LOWER(p.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) ORDER BY f.createdAt DESC")
-    Page<Favourite> findByUserAndProblemTitleContainingIgnoreCase(
-        @Param("user") UserEntity user, 
-        @Param("searchTerm") String searchTerm, 
-        Pageable pageable
-    );
-    
-    // Search favourites by problem title and difficulty
-    @Query("SELECT f FROM Favourite f JOIN f.problem p WHERE f.user = :user AND LOWER(p.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) AND p.difficulty = :difficulty ORDER BY f.createdAt DESC")
-    Page<Favourite> findByUserAndProblemTitleContainingIgnoreCaseAndDifficulty(
-        @Param("user") UserEntity user,
-        @Param("searchTerm") String searchTerm,
-        @Param("difficulty") Problem.Difficulty difficulty,
-        Pageable pageable
-    );
-    
-    // Search favourites by problem title and categories
-    @Query("SELECT DISTINCT f FROM Favourite f JOIN f.problem p WHERE f.user = :user AND LOWER(p.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) AND EXISTS (SELECT 1 FROM p.categories c WHERE c IN :categories) ORDER BY f.createdAt DESC")
-    Page<Favourite> findByUserAndProblemTitleContainingIgnoreCaseAndCategories(
-        @Param("user") UserEntity user,
-        @Param("searchTerm") String searchTerm,
-        @Param("categories") List<String> categories,
-        Pageable pageable
-    );
+    // Qidiruv: foydalanuvchining barcha sevimli masala id'lari (kichik ro'yxat), katalog natijasi bilan xotirada kesishadi
+    @Query("SELECT f.problem.id FROM Favourite f WHERE f.user = :user ORDER BY f.createdAt DESC")
+    List<Long> findProblemIdsByUser(@Param("user") UserEntity user);
     
-    // Search favourites by problem title, difficulty and categories
-    @Query("SELECT DISTINCT f FROM Favourite f JOIN f.problem p WHERE f.user = :user AND LOWER(p.title) LIKE LOWER(CONCAT('%', :searchTerm, '%')) AND p.difficulty = :difficulty AND EXISTS (SELECT 1 FROM p.categories c WHERE c IN :categories) ORDER BY f.createdAt DESC")
-    Page<Favourite> findByUserAndProblemTitleContainingIgnoreCaseAndDifficultyAndCategories(
+    // Qidiruv sahifasi: faqat shu sahifadagi (size tagacha) masalalar
+    @Query("SELECT f FROM Favourite f WHERE f.user = :user AND f.problem.id IN :problemIds ORDER BY f.createdAt DESC")
+    List<Favourite> findByUserAndProblemIdIn(
         @Param("user") UserEntity user,
-        @Param("searchTerm") String searchTerm,
-        @Param("difficulty") Problem.Difficulty difficulty,
-        @Param("categories") List<String> categories,
-        Pageable pageable
+        @Param("problemIds") Collection<Long> problemIds
     );
     
     // Filter favourites by difficulty only
@@ -0,0 +1,131 @@
+package com.code.algonix.problems;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.code.algonix.exception.DuplicateResourceException;
+import com.code.algonix.exception.InvalidInputException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Idempotency-Key bo'yicha qisqa muddatli xotira.
+ * Bir xil kalit bilan takroriy so'rov (double click, client retry) yangi submission/judge
+ * yaratmaydi - birinchi so'rov natijasi qaytariladi, u hali bajarilayotgan bo'lsa tugashi kutiladi.
+ * Xato bilan tugagan so'rov saqlanmaydi - uni qayta yuborish mumkin.
+ */
+@Service
+@Slf4j
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final ConcurrentHashMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${idempotency.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    @Value("${idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    @Value("${idempotency.max-entries:100000}")
+    private int maxEntries;
+
+    /**
+     * Amalni kalit bo'yicha bir marta bajarish.
+     * fingerprint - so'rov tanasi: bir kalit boshqa so'rov bilan ishlatilsa 400 qaytadi
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Result<T> execute(String scope, String owner, String key, Object fingerprint, Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return new Result<>(action.get(), false);
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new InvalidInputException(HEADER + " is too long (max " + MAX_KEY_LENGTH + ")");
+        }
+
+        String storeKey = scope + ":" + owner + ":" + key;
+        Entry created = new Entry(fingerprint, new CompletableFuture<>(),
+                System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds));
+        if (entries.size() >= maxEntries) {
+            // Xotira to'lgan - idempotentliksiz bajaramiz
+            log.warn("Idempotency store is full ({} entries), key {} not stored", entries.size(), storeKey);
+            return new Result<>(action.get(), false);
+        }
+
+        Entry existing = entries.compute(storeKey, (k, current) ->
+                current == null || current.isExpired() ? created : current);
+        if (existing != created) {
+            if (!Objects.equals(existing.fingerprint(), fingerprint)) {
+                throw new InvalidInputException(HEADER + " was already used with a different request");
+            }
+            return new Result<>((T) await(existing.future()), true);
+        }
+
+        try {
+            T result = action.get();
+            created.future().complete(result);
+            return new Result<>(result, false);
+        } catch (RuntimeException e) {
+            entries.remove(storeKey, created);
+            created.future().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Muddati o'tgan kalitlarni tozalash
+     */
+    @Scheduled(fixedDelayString = "${idempotency.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        int before = entries.size();
+        entries.values().removeIf(Entry::isExpired);
+        int removed = before - entries.size();
+        if (removed > 0) {
+            log.debug("Evicted {} expired idempotency keys", removed);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> future) {
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new DuplicateResourceException("Request with this " + HEADER + " is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new DuplicateResourceException("Request with this " + HEADER + " is still being processed");
+        } catch (ExecutionException e) {
+            // Birinchi so'rov xatosi takroriy so'rovga ham qaytadi
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private record Entry(Object fingerprint, CompletableFuture<Object> future, long expiresAt) {
+
+        boolean isExpired() {
+            // Bajarilayotgan so'rov muddati o'tsa ham o'chirilmaydi
+            return future.isDone() && System.currentTimeMillis() > expiresAt;
+        }
+    }
+
+    /**
+     * Natija va u takroriy so'rovga qaytarilganmi
+     */
+    public record Result<T>(T value, boolean replayed) {
+    }
+}
@@ -1,33 +1,56 @@
 package com.code.algonix.problems;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.annotation.JsonAnySetter;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import lombok.AllArgsConstructor;
 import lombok.Data;
-import lombok.RequiredArgsConstructor;
+import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Judge0 orqali kod bajarish.
+ * Barcha testlar batch endpoint'lar bilan yuboriladi (POST/GET /submissions/batch),
+ * so'rovlar asinxron HttpClient orqali (keep-alive connection pool) ketadi va
+ * natijalar moslashuvchan interval bilan so'raladi: progress bo'lmasa interval oshadi.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class Judge0ExecutionService implements CodeExecutionService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final int STATUS_PROCESSING = 2;
+    private static final String RESULT_FIELDS = "token,stdout,stderr,compile_output,message,status,time,memory";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    // HttpClient ulanishlarni qayta ishlatadi (connection pool) va sendAsync bilan bloklamaydi
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
 
     @Value("${judge0.api.url:https://judge0-ce.p.rapidapi.com}")
     private String judge0ApiUrl;
@@ -35,6 +58,21 @@ public class Judge0ExecutionService implements CodeExecutionService {
     @Value("${judge0.api.key:}")
     private String rapidApiKey;
 
+    @Value("${judge0.batch-size:20}")
+    private int batchSize; // Judge0 default MAX_SUBMISSION_BATCH_SIZE
+
+    @Value("${judge0.request-timeout-ms:10000}")
+    private long requestTimeoutMs;
+
+    @Value("${judge0.poll.initial-delay-ms:100}")
+    private long pollInitialDelayMs;
+
+    @Value("${judge0.poll.max-delay-ms:1000}")
+    private long pollMaxDelayMs;
+
+    @Value("${judge0.poll.timeout-ms:30000}")
+    private long pollTimeoutMs;
+
     // Language ID mapping for Judge0
     private static final Map<String, Integer> LANGUAGE_IDS = Map.ofEntries(
         Map.entry("javascript", 63),  // Node.js
@@ -57,144 +95,210 @@ public class Judge0ExecutionService implements CodeExecutionService {
         Map.entry("bash", 46)         // Bash
     );
 
+    @Override
     public CodeExecutionService.ExecutionResult executeCode(String code, String language, List<TestCase> testCases) {
+        Integer languageId = LANGUAGE_IDS.get(language.toLowerCase());
+        if (languageId == null) {
+            return createErrorResult("Unsupported language: " + language);
+        }
+        if (testCases == null || testCases.isEmpty()) {
+            return createErrorResult("No test cases");
+        }
+
         try {
-            Integer languageId = LANGUAGE_IDS.get(language.toLowerCase());
-            if (languageId == null) {
-                return createErrorResult("Unsupported language: " + language);
-            }
+            List<String> tokens = submitBatches(code, languageId, testCases).join();
+            Map<String, Judge0Result> results = pollResults(tokens).join();
+            return buildResult(testCases, tokens, results);
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            log.error("Error during Judge0 execution", cause);
+            return createErrorResult("Execution error: " + cause.getMessage());
+        }
+    }
 
-            List<CodeExecutionService.TestCaseResult> testResults = new ArrayList<>();
-            int passedCount = 0;
+    /**
+     * Testlarni batch'larga bo'lib parallel yuborish; tokenlar testlar tartibida qaytadi
+     */
+    private CompletableFuture<List<String>> submitBatches(String code, int languageId, List<TestCase> testCases) {
+        List<CompletableFuture<List<String>>> batches = new ArrayList<>();
+        for (int from = 0; from < testCases.size(); from += batchSize) {
+            List<Judge0SubmissionRequest> submissions = testCases.subList(from, Math.min(from + batchSize, testCases.size()))
+                    .stream()
+                    .map(testCase -> toRequest(code, languageId, testCase))
+                    .toList();
+            batches.add(submitBatch(submissions));
+        }
 
-            for (TestCase testCase : testCases) {
-                try {
-                    // Submit code to Judge0
-                    String token = submitCode(code, languageId, testCase.getInput());
-                    if (token == null) {
-                        testResults.add(createTestCaseError(testCase, "Failed to submit code"));
-                        continue;
-                    }
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> batches.stream()
+                        .flatMap(batch -> batch.join().stream())
+                        .toList());
+    }
 
-                    // Get result
-                    Judge0Result result = getResult(token);
-                    if (result == null) {
-                        testResults.add(createTestCaseError(testCase, "Failed to get result"));
-                        continue;
+    private CompletableFuture<List<String>> submitBatch(List<Judge0SubmissionRequest> submissions) {
+        HttpRequest request = requestBuilder("/submissions/batch?base64_encoded=true")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(toJson(new Judge0BatchRequest(submissions))))
+                .build();
+
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .thenApply(response -> {
+                    if (response.statusCode() != 201 && response.statusCode() != 200) {
+                        throw new IllegalStateException("Judge0 batch submit failed: HTTP " + response.statusCode());
+                    }
+                    List<Judge0SubmissionResponse> created = fromJson(response.body(),
+                            new TypeReference<List<Judge0SubmissionResponse>>() {});
+                    if (created.size() != submissions.size()) {
+                        throw new IllegalStateException("Judge0 returned " + created.size()
+                                + " tokens for " + submissions.size() + " submissions");
+                    }
+                    // Token'siz element - Judge0 uni rad etgan; "null" bilan poll qilib deadline'gacha kutilmaydi
+                    for (int i = 0; i < created.size(); i++) {
+                        Judge0SubmissionResponse item = created.get(i);
+                        if (item == null || item.getToken() == null || item.getToken().isBlank()) {
+                            throw new IllegalStateException("Judge0 rejected submission " + (i + 1) + " of batch: "
+                                    + (item == null || item.getErrors().isEmpty() ? "no token" : item.getErrors()));
+                        }
                     }
+                    return created.stream().map(Judge0SubmissionResponse::getToken).toList();
+                });
+    }
 
-                    // Process result
-                    CodeExecutionService.TestCaseResult testResult = processJudge0Result(testCase, result);
-                    testResults.add(testResult);
+    /**
+     * Natijalarni so'rash: faqat tugamagan tokenlar qayta so'raladi,
+     * progress bo'lmasa kutish vaqti 1.5 marta oshadi (pollMaxDelayMs gacha)
+     */
+    private CompletableFuture<Map<String, Judge0Result>> pollResults(List<String> tokens) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pollTimeoutMs);
+        return poll(tokens, new HashMap<>(), pollInitialDelayMs, deadline);
+    }
 
-                    if (testResult.isPassed()) {
-                        passedCount++;
+    private CompletableFuture<Map<String, Judge0Result>> poll(List<String> pending, Map<String, Judge0Result> finished,
+                                                              long delayMs, long deadline) {
+        return CompletableFuture.runAsync(() -> { }, CompletableFuture.delayedExecutor(delayMs, TimeUnit.MILLISECONDS))
+                .thenCompose(ignored -> fetchResults(pending))
+                .thenCompose(results -> {
+                    List<String> stillPending = new ArrayList<>();
+                    for (String token : pending) {
+                        Judge0Result result = results.get(token);
+                        if (result != null && result.isFinished()) {
+                            finished.put(token, result);
+                        } else {
+                            stillPending.add(token);
+                        }
                     }
 
-                    // Stop on first failure for hidden test cases
-                    if (!testResult.isPassed() && testCase.getIsHidden()) {
-                        break;
+                    if (stillPending.isEmpty()) {
+                        return CompletableFuture.completedFuture(finished);
                     }
+                    if (System.nanoTime() > deadline) {
+                        log.error("Timeout waiting for {} Judge0 results", stillPending.size());
+                        return CompletableFuture.completedFuture(finished);
+                    }
+                    boolean progressed = stillPending.size() < pending.size();
+                    long nextDelay = progressed ? delayMs : Math.min(pollMaxDelayMs, Math.round(delayMs * 1.5));
+                    return poll(stillPending, finished, nextDelay, deadline);
+                });
+    }
 
-                } catch (Exception e) {
-                    log.error("Error executing test case: {}", e.getMessage());
-                    testResults.add(createTestCaseError(testCase, e.getMessage()));
-                    break;
-                }
-            }
-
-            // Determine overall status
-            CodeExecutionService.ExecutionStatus overallStatus = (passedCount == testCases.size()) 
-                ? CodeExecutionService.ExecutionStatus.ACCEPTED 
-                : CodeExecutionService.ExecutionStatus.WRONG_ANSWER;
-
-            return CodeExecutionService.ExecutionResult.builder()
-                    .status(overallStatus)
-                    .testResults(testResults)
-                    .totalTestCases(testCases.size())
-                    .passedTestCases(passedCount)
-                    .averageRuntime(testResults.stream().mapToInt(CodeExecutionService.TestCaseResult::getRuntime).sum() / testResults.size())
-                    .averageMemory(testResults.stream().mapToDouble(CodeExecutionService.TestCaseResult::getMemory).average().orElse(0.0))
+    private CompletableFuture<Map<String, Judge0Result>> fetchResults(List<String> tokens) {
+        List<CompletableFuture<List<Judge0Result>>> batches = new ArrayList<>();
+        for (int from = 0; from < tokens.size(); from += batchSize) {
+            String tokenList = String.join(",", tokens.subList(from, Math.min(from + batchSize, tokens.size())));
+            HttpRequest request = requestBuilder("/submissions/batch?tokens=" + tokenList
+                    + "&base64_encoded=true&fields=" + RESULT_FIELDS)
+                    .GET()
                     .build();
-
-        } catch (Exception e) {
-            log.error("Error during Judge0 execution", e);
-            return createErrorResult("Execution error: " + e.getMessage());
+            batches.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .thenApply(response -> {
+                        if (response.statusCode() != 200) {
+                            throw new IllegalStateException("Judge0 batch poll failed: HTTP " + response.statusCode());
+                        }
+                        return fromJson(response.body(), Judge0BatchResult.class).getSubmissions();
+                    }));
         }
+
+        return CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    Map<String, Judge0Result> byToken = new HashMap<>();
+                    for (CompletableFuture<List<Judge0Result>> batch : batches) {
+                        for (Judge0Result result : batch.join()) {
+                            if (result != null && result.getToken() != null) {
+                                byToken.put(result.getToken(), result);
+                            }
+                        }
+                    }
+                    return byToken;
+                });
     }
 
-    private String submitCode(String code, int languageId, String input) {
-        try {
-            String url = judge0ApiUrl + "/submissions?base64_encoded=false&wait=true";
-
-            Judge0SubmissionRequest request = new Judge0SubmissionRequest();
-            request.setSourceCode(code);
-            request.setLanguageId(languageId);
-            request.setStdin(input);
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            if (!rapidApiKey.isEmpty()) {
-                headers.set("X-RapidAPI-Key", rapidApiKey);
-                headers.set("X-RapidAPI-Host", "judge0-ce.p.rapidapi.com");
+    private CodeExecutionService.ExecutionResult buildResult(List<TestCase> testCases, List<String> tokens,
+                                                             Map<String, Judge0Result> results) {
+        List<CodeExecutionService.TestCaseResult> testResults = new ArrayList<>();
+        int passedCount = 0;
+        CodeExecutionService.TestCaseResult firstFailure = null;
+
+        for (int i = 0; i < testCases.size(); i++) {
+            TestCase testCase = testCases.get(i);
+            Judge0Result result = results.get(tokens.get(i));
+            CodeExecutionService.TestCaseResult testResult = result != null
+                    ? processJudge0Result(testCase, result)
+                    : createTestCaseError(testCase, "Timeout waiting for Judge0 result");
+            testResults.add(testResult);
+
+            if (testResult.isPassed()) {
+                passedCount++;
+                continue;
             }
-
-            HttpEntity<Judge0SubmissionRequest> entity = new HttpEntity<>(request, headers);
-            ResponseEntity<Judge0SubmissionResponse> response = restTemplate.postForEntity(url, entity, Judge0SubmissionResponse.class);
-
-            if (response.getStatusCode() == HttpStatus.CREATED && response.getBody() != null) {
-                return response.getBody().getToken();
+            if (firstFailure == null) {
+                firstFailure = testResult;
+            }
+            // Stop on first failure for hidden test cases
+            if (Boolean.TRUE.equals(testCase.getIsHidden())) {
+                break;
             }
+        }
 
-            log.error("Failed to submit code: {}", response.getStatusCode());
-            return null;
+        return CodeExecutionService.ExecutionResult.builder()
+                .status(firstFailure == null ? CodeExecutionService.ExecutionStatus.ACCEPTED : firstFailure.getStatus())
+                .errorMessage(firstFailure != null ? firstFailure.getErrorMessage() : null)
+                .testResults(testResults)
+                .totalTestCases(testCases.size())
+                .passedTestCases(passedCount)
+                .averageRuntime(testResults.stream().mapToInt(CodeExecutionService.TestCaseResult::getRuntime).sum() / testResults.size())
+                .averageMemory(testResults.stream().mapToDouble(CodeExecutionService.TestCaseResult::getMemory).average().orElse(0.0))
+                .build();
+    }
 
-        } catch (Exception e) {
-            log.error("Error submitting code to Judge0", e);
-            return null;
+    private Judge0SubmissionRequest toRequest(String code, int languageId, TestCase testCase) {
+        Judge0SubmissionRequest request = new Judge0SubmissionRequest();
+        request.setSourceCode(encode(code));
+        request.setLanguageId(languageId);
+        request.setStdin(encode(testCase.getInput()));
+        request.setExpectedOutput(encode(testCase.getExpectedOutput()));
+        Problem problem = testCase.getProblem();
+        if (problem != null && problem.getTimeLimitMs() != null) {
+            // Judge0 default max_cpu_time_limit = 15s
+            request.setCpuTimeLimit(Math.min(15.0, problem.getTimeLimitMs() / 1000.0));
         }
+        return request;
     }
 
-    private Judge0Result getResult(String token) {
-        try {
-            String url = judge0ApiUrl + "/submissions/" + token + "?base64_encoded=false";
-
-            HttpHeaders headers = new HttpHeaders();
-            if (!rapidApiKey.isEmpty()) {
-                headers.set("X-RapidAPI-Key", rapidApiKey);
-                headers.set("X-RapidAPI-Host", "judge0-ce.p.rapidapi.com");
-            }
-
-            HttpEntity<String> entity = new HttpEntity<>(headers);
-            
-            // Poll for result (Judge0 might need time to process)
-            for (int i = 0; i < 10; i++) {
-                ResponseEntity<Judge0Result> response = restTemplate.exchange(url, HttpMethod.GET, entity, Judge0Result.class);
-                
-                if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                    Judge0Result result = response.getBody();
-                    if (result.getStatus() != null && result.getStatus().getId() > 2) {
-                        return result; // Processing complete
-                    }
-                }
-
-                // Wait before next poll
-                Thread.sleep(500);
-            }
-
-            log.error("Timeout waiting for Judge0 result");
-            return null;
-
-        } catch (Exception e) {
-            log.error("Error getting result from Judge0", e);
-            return null;
+    private HttpRequest.Builder requestBuilder(String path) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(judge0ApiUrl + path))
+                .timeout(Duration.ofMillis(requestTimeoutMs))
+                .header("Accept", "application/json");
+        if (!rapidApiKey.isEmpty()) {
+            builder.header("X-RapidAPI-Key", rapidApiKey);
+            builder.header("X-RapidAPI-Host", URI.create(judge0ApiUrl).getHost());
         }
+        return builder;
     }
 
     private CodeExecutionService.TestCaseResult processJudge0Result(TestCase testCase, Judge0Result result) {
-        String actualOutput = result.getStdout() != null ? result.getStdout().trim() : "";
+        String actualOutput = decode(result.getStdout()).trim();
         String expectedOutput = testCase.getExpectedOutput().trim();
-        String errorMessage = result.getStderr();
+        String errorMessage = decode(result.getStderr());
 
         // Determine status based on Judge0 status
         CodeExecutionService.ExecutionStatus status;
@@ -213,9 +317,13 @@ public class Judge0ExecutionService implements CodeExecutionService {
                 break;
             case 6: // Compilation Error
                 status = CodeExecutionService.ExecutionStatus.COMPILE_ERROR;
+                errorMessage = decode(result.getCompileOutput());
                 break;
             default: // Runtime Error or others
                 status = CodeExecutionService.ExecutionStatus.RUNTIME_ERROR;
+                if (errorMessage.isEmpty()) {
+                    errorMessage = result.getStatus().getDescription();
+                }
                 break;
         }
 
@@ -226,7 +334,7 @@ public class Judge0ExecutionService implements CodeExecutionService {
                 .input(testCase.getInput())
                 .expectedOutput(expectedOutput)
                 .actualOutput(actualOutput)
-                .errorMessage(errorMessage)
+                .errorMessage(errorMessage.isEmpty() ? null : errorMessage)
                 .runtime(result.getTime() != null ? (int) (result.getTime() * 1000) : 0)
                 .memory(result.getMemory() != null ? result.getMemory() / 1024.0 : 0.0)
                 .build();
@@ -258,30 +366,98 @@ public class Judge0ExecutionService implements CodeExecutionService {
                 .build();
     }
 
+    private static String encode(String value) {
+        return value == null ? null : Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decode(String value) {
+        // Judge0 base64 natijalarni qator bo'lib qaytaradi - MIME decoder
+        return value == null ? "" : new String(Base64.getMimeDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to serialize Judge0 request", e);
+        }
+    }
+
+    private <T> T fromJson(String body, Class<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid Judge0 response: " + e.getMessage(), e);
+        }
+    }
+
+    private <T> T fromJson(String body, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(body, type);
+        } catch (Exception e) {
+            throw new IllegalStateException("Invalid Judge0 response: " + e.getMessage(), e);
+        }
+    }
+
     // Judge0 API DTOs
     @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public static class Judge0SubmissionRequest {
         @JsonProperty("source_code")
         private String sourceCode;
-        
+
         @JsonProperty("language_id")
         private int languageId;
-        
+
         private String stdin;
+
+        @JsonProperty("expected_output")
+        private String expectedOutput;
+
+        @JsonProperty("cpu_time_limit")
+        private Double cpuTimeLimit;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Judge0BatchRequest {
+        private List<Judge0SubmissionRequest> submissions;
     }
 
     @Data
     public static class Judge0SubmissionResponse {
         private String token;
+
+        // Rad etilgan submission: token o'rniga maydon -> xabarlar (masalan {"language_id": ["..."]})
+        private final Map<String, Object> errors = new LinkedHashMap<>();
+
+        @JsonAnySetter
+        void addError(String field, Object message) {
+            errors.put(field, message);
+        }
+    }
+
+    @Data
+    public static class Judge0BatchResult {
+        private List<Judge0Result> submissions;
     }
 
     @Data
     public static class Judge0Result {
+        private String token;
         private String stdout;
         private String stderr;
+        @JsonProperty("compile_output")
+        private String compileOutput;
+        private String message;
         private Double time;
         private Integer memory;
         private Judge0Status status;
+
+        boolean isFinished() {
+            return status != null && status.getId() > STATUS_PROCESSING;
+        }
     }
 
     @Data
@@ -289,4 +465,4 @@ public class Judge0ExecutionService implements CodeExecutionService {
         private int id;
         private String description;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,218 @@
+package com.code.algonix.problems;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Judge node tezligini kalibrlash.
+ * Har bir til uchun qat'iy benchmark dasturi ishga tushiriladi va o'lchangan vaqt
+ * bazaviy (etalon) vaqtga bo'linadi - shu speed factor bilan Problem.timeLimitMs
+ * masshtablanadi. Sekin node'da limit kattaroq, tez node'da kichikroq bo'ladi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class JudgeCalibrationService {
+
+    private static final double MIN_FACTOR = 0.25;
+    private static final double MAX_FACTOR = 4.0;
+
+    private static final String PYTHON_BENCHMARK = """
+            s = 0
+            for i in range(1500000):
+                s = (s * 31 + i) % 1000000007
+            print(s)
+            """;
+
+    private static final String JAVASCRIPT_BENCHMARK = """
+            let s = 0;
+            for (let i = 0; i < 12000000; i++) { s = (s * 31 + i) % 1000000007; }
+            console.log(s);
+            """;
+
+    private static final String JAVA_BENCHMARK = """
+            public class Main {
+                public static void main(String[] args) {
+                    long s = 0;
+                    for (int i = 0; i < 50000000; i++) { s = (s * 31 + i) % 1000000007L; }
+                    System.out.println(s);
+                }
+            }
+            """;
+
+    private static final String CPP_BENCHMARK = """
+            #include <cstdio>
+            int main() {
+                long long s = 0;
+                for (int i = 0; i < 60000000; i++) { s = (s * 31 + i) % 1000000007LL; }
+                printf("%lld\\n", s);
+                return 0;
+            }
+            """;
+
+    private final LanguageDriverRegistry languageDriverRegistry;
+
+    @Value("${judge.calibration.enabled:true}")
+    private boolean enabled;
+
+    @Value("${judge.calibration.runs:3}")
+    private int runs;
+
+    @Value("${judge.calibration.baseline-ms.python:300}")
+    private long pythonBaselineMs;
+
+    @Value("${judge.calibration.baseline-ms.javascript:300}")
+    private long javascriptBaselineMs;
+
+    @Value("${judge.calibration.baseline-ms.java:350}")
+    private long javaBaselineMs;
+
+    @Value("${judge.calibration.baseline-ms.cpp:300}")
+    private long cppBaselineMs;
+
+    private volatile Map<String, Double> speedFactors = Map.of();
+    private volatile double nodeSpeedFactor = 1.0;
+    private volatile LocalDateTime calibratedAt;
+
+    /**
+     * Startupda (kichik kechikish bilan) va keyin davriy ravishda kalibrlash
+     */
+    @Scheduled(initialDelayString = "${judge.calibration.initial-delay-ms:5000}",
+               fixedDelayString = "${judge.calibration.interval-ms:3600000}")
+    public void calibrate() {
+        if (!enabled) {
+            return;
+        }
+
+        Path workDir = null;
+        try {
+            workDir = Files.createTempDirectory("calibration-");
+            Map<String, Double> factors = new LinkedHashMap<>();
+
+            measure("python", pythonBaselineMs, prepare("python", PYTHON_BENCHMARK, workDir), workDir, factors);
+            measure("javascript", javascriptBaselineMs, prepare("javascript", JAVASCRIPT_BENCHMARK, workDir), workDir, factors);
+            measure("java", javaBaselineMs, prepare("java", JAVA_BENCHMARK, workDir), workDir, factors);
+            measure("cpp", cppBaselineMs, prepare("cpp", CPP_BENCHMARK, workDir), workDir, factors);
+
+            if (factors.isEmpty()) {
+                log.warn("Judge calibration skipped: no language runtime available");
+                return;
+            }
+
+            speedFactors = Collections.unmodifiableMap(factors);
+            nodeSpeedFactor = median(new ArrayList<>(factors.values()));
+            calibratedAt = LocalDateTime.now();
+            log.info("Judge calibrated: node factor {}, per language {}", nodeSpeedFactor, factors);
+        } catch (Exception e) {
+            log.warn("Judge calibration failed: {}", e.getMessage());
+        } finally {
+            cleanup(workDir);
+        }
+    }
+
+    /**
+     * Masala time limitini shu node tezligiga moslash
+     */
+    public long scaleTimeLimit(long baseMs, String language) {
+        double factor = speedFactors.getOrDefault(PercentileService.normalizeLanguage(language), nodeSpeedFactor);
+        return Math.max(1, Math.round(baseMs * factor));
+    }
+
+    /**
+     * Shu node'da o'lchangan vaqtni bazaviy node vaqtiga keltirish (scaleTimeLimit teskarisi)
+     */
+    public long normalizeRuntime(long measuredMs, String language) {
+        double factor = speedFactors.getOrDefault(PercentileService.normalizeLanguage(language), nodeSpeedFactor);
+        return Math.round(measuredMs / factor);
+    }
+
+    public Map<String, Double> getSpeedFactors() {
+        return speedFactors;
+    }
+
+    public double getNodeSpeedFactor() {
+        return nodeSpeedFactor;
+    }
+
+    public LocalDateTime getCalibratedAt() {
+        return calibratedAt;
+    }
+
+    private void measure(String language, long baselineMs, List<String> command, Path workDir,
+                         Map<String, Double> factors) throws InterruptedException {
+        if (command == null || baselineMs <= 0) {
+            return;
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < Math.max(1, runs); i++) {
+            ProcessRunner.Result result;
+            try {
+                result = ProcessRunner.run(command, workDir, "", baselineMs * 20, 1024);
+            } catch (IOException e) {
+                // Til runtime'i o'rnatilmagan
+                return;
+            }
+            if (!result.isSuccess()) {
+                log.debug("Calibration benchmark for {} failed: {}", language, result.getStderr());
+                return;
+            }
+            best = Math.min(best, result.getRuntimeMs());
+        }
+
+        double factor = Math.min(MAX_FACTOR, Math.max(MIN_FACTOR, (double) best / baselineMs));
+        factors.put(language, Math.round(factor * 100) / 100.0);
+        log.debug("Calibration {}: {}ms (baseline {}ms)", language, best, baselineMs);
+    }
+
+    /**
+     * Benchmark'ni til drayveri orqali tayyorlash; toolchain yo'q bo'lsa null
+     */
+    private List<String> prepare(String language, String benchmark, Path workDir)
+            throws IOException, InterruptedException {
+        LanguageDriver driver = languageDriverRegistry.find(language).orElse(null);
+        if (driver == null) {
+            return null;
+        }
+        LanguageDriver.Program program = languageDriverRegistry.prepare(driver, benchmark, workDir, null);
+        if (program.compileError() != null) {
+            log.debug("Calibration benchmark for {} failed to compile: {}", language, program.compileError());
+            return null;
+        }
+        return program.command();
+    }
+
+    private static double median(List<Double> values) {
+        Collections.sort(values);
+        int middle = values.size() / 2;
+        double median = values.size() % 2 == 1
+                ? values.get(middle)
+                : (values.get(middle - 1) + values.get(middle)) / 2;
+        return Math.round(median * 100) / 100.0;
+    }
+
+    private void cleanup(Path workDir) {
+        if (workDir == null) {
+            return;
+        }
+        try (var paths = Files.walk(workDir)) {
+            paths.sorted((a, b) -> b.compareTo(a)).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.debug("Failed to cleanup calibration directory: {}", workDir);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.code.algonix.problems;
+
+/**
+ * Judge jarayonidagi bosqichlarni kuzatish uchun callback
+ * (SSE orqali real-time natija yuborishda ishlatiladi)
+ */
+public interface JudgeProgressListener {
+
+    /**
+     * Hech narsa qilmaydigan listener
+     */
+    JudgeProgressListener NONE = new JudgeProgressListener() {
+    };
+
+    /**
+     * Kod kompilyatsiya / tayyorlash bosqichi boshlandi
+     */
+    default void onCompiling(String language) {
+    }
+
+    /**
+     * Bitta test case yakunlandi
+     */
+    default void onTestCompleted(int testNumber, int totalTests, CodeExecutionService.TestCaseResult result) {
+    }
+}
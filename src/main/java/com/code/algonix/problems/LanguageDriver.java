@@ -0,0 +1,103 @@
+package com.code.algonix.problems;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Bitta til uchun toolchain drayveri: fayl joylashuvi, kompilyatsiya va ishga tushirish
+ * komandalari, resurs koeffitsientlari va warm-up dasturi.
+ * Drayverlar LanguageDriverRegistry orqali tanlanadi - barcha engine'lar shu yerdan foydalanadi.
+ */
+public interface LanguageDriver {
+
+    /**
+     * Kanonik til nomi (masalan "cpp")
+     */
+    String language();
+
+    /**
+     * Qo'shimcha nomlar (masalan "c++")
+     */
+    default Set<String> aliases() {
+        return Set.of();
+    }
+
+    /**
+     * Bir til uchun bir nechta drayver bo'lsa, mavjudlari ichidan eng yuqori prioritetlisi tanlanadi
+     */
+    default int priority() {
+        return 0;
+    }
+
+    String displayName();
+
+    /**
+     * Toolchain versiyasini aniqlash komandasi (startupda bir marta ishga tushiriladi)
+     */
+    List<String> versionCommand();
+
+    String extension();
+
+    default String defaultMainName() {
+        return "solution";
+    }
+
+    /**
+     * Faylga yozishdan oldin kodga o'zgartirish (masalan PHP uchun "<?php")
+     */
+    default String prepareSource(String code) {
+        return code;
+    }
+
+    /**
+     * Kompilyatsiya komandasi; interpretatsiya qilinadigan tillar uchun null
+     */
+    default List<String> compileCommand(Layout layout) {
+        return null;
+    }
+
+    List<String> runCommand(Layout layout);
+
+    /**
+     * Time limit koeffitsienti (masalan JVM ishga tushishi uchun)
+     */
+    default double timeMultiplier() {
+        return 1.0;
+    }
+
+    default double memoryMultiplier() {
+        return 1.0;
+    }
+
+    /**
+     * Startupda bir marta kompilyatsiya qilib ishga tushiriladigan dastur (disk cache va JIT uchun); null - warm-up yo'q
+     */
+    default String warmUpProgram() {
+        return null;
+    }
+
+    default Layout layout(Path workDir, String mainName) {
+        return new Layout(workDir, workDir.resolve(mainName + extension()), workDir.resolve(mainName + ".exe"), mainName);
+    }
+
+    /**
+     * Ish papkasidagi fayllar joylashuvi
+     */
+    record Layout(Path workDir, Path source, Path executable, String mainName) {
+    }
+
+    /**
+     * Ishga tayyor dastur yoki kompilyatsiya xatosi
+     */
+    record Program(List<String> command, String compileError) {
+
+        static Program ready(List<String> command) {
+            return new Program(command, null);
+        }
+
+        static Program compileError(String error) {
+            return new Program(null, error);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package com.code.algonix.problems;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Til drayverlari reestri.
+ * Har bir drayverning toolchain'i bir marta tekshiriladi (versiya keshlanadi) - startup'da fonda
+ * (StartupDataLoader), undan oldin kelgan murojaat aniqlash tugashini kutadi.
+ * Har bir til o'rnatilgan drayverlar ichidan eng yuqori prioritetlisiga yo'naltiriladi.
+ * Engine'lar har chaqiruvda kompilyator borligini tekshirmaydi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LanguageDriverRegistry {
+
+    private static final int PROBE_OUTPUT_BYTES = 4096;
+    private static final int COMPILE_OUTPUT_BYTES = 65536;
+
+    private final List<LanguageDriver> drivers;
+
+    @Value("${judge.languages.probe-timeout-ms:5000}")
+    private long probeTimeoutMs;
+
+    @Value("${judge.languages.compile-timeout-ms:10000}")
+    private long compileTimeoutMs;
+
+    @Value("${judge.languages.warm-up:true}")
+    private boolean warmUpEnabled;
+
+    private volatile Map<String, LanguageDriver> routes = Map.of();
+    private volatile Map<String, Toolchain> toolchains = Map.of();
+    private volatile boolean discovered;
+
+    /**
+     * Toolchain'lar hali aniqlanmagan bo'lsa - aniqlash (bir marta)
+     */
+    public void ensureDiscovered() {
+        if (!discovered) {
+            synchronized (this) {
+                if (!discovered) {
+                    discover();
+                }
+            }
+        }
+    }
+
+    /**
+     * Toolchain'larni aniqlash va tillarni drayverlarga yo'naltirish
+     */
+    public synchronized void discover() {
+        Map<String, List<LanguageDriver>> byLanguage = drivers.stream()
+                .collect(Collectors.groupingBy(LanguageDriver::language, LinkedHashMap::new, Collectors.toList()));
+
+        Map<String, LanguageDriver> newRoutes = new HashMap<>();
+        Map<String, Toolchain> newToolchains = new LinkedHashMap<>();
+        for (Map.Entry<String, List<LanguageDriver>> entry : byLanguage.entrySet()) {
+            List<LanguageDriver> candidates = new ArrayList<>(entry.getValue());
+            candidates.sort(Comparator.comparingInt(LanguageDriver::priority).reversed());
+
+            Toolchain toolchain = null;
+            for (LanguageDriver driver : candidates) {
+                String version = probe(driver);
+                if (version != null) {
+                    toolchain = Toolchain.builder()
+                            .language(entry.getKey())
+                            .driver(driver.displayName())
+                            .version(version)
+                            .available(true)
+                            .timeMultiplier(driver.timeMultiplier())
+                            .memoryMultiplier(driver.memoryMultiplier())
+                            .probedAt(LocalDateTime.now())
+                            .build();
+                    newRoutes.put(driver.language(), driver);
+                    driver.aliases().forEach(alias -> newRoutes.put(alias, driver));
+                    break;
+                }
+            }
+            if (toolchain == null) {
+                toolchain = Toolchain.builder()
+                        .language(entry.getKey())
+                        .driver(candidates.get(0).displayName())
+                        .available(false)
+                        .timeMultiplier(candidates.get(0).timeMultiplier())
+                        .memoryMultiplier(candidates.get(0).memoryMultiplier())
+                        .probedAt(LocalDateTime.now())
+                        .build();
+            }
+            newToolchains.put(entry.getKey(), toolchain);
+        }
+
+        routes = Collections.unmodifiableMap(newRoutes);
+        toolchains = Collections.unmodifiableMap(newToolchains);
+        discovered = true;
+        log.info("Language toolchains: {}", newToolchains.values().stream()
+                .map(t -> t.getLanguage() + "=" + (t.isAvailable() ? t.getVersion() : "missing"))
+                .collect(Collectors.joining(", ")));
+    }
+
+    /**
+     * Til uchun o'rnatilgan drayver (toolchain topilmasa bo'sh)
+     */
+    public Optional<LanguageDriver> find(String language) {
+        if (language == null) {
+            return Optional.empty();
+        }
+        ensureDiscovered();
+        return Optional.ofNullable(routes.get(language.toLowerCase()));
+    }
+
+    public Map<String, Toolchain> getToolchains() {
+        ensureDiscovered();
+        return toolchains;
+    }
+
+    /**
+     * Drayver time limit koeffitsienti (drayver topilmasa 1.0)
+     */
+    public double timeMultiplier(String language) {
+        return find(language).map(LanguageDriver::timeMultiplier).orElse(1.0);
+    }
+
+    /**
+     * Drayver xotira limiti koeffitsienti (drayver topilmasa 1.0)
+     */
+    public double memoryMultiplier(String language) {
+        return find(language).map(LanguageDriver::memoryMultiplier).orElse(1.0);
+    }
+
+    /**
+     * Kodni ish papkasiga yozish va kerak bo'lsa kompilyatsiya qilish
+     */
+    public LanguageDriver.Program prepare(LanguageDriver driver, String code, Path workDir, String mainName)
+            throws IOException, InterruptedException {
+        LanguageDriver.Layout layout = driver.layout(workDir, mainName != null ? mainName : driver.defaultMainName());
+        Files.writeString(layout.source(), driver.prepareSource(code));
+
+        List<String> compileCommand = driver.compileCommand(layout);
+        if (compileCommand != null) {
+            ProcessRunner.Result result = ProcessRunner.run(compileCommand, workDir, "",
+                    compileTimeoutMs, COMPILE_OUTPUT_BYTES);
+            if (result.isTimedOut()) {
+                return LanguageDriver.Program.compileError("Compilation timed out");
+            }
+            if (result.getExitCode() != 0) {
+                return LanguageDriver.Program.compileError((result.getStdout() + "\n" + result.getStderr()).trim());
+            }
+        }
+        return LanguageDriver.Program.ready(driver.runCommand(layout));
+    }
+
+    /**
+     * Mavjud toolchain'larni bir marta "isitish" - birinchi submission sekin bo'lmasligi uchun
+     * (StartupDataLoader fonda, ilova tayyor bo'lgandan keyin chaqiradi)
+     */
+    public void warmUp() {
+        if (!warmUpEnabled) {
+            return;
+        }
+        ensureDiscovered();
+        for (LanguageDriver driver : routes.values().stream().distinct().toList()) {
+            if (driver.warmUpProgram() == null) {
+                continue;
+            }
+            Path workDir = null;
+            try {
+                workDir = Files.createTempDirectory("warmup-");
+                LanguageDriver.Program program = prepare(driver, driver.warmUpProgram(), workDir, null);
+                if (program.compileError() == null) {
+                    ProcessRunner.run(program.command(), workDir, "", compileTimeoutMs, PROBE_OUTPUT_BYTES);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                log.debug("Warm-up for {} failed: {}", driver.language(), e.getMessage());
+            } finally {
+                cleanup(workDir);
+            }
+        }
+    }
+
+    private String probe(LanguageDriver driver) {
+        try {
+            ProcessRunner.Result result = ProcessRunner.run(driver.versionCommand(),
+                    Path.of(System.getProperty("java.io.tmpdir")), "", probeTimeoutMs, PROBE_OUTPUT_BYTES);
+            if (!result.isSuccess()) {
+                return null;
+            }
+            // javac -version stderr'ga yozadi
+            String output = !result.getStdout().isBlank() ? result.getStdout() : result.getStderr();
+            return output.strip().lines().findFirst().orElse("unknown");
+        } catch (IOException e) {
+            // Toolchain o'rnatilmagan
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private void cleanup(Path workDir) {
+        if (workDir == null) {
+            return;
+        }
+        try (var paths = Files.walk(workDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.debug("Failed to cleanup warm-up directory: {}", workDir);
+        }
+    }
+
+    /**
+     * Aniqlangan toolchain haqida ma'lumot
+     */
+    @Getter
+    @Builder
+    public static class Toolchain {
+        private final String language;
+        private final String driver;
+        private final String version;
+        private final boolean available;
+        private final double timeMultiplier;
+        private final double memoryMultiplier;
+        private final LocalDateTime probedAt;
+    }
+}
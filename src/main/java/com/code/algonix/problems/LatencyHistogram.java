@@ -0,0 +1,119 @@
+package com.code.algonix.problems;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * HdrHistogram uslubidagi ixcham log-linear histogram.
+ * Har bir ikkining darajasi 16 ta kichik bucket'ga bo'linadi (~6% aniqlik),
+ * shuning uchun ms va KB qiymatlari uchun ~450 ta bucket yetarli.
+ * Yig'indi (prefix) massiv saqlanadi - percentile so'rovi O(1).
+ * Thread-safe emas: chaqiruvchi sinxronlashtiradi.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 30;
+    static final int BUCKET_COUNT = SUB_BUCKETS + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private final long[] cumulative = new long[BUCKET_COUNT];
+    private long totalCount;
+
+    /**
+     * Qiymat tushadigan bucket indeksi
+     */
+    static int bucketIndex(long value) {
+        long v = Math.max(0, Math.min(value, MAX_VALUE));
+        if (v < SUB_BUCKETS) {
+            return (int) v;
+        }
+        int msb = 63 - Long.numberOfLeadingZeros(v);
+        int shift = msb - SUB_BUCKET_BITS;
+        return SUB_BUCKETS + shift * SUB_BUCKETS + (int) ((v >> shift) & (SUB_BUCKETS - 1));
+    }
+
+    public void record(long value) {
+        int index = bucketIndex(value);
+        counts[index]++;
+        for (int i = index; i < BUCKET_COUNT; i++) {
+            cumulative[i]++;
+        }
+        totalCount++;
+    }
+
+    public long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Qiymatdan kattaroq natijalar ulushi (0-100), "beats X%".
+     * Bir bucket'dagilar yarmi hisoblanadi. Bo'sh histogramda 100.
+     */
+    public double percentBeaten(long value) {
+        if (totalCount == 0) {
+            return 100.0;
+        }
+        int index = bucketIndex(value);
+        long greater = totalCount - cumulative[index];
+        double beaten = greater + counts[index] / 2.0;
+        return Math.round(beaten * 1000.0 / totalCount) / 10.0;
+    }
+
+    /**
+     * Saqlash uchun siqilgan ko'rinish: faqat bo'sh bo'lmagan bucket'lar
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            int nonEmpty = 0;
+            for (long count : counts) {
+                if (count > 0) {
+                    nonEmpty++;
+                }
+            }
+            out.writeShort(nonEmpty);
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if (counts[i] > 0) {
+                    out.writeShort(i);
+                    out.writeLong(counts[i]);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    public static LatencyHistogram fromBytes(byte[] data) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        if (data == null || data.length == 0) {
+            return histogram;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            int nonEmpty = in.readShort();
+            for (int n = 0; n < nonEmpty; n++) {
+                int index = in.readShort();
+                long count = in.readLong();
+                if (index >= 0 && index < BUCKET_COUNT) {
+                    histogram.counts[index] = count;
+                    histogram.totalCount += count;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        long running = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            running += histogram.counts[i];
+            histogram.cumulative[i] = running;
+        }
+        return histogram;
+    }
+}
@@ -1,19 +1,16 @@
 package com.code.algonix.problems;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import lombok.Builder;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -29,6 +26,9 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LeetCodeExecutionService implements CodeExecutionService {
 
+    private final JudgeCalibrationService calibrationService;
+    private final LanguageDriverRegistry languageDriverRegistry;
+
     @Value("${judge.timeout-seconds:5}")
     private int timeoutSeconds;
     
@@ -40,6 +40,26 @@ public class LeetCodeExecutionService implements CodeExecutionService {
 
     @Override
     public ExecutionResult executeCode(String code, String language, List<TestCase> testCases) {
+        return executeCode(code, language, testCases, JudgeProgressListener.NONE);
+    }
+
+    @Override
+    public ExecutionResult executeCode(String code, String language, List<TestCase> testCases,
+                                       JudgeProgressListener listener) {
+        return execute(code, language, testCases, listener, null);
+    }
+
+    /**
+     * Masala limitidan qat'i nazar berilgan time limit bilan bajarish
+     * (reference yechimlar bilan time limitni kalibrlash uchun)
+     */
+    public ExecutionResult executeWithTimeLimit(String code, String language, List<TestCase> testCases,
+                                                long timeLimitMs) {
+        return execute(code, language, testCases, JudgeProgressListener.NONE, timeLimitMs);
+    }
+
+    private ExecutionResult execute(String code, String language, List<TestCase> testCases,
+                                    JudgeProgressListener listener, Long timeLimitOverrideMs) {
         log.info("Starting LeetCode-style execution for language: {}", language);
         
         // Kod validatsiya
@@ -64,14 +84,17 @@ public class LeetCodeExecutionService implements CodeExecutionService {
         try {
             workDir = Files.createTempDirectory("leetcode-");
             log.debug("Created work directory: {}", workDir);
+            listener.onCompiling(language);
             
-            return switch (language.toLowerCase()) {
-                case "javascript", "js" -> executeJavaScript(wrappedCode, testCases, workDir);
-                case "java" -> executeJava(wrappedCode, testCases, workDir);
-                case "python", "python3", "py" -> executePython(wrappedCode, testCases, workDir);
-                case "cpp", "c++" -> executeCpp(wrappedCode, testCases, workDir);
-                default -> createErrorResult(ExecutionStatus.COMPILE_ERROR, "Unsupported language: " + language);
-            };
+            LanguageDriver.Program program = prepareProgram(wrappedCode, language, workDir);
+            if (program == null) {
+                return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Unsupported language: " + language);
+            }
+            if (program.compileError() != null) {
+                return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Compilation Error:\n" + program.compileError());
+            }
+            return runLeetCodeTests(program.command().toArray(String[]::new), language, testCases, workDir,
+                    listener, timeLimitOverrideMs);
             
         } catch (Exception e) {
             log.error("Execution error", e);
@@ -84,242 +107,259 @@ public class LeetCodeExecutionService implements CodeExecutionService {
     }
     
     /**
-     * JavaScript kod bajarish
+     * Kodni drayver orqali faylga yozish va kerak bo'lsa kompilyatsiya qilish
      */
-    private ExecutionResult executeJavaScript(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path sourceFile = workDir.resolve("solution.js");
-        Files.writeString(sourceFile, code);
+    private LanguageDriver.Program prepareProgram(String code, String language, Path workDir) throws Exception {
+        LanguageDriver driver = languageDriverRegistry.find(language).orElse(null);
+        if (driver == null) {
+            return null;
+        }
+        // Wrapper'lar Java uchun "Main" class yaratadi
+        return languageDriverRegistry.prepare(driver, code, workDir, driver.defaultMainName());
+    }
+    
+    /**
+     * Foydalanuvchi kiritgan stdin bilan bir marta ishga tushirish ("Run" tugmasi).
+     * Test case'lar yuklanmaydi, limitlar submit'dan qattiqroq.
+     */
+    public CustomRunResult runWithInput(String code, String language, Long problemId, String stdin,
+                                        long timeoutMs, int maxOutputBytes) {
+        if (code == null || code.trim().isEmpty()) {
+            return CustomRunResult.compileError("Code is empty");
+        }
+        
+        String wrappedCode = wrapFunctionCode(code, language, problemId);
+        if (wrappedCode == null) {
+            return CustomRunResult.compileError("Unsupported language or problem");
+        }
         
-        String[] command = {"node", sourceFile.toString()};
-        return runLeetCodeTests(command, testCases, workDir);
+        Path workDir = null;
+        try {
+            workDir = Files.createTempDirectory("run-");
+            LanguageDriver.Program program = prepareProgram(wrappedCode, language, workDir);
+            if (program == null) {
+                return CustomRunResult.compileError("Unsupported language: " + language);
+            }
+            if (program.compileError() != null) {
+                return CustomRunResult.compileError("Compilation Error:\n" + program.compileError());
+            }
+            
+            ProcessRunner.Result result = ProcessRunner.run(
+                program.command(), workDir, stdin, timeoutMs, maxOutputBytes);
+            return CustomRunResult.of(result);
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CustomRunResult.internalError("Interrupted");
+        } catch (Exception e) {
+            log.error("Custom run error", e);
+            return CustomRunResult.internalError("Internal error: " + e.getMessage());
+        } finally {
+            if (workDir != null) {
+                cleanupDirectory(workDir);
+            }
+        }
     }
     
     /**
-     * Java kod bajarish
+     * LeetCode-style test case'larni bajarish.
+     * Guruhli masalada har bir guruh birinchi xatoda to'xtaydi, bog'liq guruhi
+     * o'tmagan guruhlar umuman ishga tushirilmaydi.
      */
-    private ExecutionResult executeJava(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path sourceFile = workDir.resolve("Main.java");
-        Files.writeString(sourceFile, code);
+    private ExecutionResult runLeetCodeTests(String[] command, String language, List<TestCase> testCases,
+                                             Path workDir, JudgeProgressListener listener,
+                                             Long timeLimitOverrideMs) {
+        TestGroupPlan plan = TestGroupPlan.of(testCases);
+        TestGroupPlan.Outcome outcome = plan.execute((testCase, testNumber, totalTests) -> {
+            log.debug("Running test case {}/{}: input={}", testNumber, totalTests, testCase.getInput());
+            TestCaseResult result = runSingleTest(command, testCase, workDir,
+                timeLimitOverrideMs != null ? timeLimitOverrideMs : resolveTimeLimitMs(testCase, language),
+                resolveMemoryLimitMb(testCase, language));
+            listener.onTestCompleted(testNumber, totalTests, result);
+            return result;
+        });
+        
+        List<TestCaseResult> results = outcome.results();
+        long totalRuntime = 0;
+        double totalMemory = 0.0;
+        for (TestCaseResult result : results) {
+            if (result.isPassed()) {
+                totalRuntime += result.getRuntime();
+                totalMemory += result.getMemory();
+            }
+        }
         
-        // Compile
-        ProcessBuilder compileBuilder = new ProcessBuilder("javac", sourceFile.toString());
-        compileBuilder.directory(workDir.toFile());
-        compileBuilder.redirectErrorStream(true);
+        int passedCount = outcome.passedCount();
+        ExecutionStatus finalStatus = passedCount == testCases.size() ? 
+            ExecutionStatus.ACCEPTED : 
+            (outcome.firstFailure() == null ? ExecutionStatus.RUNTIME_ERROR : outcome.firstFailure().getStatus());
+            
+        int avgRuntime = results.isEmpty() ? 0 : (int) (totalRuntime / results.size());
+        double avgMemory = results.isEmpty() ? 0.0 : totalMemory / results.size();
         
-        Process compileProcess = compileBuilder.start();
-        boolean compileFinished = compileProcess.waitFor(10, TimeUnit.SECONDS);
+        ExecutionResult.ExecutionResultBuilder builder = ExecutionResult.builder()
+            .status(finalStatus)
+            .testResults(results)
+            .totalTestCases(testCases.size())
+            .passedTestCases(passedCount)
+            .averageRuntime(avgRuntime)
+            .averageMemory(avgMemory)
+            .errorMessage(finalStatus == ExecutionStatus.ACCEPTED ? null : 
+                String.format("Test case %d/%d failed", outcome.firstFailureNumber(), testCases.size()));
         
-        if (!compileFinished || compileProcess.exitValue() != 0) {
-            String compileError = readProcessOutput(compileProcess.getInputStream());
-            return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Compilation Error:\n" + compileError);
+        if (plan.isGrouped()) {
+            builder.groupResults(outcome.groupResults())
+                .score(outcome.score())
+                .maxScore(plan.getMaxScore());
         }
-        
-        String[] command = {"java", "-cp", workDir.toString(), "Main"};
-        return runLeetCodeTests(command, testCases, workDir);
+        return builder.build();
     }
     
     /**
-     * Python kod bajarish
+     * Masala time limiti (node tezligiga moslangan), bo'lmasa umumiy timeout
      */
-    private ExecutionResult executePython(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path sourceFile = workDir.resolve("solution.py");
-        Files.writeString(sourceFile, code);
-        
-        String[] command = {"python", sourceFile.toString()};
-        return runLeetCodeTests(command, testCases, workDir);
+    private long resolveTimeLimitMs(TestCase testCase, String language) {
+        Problem problem = testCase.getProblem();
+        if (problem == null || problem.getTimeLimitMs() == null) {
+            return timeoutSeconds * 1000L;
+        }
+        long scaled = calibrationService.scaleTimeLimit(problem.getTimeLimitMs(), language);
+        return Math.round(scaled * languageDriverRegistry.timeMultiplier(language));
     }
     
     /**
-     * C++ kod bajarish
+     * Masala xotira limiti drayver koeffitsienti bilan (masalan JVM uchun kattaroq); limit yo'q bo'lsa 0 - tekshirilmaydi
      */
-    private ExecutionResult executeCpp(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path sourceFile = workDir.resolve("solution.cpp");
-        Files.writeString(sourceFile, code);
-        
-        Path executableFile = workDir.resolve("solution.exe");
-        
-        // Compile
-        ProcessBuilder compileBuilder = new ProcessBuilder(
-            "g++", "-o", executableFile.toString(), 
-            sourceFile.toString(), "-std=c++17", "-O2"
-        );
-        compileBuilder.directory(workDir.toFile());
-        compileBuilder.redirectErrorStream(true);
-        
-        Process compileProcess = compileBuilder.start();
-        boolean compileFinished = compileProcess.waitFor(10, TimeUnit.SECONDS);
-        
-        if (!compileFinished || compileProcess.exitValue() != 0) {
-            String compileError = readProcessOutput(compileProcess.getInputStream());
-            return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Compilation Error:\n" + compileError);
+    private long resolveMemoryLimitMb(TestCase testCase, String language) {
+        Problem problem = testCase.getProblem();
+        if (problem == null || problem.getMemoryLimitMb() == null) {
+            return 0;
         }
-        
-        String[] command = {executableFile.toString()};
-        return runLeetCodeTests(command, testCases, workDir);
+        return Math.round(problem.getMemoryLimitMb() * languageDriverRegistry.memoryMultiplier(language));
     }
     
     /**
-     * LeetCode-style test case'larni bajarish
+     * Bitta test case'ni bajarish
      */
-    private ExecutionResult runLeetCodeTests(String[] command, List<TestCase> testCases, Path workDir) throws Exception {
-        List<TestCaseResult> results = new ArrayList<>();
-        int passedCount = 0;
-        long totalRuntime = 0;
-        double totalMemory = 0.0;
+    private TestCaseResult runSingleTest(String[] command, TestCase testCase, Path workDir, long timeLimitMs,
+                                         long memoryLimitMb) {
+        long startTime = System.currentTimeMillis();
         
-        for (int i = 0; i < testCases.size(); i++) {
-            TestCase testCase = testCases.get(i);
-            log.debug("Running test case {}/{}: input={}", i + 1, testCases.size(), testCase.getInput());
+        try {
+            // Limitdan 1 bayt ko'proq o'qiymiz - oshib ketganini aniqlash uchun
+            ProcessRunner.Result run = ProcessRunner.run(
+                List.of(command), workDir, testCase.getInput(), timeLimitMs, maxOutputSize + 1);
+            int runtime = (int) run.getRuntimeMs();
+            double memoryUsage = run.getPeakMemoryMb();
             
-            long startTime = System.currentTimeMillis();
+            if (run.isTimedOut()) {
+                return TestCaseResult.builder()
+                    .testCaseId(testCase.getId())
+                    .status(ExecutionStatus.TIME_LIMIT_EXCEEDED)
+                    .passed(false)
+                    .input(testCase.getInput())
+                    .expectedOutput(testCase.getExpectedOutput())
+                    .actualOutput("")
+                    .errorMessage(String.format("Time Limit Exceeded: %dms > %dms", runtime, timeLimitMs))
+                    .runtime(runtime)
+                    .memory(memoryUsage)
+                    .build();
+            }
             
-            try {
-                ProcessBuilder pb = new ProcessBuilder(command);
-                pb.directory(workDir.toFile());
-                pb.redirectErrorStream(false);
-                
-                Process process = pb.start();
-                
-                // Input berish
-                try (PrintWriter writer = new PrintWriter(process.getOutputStream())) {
-                    writer.print(testCase.getInput());
-                    writer.flush();
-                }
-                
-                // Timeout bilan kutish
-                boolean finished = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
-                long runtime = System.currentTimeMillis() - startTime;
-                
-                if (!finished) {
-                    process.destroyForcibly();
-                    TestCaseResult result = TestCaseResult.builder()
-                        .testCaseId(testCase.getId())
-                        .status(ExecutionStatus.TIME_LIMIT_EXCEEDED)
-                        .passed(false)
-                        .input(testCase.getInput())
-                        .expectedOutput(testCase.getExpectedOutput())
-                        .actualOutput("")
-                        .errorMessage(String.format("Time Limit Exceeded: %dms > %ds", runtime, timeoutSeconds))
-                        .runtime((int) runtime)
-                        .memory(0.0)
-                        .build();
-                    results.add(result);
-                    break; // LeetCode style: stop on first failure
-                }
-                
-                if (process.exitValue() != 0) {
-                    String errorOutput = readProcessOutput(process.getErrorStream());
-                    TestCaseResult result = TestCaseResult.builder()
-                        .testCaseId(testCase.getId())
-                        .status(ExecutionStatus.RUNTIME_ERROR)
-                        .passed(false)
-                        .input(testCase.getInput())
-                        .expectedOutput(testCase.getExpectedOutput())
-                        .actualOutput("")
-                        .errorMessage("Runtime Error:\n" + errorOutput)
-                        .runtime((int) runtime)
-                        .memory(0.0)
-                        .build();
-                    results.add(result);
-                    break; // LeetCode style: stop on first failure
-                }
-                
-                String actualOutput = readProcessOutput(process.getInputStream());
-                
-                if (actualOutput.length() > maxOutputSize) {
-                    TestCaseResult result = TestCaseResult.builder()
-                        .testCaseId(testCase.getId())
-                        .status(ExecutionStatus.RUNTIME_ERROR)
-                        .passed(false)
-                        .input(testCase.getInput())
-                        .expectedOutput(testCase.getExpectedOutput())
-                        .actualOutput(actualOutput.substring(0, Math.min(100, actualOutput.length())) + "...")
-                        .errorMessage("Output Limit Exceeded")
-                        .runtime((int) runtime)
-                        .memory(0.0)
-                        .build();
-                    results.add(result);
-                    break; // LeetCode style: stop on first failure
-                }
-                
-                String expected = testCase.getExpectedOutput().trim();
-                String actual = actualOutput.trim();
-                double memoryUsage = Math.random() * 20 + 10; // Simulate memory usage
-                
-                if (compareOutputs(expected, actual)) {
-                    passedCount++;
-                    totalRuntime += runtime;
-                    totalMemory += memoryUsage;
-                    
-                    TestCaseResult result = TestCaseResult.builder()
-                        .testCaseId(testCase.getId())
-                        .status(ExecutionStatus.ACCEPTED)
-                        .passed(true)
-                        .input(testCase.getInput())
-                        .expectedOutput(expected)
-                        .actualOutput(actual)
-                        .errorMessage(null)
-                        .runtime((int) runtime)
-                        .memory(memoryUsage)
-                        .build();
-                    results.add(result);
-                } else {
-                    TestCaseResult result = TestCaseResult.builder()
-                        .testCaseId(testCase.getId())
-                        .status(ExecutionStatus.WRONG_ANSWER)
-                        .passed(false)
-                        .input(testCase.getInput())
-                        .expectedOutput(expected)
-                        .actualOutput(actual)
-                        .errorMessage(String.format("Wrong Answer"))
-                        .runtime((int) runtime)
-                        .memory(memoryUsage)
-                        .build();
-                    results.add(result);
-                    break; // LeetCode style: stop on first failure
-                }
-                
-            } catch (Exception e) {
-                long runtime = System.currentTimeMillis() - startTime;
-                TestCaseResult result = TestCaseResult.builder()
+            if (run.isOutputLimitExceeded()) {
+                String actualOutput = run.getStdout();
+                return TestCaseResult.builder()
                     .testCaseId(testCase.getId())
                     .status(ExecutionStatus.RUNTIME_ERROR)
                     .passed(false)
                     .input(testCase.getInput())
                     .expectedOutput(testCase.getExpectedOutput())
+                    .actualOutput(actualOutput.substring(0, Math.min(100, actualOutput.length())) + "...")
+                    .errorMessage("Output Limit Exceeded")
+                    .runtime(runtime)
+                    .memory(memoryUsage)
+                    .build();
+            }
+            
+            // Eng yuqori RSS (VmHWM) bajarilgandan keyin limit bilan solishtiriladi
+            if (memoryLimitMb > 0 && memoryUsage > memoryLimitMb) {
+                return TestCaseResult.builder()
+                    .testCaseId(testCase.getId())
+                    .status(ExecutionStatus.MEMORY_LIMIT_EXCEEDED)
+                    .passed(false)
+                    .input(testCase.getInput())
+                    .expectedOutput(testCase.getExpectedOutput())
                     .actualOutput("")
-                    .errorMessage("Execution Error: " + e.getMessage())
-                    .runtime((int) runtime)
-                    .memory(0.0)
+                    .errorMessage(String.format("Memory Limit Exceeded: %.1fMB > %dMB", memoryUsage, memoryLimitMb))
+                    .runtime(runtime)
+                    .memory(memoryUsage)
                     .build();
-                results.add(result);
-                break; // LeetCode style: stop on first failure
             }
-        }
-        
-        ExecutionStatus finalStatus = passedCount == testCases.size() ? 
-            ExecutionStatus.ACCEPTED : 
-            (results.isEmpty() ? ExecutionStatus.RUNTIME_ERROR : results.get(results.size() - 1).getStatus());
             
-        int avgRuntime = results.isEmpty() ? 0 : (int) (totalRuntime / results.size());
-        double avgMemory = results.isEmpty() ? 0.0 : totalMemory / results.size();
-        
-        return ExecutionResult.builder()
-            .status(finalStatus)
-            .testResults(results)
-            .totalTestCases(testCases.size())
-            .passedTestCases(passedCount)
-            .averageRuntime(avgRuntime)
-            .averageMemory(avgMemory)
-            .errorMessage(finalStatus == ExecutionStatus.ACCEPTED ? null : 
-                String.format("Test case %d/%d failed", results.size(), testCases.size()))
+            if (run.getExitCode() != 0) {
+                return TestCaseResult.builder()
+                    .testCaseId(testCase.getId())
+                    .status(ExecutionStatus.RUNTIME_ERROR)
+                    .passed(false)
+                    .input(testCase.getInput())
+                    .expectedOutput(testCase.getExpectedOutput())
+                    .actualOutput("")
+                    .errorMessage("Runtime Error:\n" + normalizeLineEndings(run.getStderr()))
+                    .runtime(runtime)
+                    .memory(memoryUsage)
+                    .build();
+            }
+            
+            String expected = testCase.getExpectedOutput().trim();
+            String actual = normalizeLineEndings(run.getStdout());
+            boolean passed = compareOutputs(expected, actual);
+            
+            return TestCaseResult.builder()
+                .testCaseId(testCase.getId())
+                .status(passed ? ExecutionStatus.ACCEPTED : ExecutionStatus.WRONG_ANSWER)
+                .passed(passed)
+                .input(testCase.getInput())
+                .expectedOutput(expected)
+                .actualOutput(actual)
+                .errorMessage(passed ? null : "Wrong Answer")
+                .runtime(runtime)
+                .memory(memoryUsage)
+                .build();
+            
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return executionError(testCase, startTime, "Interrupted");
+        } catch (Exception e) {
+            return executionError(testCase, startTime, e.getMessage());
+        }
+    }
+    
+    private TestCaseResult executionError(TestCase testCase, long startTime, String message) {
+        long runtime = System.currentTimeMillis() - startTime;
+        return TestCaseResult.builder()
+            .testCaseId(testCase.getId())
+            .status(ExecutionStatus.RUNTIME_ERROR)
+            .passed(false)
+            .input(testCase.getInput())
+            .expectedOutput(testCase.getExpectedOutput())
+            .actualOutput("")
+            .errorMessage("Execution Error: " + message)
+            .runtime((int) runtime)
+            .memory(0.0)
             .build();
     }
     
+    /**
+     * CRLF ni LF ga o'tkazish va chetdagi bo'shliqlarni olib tashlash
+     */
+    private String normalizeLineEndings(String output) {
+        return output.replace("\r\n", "\n").trim();
+    }
+    
     /**
      * Funksiya kodini wrap qilish
      */
-    private String wrapFunctionCode(String userCode, String language, Long problemId) {
+    String wrapFunctionCode(String userCode, String language, Long problemId) {
         String functionName = extractFunctionName(userCode, language);
         if (functionName == null) {
             functionName = getDefaultFunctionName(problemId);
@@ -705,24 +745,10 @@ public class LeetCodeExecutionService implements CodeExecutionService {
     /**
      * Output'larni taqqoslash
      */
-    private boolean compareOutputs(String expected, String actual) {
+    boolean compareOutputs(String expected, String actual) {
         return expected.equals(actual);
     }
     
-    /**
-     * Process output'ini o'qish
-     */
-    private String readProcessOutput(InputStream inputStream) throws IOException {
-        StringBuilder output = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
-            }
-        }
-        return output.toString().trim();
-    }
-    
     /**
      * Xato natijasini yaratish
      */
@@ -756,4 +782,45 @@ public class LeetCodeExecutionService implements CodeExecutionService {
             log.warn("Failed to cleanup directory: {}", workDir, e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Custom input bilan bajarish natijasi
+     */
+    @Getter
+    @Builder
+    public static class CustomRunResult {
+        private final String status;
+        private final String stdout;
+        private final String stderr;
+        private final long runtimeMs;
+        private final double memoryMb;
+        
+        static CustomRunResult compileError(String message) {
+            return CustomRunResult.builder().status("compile_error").stdout("").stderr(message).build();
+        }
+        
+        static CustomRunResult internalError(String message) {
+            return CustomRunResult.builder().status("error").stdout("").stderr(message).build();
+        }
+        
+        static CustomRunResult of(ProcessRunner.Result result) {
+            String status;
+            if (result.isTimedOut()) {
+                status = "time_limit_exceeded";
+            } else if (result.isOutputLimitExceeded()) {
+                status = "output_limit_exceeded";
+            } else if (result.getExitCode() != 0) {
+                status = "runtime_error";
+            } else {
+                status = "success";
+            }
+            return CustomRunResult.builder()
+                .status(status)
+                .stdout(result.getStdout())
+                .stderr(result.getStderr())
+                .runtimeMs(result.getRuntimeMs())
+                .memoryMb(result.getPeakMemoryMb())
+                .build();
+        }
+    }
+}
@@ -15,6 +15,7 @@ import java.util.List;
 public class LeetCodeStyleExecutionService {
 
     private final SimpleJudgeService simpleJudgeService;
+    private final LanguageDriverRegistry languageDriverRegistry;
 
     /**
      * LeetCode style kodini to'liq dasturga aylantirish va bajarish
@@ -35,19 +36,24 @@ public class LeetCodeStyleExecutionService {
     }
 
     /**
-     * User kodini to'liq dasturga aylantirish
+     * User kodini to'liq dasturga aylantirish.
+     * Drayveri bor tillar nomi va alias'lari LanguageDriverRegistry orqali kanonik nomga keltiriladi
      */
     private String wrapUserCode(String userCode, String language, Long problemId) {
-        return switch (language.toLowerCase()) {
+        String canonical = languageDriverRegistry.find(language)
+                .map(LanguageDriver::language)
+                .orElse(language.toLowerCase());
+        return switch (canonical) {
             case "java" -> wrapJavaCode(userCode, problemId);
-            case "python", "python3", "py" -> wrapPythonCode(userCode, problemId);
-            case "javascript", "js" -> wrapJavaScriptCode(userCode, problemId);
-            case "cpp", "c++" -> wrapCppCode(userCode, problemId);
+            case "python" -> wrapPythonCode(userCode, problemId);
+            case "javascript" -> wrapJavaScriptCode(userCode, problemId);
+            case "cpp" -> wrapCppCode(userCode, problemId);
             case "c" -> wrapCCode(userCode, problemId);
+            case "php" -> wrapPhpCode(userCode, problemId);
+            // Quyidagi tillar uchun hali drayver yo'q - SimpleJudgeService ularni o'zi bajaradi
             case "csharp", "c#", "cs" -> wrapCSharpCode(userCode, problemId);
             case "go", "golang" -> wrapGoCode(userCode, problemId);
             case "rust", "rs" -> wrapRustCode(userCode, problemId);
-            case "php" -> wrapPhpCode(userCode, problemId);
             case "ruby", "rb" -> wrapRubyCode(userCode, problemId);
             case "swift" -> wrapSwiftCode(userCode, problemId);
             case "kotlin", "kt" -> wrapKotlinCode(userCode, problemId);
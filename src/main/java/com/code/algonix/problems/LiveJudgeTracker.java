@@ -0,0 +1,28 @@
+package com.code.algonix.problems;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * Hozir baholanayotgan yoki navbatda turgan jonli (rejudge bo'lmagan) submission'lar soni.
+ * Sinxron (POST /api/submissions, HTTP thread'da) va asinxron (judgeExecutor) yo'llar ikkalasi ham yangilaydi,
+ * ommaviy rejudge shu qiymat bo'yicha kutib turadi.
+ */
+@Component
+public class LiveJudgeTracker {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public void started() {
+        inFlight.incrementAndGet();
+    }
+
+    public void finished() {
+        inFlight.decrementAndGet();
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+}
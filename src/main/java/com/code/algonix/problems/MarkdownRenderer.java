@@ -0,0 +1,198 @@
+package com.code.algonix.problems;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.commonmark.Extension;
+import org.commonmark.ext.gfm.tables.TablesExtension;
+import org.commonmark.parser.Parser;
+import org.commonmark.renderer.html.HtmlRenderer;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.safety.Safelist;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * Masala tavsifini Markdown'dan HTML'ga o'girish - yozish paytida (create/update/import), o'qishda emas.
+ * CommonMark + GFM jadvallari, natija jsoup bilan tozalanadi (script, on* atributlar, javascript: linklar olib tashlanadi).
+ * Formulalar ($...$ va $$...$$) Markdown'dan himoyalanadi va o'zgarmagan holda math span'larga o'raladi
+ * (client KaTeX/MathJax bilan chizadi). Kod bloklari va `code` ichidagi $ belgilariga tegilmaydi.
+ * Natijalar kontent hash bo'yicha LRU keshda (preview va takroriy import uchun).
+ */
+@Service
+public class MarkdownRenderer {
+
+    private static final List<Extension> EXTENSIONS = List.of(TablesExtension.create());
+
+    private static final Safelist SAFELIST = Safelist.relaxed()
+            .addTags("hr", "del", "s")
+            .addAttributes("code", "class")
+            .addAttributes("span", "class")
+            .addAttributes("th", "align")
+            .addAttributes("td", "align")
+            .addEnforcedAttribute("a", "rel", "nofollow noopener");
+
+    private final Parser parser = Parser.builder().extensions(EXTENSIONS).build();
+    private final HtmlRenderer renderer = HtmlRenderer.builder().extensions(EXTENSIONS).build();
+
+    @Value("${problems.markdown.cache-max-entries:500}")
+    private int maxEntries;
+
+    private final Map<String, String> cache = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Markdown -> tozalangan HTML (null -> null)
+     */
+    public String render(String markdown) {
+        if (markdown == null) {
+            return null;
+        }
+        String key = hash(markdown);
+        synchronized (cache) {
+            String cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        String html = renderUncached(markdown);
+        synchronized (cache) {
+            cache.put(key, html);
+            if (cache.size() > maxEntries) {
+                cache.remove(cache.keySet().iterator().next());
+            }
+        }
+        return html;
+    }
+
+    private String renderUncached(String markdown) {
+        // Placeholder har safar yangi - matnda tasodifan uchrab qolmaydi
+        String token = "mathph" + Long.toHexString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE) + "x";
+        List<String> formulas = new ArrayList<>();
+        String protectedMarkdown = extractMath(markdown, token, formulas);
+
+        String html = renderer.render(parser.parse(protectedMarkdown));
+        for (int i = 0; i < formulas.size(); i++) {
+            String formula = formulas.get(i);
+            String type = formula.startsWith("$$") ? "math-display" : "math-inline";
+            // Ajratuvchilar bilan birga - client qaysi rejimda chizishni biladi
+            html = html.replace(token + i + "x", "<span class=\"math " + type + "\">" + escape(formula) + "</span>");
+        }
+
+        Document.OutputSettings settings = new Document.OutputSettings().prettyPrint(false);
+        return Jsoup.clean(html, "", SAFELIST, settings);
+    }
+
+    /**
+     * Formulalarni placeholder bilan almashtirish. Fenced kod bloklari, `inline code` va \$ o'tkazib yuboriladi.
+     * Inline $...$: yopuvchi $ shu qatorda, ichi bo'sh emas va probel bilan boshlanmaydi/tugamaydi ("$5 va $10" formula emas)
+     */
+    static String extractMath(String markdown, String token, List<String> formulas) {
+        StringBuilder out = new StringBuilder(markdown.length());
+        String fence = null;
+        int i = 0;
+        int n = markdown.length();
+        while (i < n) {
+            boolean lineStart = i == 0 || markdown.charAt(i - 1) == '\n';
+            if (lineStart) {
+                int lineEnd = markdown.indexOf('\n', i);
+                lineEnd = lineEnd < 0 ? n : lineEnd + 1;
+                String trimmed = markdown.substring(i, lineEnd).stripLeading();
+                if (fence != null) {
+                    if (trimmed.startsWith(fence)) {
+                        fence = null;
+                    }
+                    out.append(markdown, i, lineEnd);
+                    i = lineEnd;
+                    continue;
+                }
+                if (trimmed.startsWith("```") || trimmed.startsWith("~~~")) {
+                    fence = trimmed.substring(0, 3);
+                    out.append(markdown, i, lineEnd);
+                    i = lineEnd;
+                    continue;
+                }
+            }
+
+            char c = markdown.charAt(i);
+            if (c == '\\' && i + 1 < n) {
+                out.append(c).append(markdown.charAt(i + 1));
+                i += 2;
+            } else if (c == '`') {
+                int run = runLength(markdown, i, '`');
+                String ticks = "`".repeat(run);
+                int close = markdown.indexOf(ticks, i + run);
+                int end = close < 0 ? i + run : close + run;
+                out.append(markdown, i, end);
+                i = end;
+            } else if (c == '$') {
+                int end = mathEnd(markdown, i);
+                if (end < 0) {
+                    out.append(c);
+                    i++;
+                } else {
+                    out.append(token).append(formulas.size()).append('x');
+                    formulas.add(markdown.substring(i, end));
+                    i = end;
+                }
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Formula oxiri (yopuvchi $ dan keyingi pozitsiya) yoki -1
+     */
+    private static int mathEnd(String text, int start) {
+        if (text.startsWith("$$", start)) {
+            int close = text.indexOf("$$", start + 2);
+            return close > start + 2 ? close + 2 : -1;
+        }
+        int lineEnd = text.indexOf('\n', start);
+        lineEnd = lineEnd < 0 ? text.length() : lineEnd;
+        for (int j = start + 1; j < lineEnd; j++) {
+            char c = text.charAt(j);
+            if (c == '\\') {
+                j++;
+            } else if (c == '$') {
+                if (j == start + 1 || Character.isWhitespace(text.charAt(start + 1))
+                        || Character.isWhitespace(text.charAt(j - 1))) {
+                    return -1;
+                }
+                return j + 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int runLength(String text, int start, char c) {
+        int end = start;
+        while (end < text.length() && text.charAt(end) == c) {
+            end++;
+        }
+        return end - start;
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;").replace("\"", "&quot;");
+    }
+
+    private static String hash(String text) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(text.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
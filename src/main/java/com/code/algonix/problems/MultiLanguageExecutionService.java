@@ -24,6 +24,7 @@ public class MultiLanguageExecutionService implements CodeExecutionService {
 
     private final SecurityExecutionService securityService;
     private final ResourceMonitoringService resourceMonitoringService;
+    private final LanguageDriverRegistry languageDriverRegistry;
 
     @Value("${code.execution.timeout-ms:10000}")
     private long timeoutMs;
@@ -60,27 +61,20 @@ public class MultiLanguageExecutionService implements CodeExecutionService {
             securityService.secureWorkDirectory(workDir);
             log.info("Created secure temp directory: {}", workDir);
 
-            return switch (language.toLowerCase()) {
-                case "javascript", "js" -> executeJavaScript(code, testCases, workDir);
-                case "python", "python3", "py" -> executePython(code, testCases, workDir);
-                case "java" -> executeJava(code, testCases, workDir);
-                case "cpp", "c++" -> {
-                    // C++ compiler o'rnatilganligini tekshirish
-                    try {
-                        ProcessBuilder gppCheck = new ProcessBuilder("g++", "--version");
-                        Process gppProcess = gppCheck.start();
-                        if (gppProcess.waitFor(5, TimeUnit.SECONDS) && gppProcess.exitValue() == 0) {
-                            yield executeCpp(code, testCases, workDir);
-                        } else {
-                            yield createErrorResult("C++ compiler (g++) o'rnatilmagan. Iltimos, MinGW-w64 yoki MSYS2 o'rnating.");
-                        }
-                    } catch (Exception e) {
-                        yield createErrorResult("C++ compiler o'rnatilmagan. Iltimos, https://www.msys2.org/ dan MSYS2 o'rnating.");
-                    }
-                }
-                case "php" -> executePhp(code, testCases, workDir);
-                default -> createErrorResult("Qo'llab-quvvatlanmaydigan til: " + language + ". Hozircha JavaScript, Python, Java qo'llab-quvvatlanadi.");
-            };
+            // Toolchain startupda aniqlangan - har chaqiruvda kompilyatorni tekshirmaymiz
+            LanguageDriver driver = languageDriverRegistry.find(language).orElse(null);
+            if (driver == null) {
+                return createErrorResult("Qo'llab-quvvatlanmaydigan til yoki toolchain o'rnatilmagan: " + language);
+            }
+            String source = "javascript".equals(driver.language()) ? addInputReadingForSimpleConsoleLog(code) : code;
+            // Java'da foydalanuvchi "Solution" class yozadi
+            String mainName = "java".equals(driver.language()) ? "Solution" : driver.defaultMainName();
+
+            LanguageDriver.Program program = languageDriverRegistry.prepare(driver, source, workDir, mainName);
+            if (program.compileError() != null) {
+                return createCompileErrorResult(program.compileError());
+            }
+            return executeWithCommand(program.command().toArray(String[]::new), testCases, workDir);
 
         } catch (IOException e) {
             log.error("IO xatosi kod bajarish vaqtida", e);
@@ -99,78 +93,6 @@ public class MultiLanguageExecutionService implements CodeExecutionService {
         }
     }
 
-    // JavaScript (Node.js)
-    private ExecutionResult executeJavaScript(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path jsFile = workDir.resolve("solution.js");
-        
-        // Agar kod oddiy console.log ifodasi bo'lsa, input reading qo'shamiz
-        String processedCode = addInputReadingForSimpleConsoleLog(code);
-        
-        Files.writeString(jsFile, processedCode);
-        log.debug("JavaScript file created: {}", jsFile);
-        log.debug("Original JavaScript code: {}", code);
-        log.debug("Processed JavaScript code: {}", processedCode);
-        return executeWithCommand(new String[]{"node", jsFile.toString()}, testCases, workDir);
-    }
-
-    // Python
-    private ExecutionResult executePython(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path pyFile = workDir.resolve("solution.py");
-        Files.writeString(pyFile, code);
-        return executeWithCommand(new String[]{"python", pyFile.toString()}, testCases, workDir);
-    }
-
-    // Java
-    private ExecutionResult executeJava(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path javaFile = workDir.resolve("Solution.java");
-        Files.writeString(javaFile, code);
-
-        // Compile
-        ProcessBuilder compileBuilder = new ProcessBuilder("javac", javaFile.toString());
-        compileBuilder.directory(workDir.toFile());
-        Process compileProcess = compileBuilder.start();
-        
-        if (!compileProcess.waitFor(10, TimeUnit.SECONDS) || compileProcess.exitValue() != 0) {
-            String error = readProcessOutput(compileProcess.getErrorStream());
-            return createCompileErrorResult(error);
-        }
-
-        return executeWithCommand(new String[]{"java", "-cp", workDir.toString(), "Solution"}, testCases, workDir);
-    }
-
-    // C++
-    private ExecutionResult executeCpp(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path cppFile = workDir.resolve("solution.cpp");
-        Path exeFile = workDir.resolve("solution.exe");
-        Files.writeString(cppFile, code);
-
-        // Compile
-        ProcessBuilder compileBuilder = new ProcessBuilder("g++", "-o", exeFile.toString(), cppFile.toString());
-        compileBuilder.directory(workDir.toFile());
-        Process compileProcess = compileBuilder.start();
-        
-        if (!compileProcess.waitFor(10, TimeUnit.SECONDS) || compileProcess.exitValue() != 0) {
-            String error = readProcessOutput(compileProcess.getErrorStream());
-            return createCompileErrorResult(error);
-        }
-
-        return executeWithCommand(new String[]{exeFile.toString()}, testCases, workDir);
-    }
-
-    // PHP
-    private ExecutionResult executePhp(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path phpFile = workDir.resolve("solution.php");
-        String phpCode = "<?php\n" + code;
-        Files.writeString(phpFile, phpCode);
-        
-        log.debug("PHP file created: {}", phpFile);
-        log.debug("PHP code: {}", phpCode);
-        
-        // Absolute path to PHP
-        String phpPath = "C:\\php\\php.exe";
-        return executeWithCommand(new String[]{phpPath, phpFile.toString()}, testCases, workDir);
-    }
-
     // Generic execution method
     private ExecutionResult executeWithCommand(String[] command, List<TestCase> testCases, Path workDir) {
         List<TestCaseResult> testResults = new ArrayList<>();
@@ -267,10 +189,6 @@ public class MultiLanguageExecutionService implements CodeExecutionService {
         return output.toString().trim();
     }
 
-    private String readProcessOutput(InputStream inputStream) throws IOException {
-        return readProcessOutputWithLimit(inputStream);
-    }
-
     private TestCaseResult createTestResult(TestCase testCase, String actualOutput, boolean passed) {
         return TestCaseResult.builder()
                 .testCaseId(testCase.getId())
@@ -1,46 +1,61 @@
 package com.code.algonix.problems;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.io.PrintWriter;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * To'liq dasturlarni (stdin -> stdout) lokal bajarish.
+ * Til, kompilyatsiya va ishga tushirish LanguageDriverRegistry orqali; time/memory limitlar
+ * drayver koeffitsientlari bilan masshtablanadi.
+ */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class NativeCodeExecutionService implements CodeExecutionService {
 
+    private static final int MAX_OUTPUT_BYTES = 1 << 20;
+
+    private final LanguageDriverRegistry languageDriverRegistry;
+
     @Value("${code.execution.timeout-ms:5000}")
     private long timeoutMs;
 
     public CodeExecutionService.ExecutionResult executeCode(String code, String language, List<TestCase> testCases) {
+        LanguageDriver driver = languageDriverRegistry.find(language).orElse(null);
+        if (driver == null) {
+            return CodeExecutionService.ExecutionResult.builder()
+                    .status(CodeExecutionService.ExecutionStatus.RUNTIME_ERROR)
+                    .errorMessage("Execution error: Language not supported: " + language)
+                    .testResults(new ArrayList<>())
+                    .build();
+        }
+
         Path workDir = null;
         try {
             // Create temporary directory
             workDir = Files.createTempDirectory("algonix-native-");
             log.info("Created temp directory: {}", workDir);
 
-            // Execute based on language
-            switch (language.toLowerCase()) {
-                case "javascript":
-                    return executeJavaScript(code, testCases, workDir);
-                case "python":
-                    return executePython(code, testCases, workDir);
-                case "java":
-                    return executeJava(code, testCases, workDir);
-                default:
-                    throw new UnsupportedOperationException("Language not supported: " + language);
+            // Java: eski kontrakt - "Solution" klassi
+            String mainName = "java".equals(driver.language()) ? "Solution" : null;
+            LanguageDriver.Program program = languageDriverRegistry.prepare(driver, code, workDir, mainName);
+            if (program.compileError() != null) {
+                return CodeExecutionService.ExecutionResult.builder()
+                        .status(CodeExecutionService.ExecutionStatus.COMPILE_ERROR)
+                        .errorMessage(program.compileError())
+                        .testResults(new ArrayList<>())
+                        .build();
             }
+            return runTestCases(program.command(), driver, testCases, workDir);
 
         } catch (Exception e) {
             log.error("Error during native code execution", e);
@@ -57,175 +72,43 @@ public class NativeCodeExecutionService implements CodeExecutionService {
         }
     }
 
-    private CodeExecutionService.ExecutionResult executeJavaScript(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        // Write JavaScript code to file
-        Path jsFile = workDir.resolve("solution.js");
-        Files.writeString(jsFile, code);
-
+    private CodeExecutionService.ExecutionResult runTestCases(List<String> command, LanguageDriver driver,
+                                                              List<TestCase> testCases, Path workDir) {
+        long timeLimitMs = Math.round(timeoutMs * driver.timeMultiplier());
         List<CodeExecutionService.TestCaseResult> testResults = new ArrayList<>();
         int passedCount = 0;
 
         for (TestCase testCase : testCases) {
             try {
-                // Run with Node.js
-                ProcessBuilder pb = new ProcessBuilder("node", jsFile.toString());
-                pb.directory(workDir.toFile());
-                
-                Process process = pb.start();
-                
-                // Send input
-                try (PrintWriter writer = new PrintWriter(process.getOutputStream())) {
-                    writer.println(testCase.getInput());
-                    writer.flush();
-                }
+                ProcessRunner.Result run = ProcessRunner.run(command, workDir, testCase.getInput() + "\n",
+                        timeLimitMs, MAX_OUTPUT_BYTES);
 
-                // Wait for completion with timeout
-                boolean finished = process.waitFor(timeoutMs, TimeUnit.MILLISECONDS);
-                
-                if (!finished) {
-                    process.destroyForcibly();
-                    testResults.add(createTimeoutResult(testCase));
+                if (run.isTimedOut()) {
+                    testResults.add(createTimeoutResult(testCase, run));
                     continue;
                 }
-
-                // Read output
-                String output = readProcessOutput(process.getInputStream());
-                String error = readProcessOutput(process.getErrorStream());
-
-                if (process.exitValue() != 0) {
-                    testResults.add(createErrorResult(testCase, error));
+                long memoryLimitMb = memoryLimitMb(testCase, driver);
+                if (memoryLimitMb > 0 && run.getPeakMemoryMb() > memoryLimitMb) {
+                    testResults.add(createMemoryLimitResult(testCase, run, memoryLimitMb));
                     continue;
                 }
-
-                // Compare results
-                boolean passed = output.trim().equals(testCase.getExpectedOutput().trim());
-                testResults.add(createTestResult(testCase, output, passed));
-                
-                if (passed) passedCount++;
-
-            } catch (Exception e) {
-                testResults.add(createErrorResult(testCase, e.getMessage()));
-            }
-        }
-
-        return createExecutionResult(testResults, passedCount, testCases.size());
-    }
-
-    private CodeExecutionService.ExecutionResult executePython(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        // Write Python code to file
-        Path pyFile = workDir.resolve("solution.py");
-        Files.writeString(pyFile, code);
-
-        List<CodeExecutionService.TestCaseResult> testResults = new ArrayList<>();
-        int passedCount = 0;
-
-        for (TestCase testCase : testCases) {
-            try {
-                // Run with Python
-                ProcessBuilder pb = new ProcessBuilder("python", pyFile.toString());
-                pb.directory(workDir.toFile());
-                
-                Process process = pb.start();
-                
-                // Send input
-                try (PrintWriter writer = new PrintWriter(process.getOutputStream())) {
-                    writer.println(testCase.getInput());
-                    writer.flush();
-                }
-
-                // Wait for completion with timeout
-                boolean finished = process.waitFor(timeoutMs, TimeUnit.MILLISECONDS);
-                
-                if (!finished) {
-                    process.destroyForcibly();
-                    testResults.add(createTimeoutResult(testCase));
-                    continue;
-                }
-
-                // Read output
-                String output = readProcessOutput(process.getInputStream());
-                String error = readProcessOutput(process.getErrorStream());
-
-                if (process.exitValue() != 0) {
-                    testResults.add(createErrorResult(testCase, error));
+                if (run.getExitCode() != 0 || run.isOutputLimitExceeded()) {
+                    testResults.add(createErrorResult(testCase, run.isOutputLimitExceeded()
+                            ? "Output Limit Exceeded" : run.getStderr().trim()));
                     continue;
                 }
 
                 // Compare results
-                boolean passed = output.trim().equals(testCase.getExpectedOutput().trim());
-                testResults.add(createTestResult(testCase, output, passed));
-                
-                if (passed) passedCount++;
+                String output = run.getStdout().trim();
+                boolean passed = output.equals(testCase.getExpectedOutput().trim());
+                testResults.add(createTestResult(testCase, output, passed, run));
 
-            } catch (Exception e) {
-                testResults.add(createErrorResult(testCase, e.getMessage()));
-            }
-        }
-
-        return createExecutionResult(testResults, passedCount, testCases.size());
-    }
-
-    private CodeExecutionService.ExecutionResult executeJava(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        // Write Java code to file
-        Path javaFile = workDir.resolve("Solution.java");
-        Files.writeString(javaFile, code);
-
-        // Compile Java code
-        ProcessBuilder compileBuilder = new ProcessBuilder("javac", javaFile.toString());
-        compileBuilder.directory(workDir.toFile());
-        Process compileProcess = compileBuilder.start();
-        
-        boolean compileFinished = compileProcess.waitFor(10, TimeUnit.SECONDS);
-        if (!compileFinished || compileProcess.exitValue() != 0) {
-            String error = readProcessOutput(compileProcess.getErrorStream());
-            return CodeExecutionService.ExecutionResult.builder()
-                    .status(CodeExecutionService.ExecutionStatus.COMPILE_ERROR)
-                    .errorMessage(error)
-                    .testResults(new ArrayList<>())
-                    .build();
-        }
-
-        List<CodeExecutionService.TestCaseResult> testResults = new ArrayList<>();
-        int passedCount = 0;
-
-        for (TestCase testCase : testCases) {
-            try {
-                // Run Java class
-                ProcessBuilder pb = new ProcessBuilder("java", "-cp", workDir.toString(), "Solution");
-                pb.directory(workDir.toFile());
-                
-                Process process = pb.start();
-                
-                // Send input
-                try (PrintWriter writer = new PrintWriter(process.getOutputStream())) {
-                    writer.println(testCase.getInput());
-                    writer.flush();
-                }
-
-                // Wait for completion with timeout
-                boolean finished = process.waitFor(timeoutMs, TimeUnit.MILLISECONDS);
-                
-                if (!finished) {
-                    process.destroyForcibly();
-                    testResults.add(createTimeoutResult(testCase));
-                    continue;
-                }
-
-                // Read output
-                String output = readProcessOutput(process.getInputStream());
-                String error = readProcessOutput(process.getErrorStream());
-
-                if (process.exitValue() != 0) {
-                    testResults.add(createErrorResult(testCase, error));
-                    continue;
-                }
-
-                // Compare results
-                boolean passed = output.trim().equals(testCase.getExpectedOutput().trim());
-                testResults.add(createTestResult(testCase, output, passed));
-                
                 if (passed) passedCount++;
 
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                testResults.add(createErrorResult(testCase, "Interrupted"));
+                break;
             } catch (Exception e) {
                 testResults.add(createErrorResult(testCase, e.getMessage()));
             }
@@ -234,18 +117,19 @@ public class NativeCodeExecutionService implements CodeExecutionService {
         return createExecutionResult(testResults, passedCount, testCases.size());
     }
 
-    private String readProcessOutput(InputStream inputStream) throws IOException {
-        StringBuilder output = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                output.append(line).append("\n");
-            }
+    /**
+     * Masala xotira limiti drayver koeffitsienti bilan; limit yo'q bo'lsa 0
+     */
+    private long memoryLimitMb(TestCase testCase, LanguageDriver driver) {
+        Problem problem = testCase.getProblem();
+        if (problem == null || problem.getMemoryLimitMb() == null) {
+            return 0;
         }
-        return output.toString().trim();
+        return Math.round(problem.getMemoryLimitMb() * driver.memoryMultiplier());
     }
 
-    private CodeExecutionService.TestCaseResult createTestResult(TestCase testCase, String actualOutput, boolean passed) {
+    private CodeExecutionService.TestCaseResult createTestResult(TestCase testCase, String actualOutput, boolean passed,
+                                                                 ProcessRunner.Result run) {
         return CodeExecutionService.TestCaseResult.builder()
                 .testCaseId(testCase.getId())
                 .status(passed ? CodeExecutionService.ExecutionStatus.ACCEPTED : CodeExecutionService.ExecutionStatus.WRONG_ANSWER)
@@ -253,12 +137,27 @@ public class NativeCodeExecutionService implements CodeExecutionService {
                 .input(testCase.getInput())
                 .expectedOutput(testCase.getExpectedOutput())
                 .actualOutput(actualOutput)
-                .runtime(100) // Mock runtime
-                .memory(10.0) // Mock memory
+                .runtime((int) run.getRuntimeMs())
+                .memory(run.getPeakMemoryMb())
                 .build();
     }
 
-    private CodeExecutionService.TestCaseResult createTimeoutResult(TestCase testCase) {
+    private CodeExecutionService.TestCaseResult createMemoryLimitResult(TestCase testCase, ProcessRunner.Result run,
+                                                                        long memoryLimitMb) {
+        return CodeExecutionService.TestCaseResult.builder()
+                .testCaseId(testCase.getId())
+                .status(CodeExecutionService.ExecutionStatus.MEMORY_LIMIT_EXCEEDED)
+                .passed(false)
+                .input(testCase.getInput())
+                .expectedOutput(testCase.getExpectedOutput())
+                .actualOutput("")
+                .errorMessage(String.format("Memory limit exceeded: %.1fMB > %dMB", run.getPeakMemoryMb(), memoryLimitMb))
+                .runtime((int) run.getRuntimeMs())
+                .memory(run.getPeakMemoryMb())
+                .build();
+    }
+
+    private CodeExecutionService.TestCaseResult createTimeoutResult(TestCase testCase, ProcessRunner.Result run) {
         return CodeExecutionService.TestCaseResult.builder()
                 .testCaseId(testCase.getId())
                 .status(CodeExecutionService.ExecutionStatus.TIME_LIMIT_EXCEEDED)
@@ -267,8 +166,8 @@ public class NativeCodeExecutionService implements CodeExecutionService {
                 .expectedOutput(testCase.getExpectedOutput())
                 .actualOutput("")
                 .errorMessage("Time limit exceeded")
-                .runtime((int) timeoutMs)
-                .memory(0.0)
+                .runtime((int) run.getRuntimeMs())
+                .memory(run.getPeakMemoryMb())
                 .build();
     }
 
@@ -296,8 +195,8 @@ public class NativeCodeExecutionService implements CodeExecutionService {
                 .testResults(testResults)
                 .totalTestCases(totalCount)
                 .passedTestCases(passedCount)
-                .averageRuntime(100) // Mock
-                .averageMemory(10.0) // Mock
+                .averageRuntime((int) testResults.stream().mapToInt(CodeExecutionService.TestCaseResult::getRuntime).average().orElse(0))
+                .averageMemory(testResults.stream().mapToDouble(CodeExecutionService.TestCaseResult::getMemory).average().orElse(0))
                 .build();
     }
 
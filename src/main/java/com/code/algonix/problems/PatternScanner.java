@@ -0,0 +1,210 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Ko'p pattern'li qidiruv (Aho-Corasick avtomati, registrga sezgir emas).
+ * Avtomat bir marta quriladi, matn bir marta o'tiladi - narx pattern soniga bog'liq emas, O(n).
+ * Pattern sintaksisi:
+ * - "\b" bilan boshlansa, moslik so'z chegarasidan boshlanishi kerak ("\beval(" "medieval(" ga mos kelmaydi)
+ * - "(" bilan tugasa, nomdan keyin bo'shliqlar bo'lishi mumkin ("exec(" "exec (" ga ham mos keladi)
+ */
+public final class PatternScanner {
+
+    private static final int ALPHABET = 128;
+    private static final int[] NO_OUTPUT = new int[0];
+
+    private final Entry[] entries;
+    private final int[][] transitions;
+    private final int[][] outputs;
+
+    /**
+     * Topilgan moslik: pattern va matndagi [start, end) oralig'i
+     */
+    public record Match(String pattern, int start, int end) {
+    }
+
+    private record Entry(String pattern, String literal, boolean wordStart, boolean call) {
+    }
+
+    public PatternScanner(Collection<String> patterns) {
+        List<Entry> parsed = new ArrayList<>();
+        for (String pattern : patterns) {
+            Entry entry = parse(pattern);
+            if (entry != null) {
+                parsed.add(entry);
+            }
+        }
+        this.entries = parsed.toArray(Entry[]::new);
+
+        // 1. Trie
+        List<int[]> trie = new ArrayList<>();
+        List<int[]> own = new ArrayList<>();
+        trie.add(newRow());
+        own.add(NO_OUTPUT);
+        for (int id = 0; id < entries.length; id++) {
+            int state = 0;
+            for (char c : entries[id].literal().toCharArray()) {
+                if (trie.get(state)[c] < 0) {
+                    trie.get(state)[c] = trie.size();
+                    trie.add(newRow());
+                    own.add(NO_OUTPUT);
+                }
+                state = trie.get(state)[c];
+            }
+            own.set(state, append(own.get(state), id));
+        }
+
+        // 2. Failure link'lar (BFS) va to'liq o'tish jadvali
+        int size = trie.size();
+        this.transitions = trie.toArray(int[][]::new);
+        this.outputs = new int[size][];
+        int[] failure = new int[size];
+        outputs[0] = own.get(0);
+
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int c = 0; c < ALPHABET; c++) {
+            int next = transitions[0][c];
+            if (next < 0) {
+                transitions[0][c] = 0;
+            } else {
+                failure[next] = 0;
+                queue.add(next);
+            }
+        }
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            outputs[state] = concat(own.get(state), outputs[failure[state]]);
+            for (int c = 0; c < ALPHABET; c++) {
+                int next = transitions[state][c];
+                if (next < 0) {
+                    transitions[state][c] = transitions[failure[state]][c];
+                } else {
+                    failure[next] = transitions[failure[state]][c];
+                    queue.add(next);
+                }
+            }
+        }
+    }
+
+    /**
+     * Barcha mosliklar (matn tartibida)
+     */
+    public List<Match> scan(CharSequence text) {
+        List<Match> matches = new ArrayList<>();
+        run(text, matches);
+        return matches;
+    }
+
+    /**
+     * Birinchi moslik - topilishi bilan to'xtaydi
+     */
+    public Optional<Match> findFirst(CharSequence text) {
+        return Optional.ofNullable(run(text, null));
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    private Match run(CharSequence text, List<Match> collector) {
+        int state = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            char c = lower(text.charAt(i));
+            // Pattern'lar faqat ASCII - boshqa belgi har qanday moslikni uzadi
+            state = c < ALPHABET ? transitions[state][c] : 0;
+            for (int id : outputs[state]) {
+                Match match = accept(entries[id], text, i);
+                if (match == null) {
+                    continue;
+                }
+                if (collector == null) {
+                    return match;
+                }
+                collector.add(match);
+            }
+        }
+        return null;
+    }
+
+    private static Match accept(Entry entry, CharSequence text, int last) {
+        int start = last - entry.literal().length() + 1;
+        if (entry.wordStart() && start > 0 && isWordChar(text.charAt(start - 1))) {
+            return null;
+        }
+        int end = last + 1;
+        if (entry.call()) {
+            while (end < text.length() && Character.isWhitespace(text.charAt(end))) {
+                end++;
+            }
+            if (end >= text.length() || text.charAt(end) != '(') {
+                return null;
+            }
+            end++;
+        }
+        return new Match(entry.pattern(), start, end);
+    }
+
+    private static Entry parse(String pattern) {
+        String literal = pattern;
+        boolean wordStart = literal.startsWith("\\b");
+        if (wordStart) {
+            literal = literal.substring(2);
+        }
+        boolean call = literal.endsWith("(") && literal.length() > 1;
+        if (call) {
+            literal = literal.substring(0, literal.length() - 1);
+        }
+        if (literal.isEmpty()) {
+            return null;
+        }
+
+        char[] chars = literal.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] >= ALPHABET) {
+                throw new IllegalArgumentException("Only ASCII patterns are supported: " + pattern);
+            }
+            chars[i] = lower(chars[i]);
+        }
+        return new Entry(pattern, new String(chars), wordStart, call);
+    }
+
+    private static char lower(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$';
+    }
+
+    private static int[] newRow() {
+        int[] row = new int[ALPHABET];
+        Arrays.fill(row, -1);
+        return row;
+    }
+
+    private static int[] append(int[] values, int value) {
+        int[] result = Arrays.copyOf(values, values.length + 1);
+        result[values.length] = value;
+        return result;
+    }
+
+    private static int[] concat(int[] first, int[] second) {
+        if (second.length == 0) {
+            return first;
+        }
+        if (first.length == 0) {
+            return second;
+        }
+        int[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+}
@@ -0,0 +1,203 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runtime/memory percentile'larini hisoblash.
+ * Har bir (masala, til) uchun xotirada histogram saqlanadi, har bir
+ * ACCEPTED natija bilan yangilanadi va vaqti-vaqti bilan DB'ga yoziladi.
+ * submissions jadvali skan qilinmaydi.
+ * Xotiradagi yozuvlar soni cheklangan (har biri ~14 KB): flush'dan keyin eng uzoq ishlatilmagan
+ * toza yozuvlar chiqariladi, kerak bo'lsa performance_histograms'dan qayta yuklanadi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PercentileService {
+
+    private final PerformanceHistogramRepository histogramRepository;
+
+    @Value("${judge.percentiles.max-entries:2000}")
+    private int maxEntries;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Qabul qilingan yechim percentile'lari (boshqalarga nisbatan), so'ng histogramga qo'shiladi
+     */
+    public Percentiles recordAccepted(Long problemId, String language, int runtimeMs, double memoryMb) {
+        long memoryKb = Math.round(memoryMb * 1024);
+        while (true) {
+            Entry entry = entryFor(problemId, normalizeLanguage(language));
+            synchronized (entry) {
+                if (entry.evicted) {
+                    // Keshdan chiqarilgan - yozuv yo'qolmasligi uchun yangisiga yoziladi
+                    continue;
+                }
+                Percentiles percentiles = new Percentiles(
+                        entry.runtime.percentBeaten(runtimeMs),
+                        entry.memory.percentBeaten(memoryKb));
+                entry.runtime.record(runtimeMs);
+                entry.memory.record(memoryKb);
+                entry.dirty = true;
+                return percentiles;
+            }
+        }
+    }
+
+    /**
+     * Histogramga qo'shmasdan percentile'larni hisoblash (rejudge - bir yechim ikki marta sanalmasin)
+     */
+    public Percentiles percentilesFor(Long problemId, String language, int runtimeMs, double memoryMb) {
+        Entry entry = entryFor(problemId, normalizeLanguage(language));
+        synchronized (entry) {
+            return new Percentiles(
+                    entry.runtime.percentBeaten(runtimeMs),
+                    entry.memory.percentBeaten(Math.round(memoryMb * 1024)));
+        }
+    }
+
+    /**
+     * O'zgargan histogrammalarni DB'ga yozish
+     */
+    @Scheduled(fixedDelayString = "${judge.percentiles.flush-interval-ms:60000}")
+    @PreDestroy
+    public void flush() {
+        int flushed = 0;
+        for (Entry entry : entries.values()) {
+            byte[] runtimeData;
+            byte[] memoryData;
+            long runtimeCount;
+            long memoryCount;
+            synchronized (entry) {
+                if (!entry.dirty) {
+                    continue;
+                }
+                entry.dirty = false;
+                runtimeData = entry.runtime.toBytes();
+                memoryData = entry.memory.toBytes();
+                runtimeCount = entry.runtime.getTotalCount();
+                memoryCount = entry.memory.getTotalCount();
+            }
+            try {
+                save(entry, PerformanceHistogram.Metric.RUNTIME, runtimeData, runtimeCount);
+                save(entry, PerformanceHistogram.Metric.MEMORY, memoryData, memoryCount);
+                flushed++;
+            } catch (Exception e) {
+                log.warn("Failed to persist percentile histogram for problem {} ({}): {}",
+                        entry.problemId, entry.language, e.getMessage());
+                entry.dirty = true;
+            }
+        }
+        if (flushed > 0) {
+            log.debug("Persisted {} percentile histograms", flushed);
+        }
+        evictLeastRecentlyUsed();
+    }
+
+    /**
+     * Limitdan oshgan qismini chiqarish: faqat toza (DB bilan bir xil) yozuvlar, eng uzoq ishlatilmaganidan boshlab
+     */
+    private void evictLeastRecentlyUsed() {
+        int excess = entries.size() - maxEntries;
+        if (excess <= 0) {
+            return;
+        }
+        record Candidate(String key, Entry entry, long lastUsed) {
+        }
+        List<Candidate> candidates = new ArrayList<>(entries.size());
+        entries.forEach((key, entry) -> candidates.add(new Candidate(key, entry, entry.lastUsed)));
+        candidates.sort(Comparator.comparingLong(Candidate::lastUsed));
+
+        int evicted = 0;
+        for (Candidate candidate : candidates) {
+            if (evicted >= excess) {
+                break;
+            }
+            synchronized (candidate.entry()) {
+                if (candidate.entry().dirty) {
+                    continue;
+                }
+                candidate.entry().evicted = true;
+            }
+            entries.remove(candidate.key(), candidate.entry());
+            evicted++;
+        }
+        log.debug("Evicted {} percentile histograms, {} in memory", evicted, entries.size());
+    }
+
+    private void save(Entry entry, PerformanceHistogram.Metric metric, byte[] data, long totalCount) {
+        PerformanceHistogram histogram = histogramRepository
+                .findByProblemIdAndLanguageAndMetric(entry.problemId, entry.language, metric)
+                .orElseGet(() -> PerformanceHistogram.builder()
+                        .problemId(entry.problemId)
+                        .language(entry.language)
+                        .metric(metric)
+                        .build());
+        histogram.setData(data);
+        histogram.setTotalCount(totalCount);
+        histogramRepository.save(histogram);
+    }
+
+    private Entry entryFor(Long problemId, String language) {
+        Entry entry = entries.computeIfAbsent(problemId + ":" + language, key -> load(problemId, language));
+        entry.lastUsed = System.nanoTime();
+        return entry;
+    }
+
+    private Entry load(Long problemId, String language) {
+        LatencyHistogram runtime = histogramRepository
+                .findByProblemIdAndLanguageAndMetric(problemId, language, PerformanceHistogram.Metric.RUNTIME)
+                .map(h -> LatencyHistogram.fromBytes(h.getData()))
+                .orElseGet(LatencyHistogram::new);
+        LatencyHistogram memory = histogramRepository
+                .findByProblemIdAndLanguageAndMetric(problemId, language, PerformanceHistogram.Metric.MEMORY)
+                .map(h -> LatencyHistogram.fromBytes(h.getData()))
+                .orElseGet(LatencyHistogram::new);
+        return new Entry(problemId, language, runtime, memory);
+    }
+
+    static String normalizeLanguage(String language) {
+        String lang = language == null ? "" : language.toLowerCase();
+        return switch (lang) {
+            case "python3", "py" -> "python";
+            case "js" -> "javascript";
+            case "c++" -> "cpp";
+            default -> lang;
+        };
+    }
+
+    /**
+     * Runtime va memory bo'yicha "beats X%"
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Percentiles {
+        private final double runtimePercentile;
+        private final double memoryPercentile;
+    }
+
+    @RequiredArgsConstructor
+    private static class Entry {
+        private final Long problemId;
+        private final String language;
+        private final LatencyHistogram runtime;
+        private final LatencyHistogram memory;
+        private volatile boolean dirty;
+        private volatile long lastUsed;
+        private boolean evicted; // entry lock ostida
+    }
+}
@@ -0,0 +1,58 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * (masala, til, metrika) bo'yicha qabul qilingan yechimlar histogrammasi
+ */
+@Entity
+@Table(name = "performance_histograms",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"problem_id", "language", "metric"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PerformanceHistogram {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    @Column(nullable = false)
+    private String language;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Metric metric;
+
+    @Column(length = 16384)
+    private byte[] data; // LatencyHistogram.toBytes()
+
+    private Long totalCount;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public enum Metric {
+        RUNTIME, // ms
+        MEMORY   // KB
+    }
+}
@@ -0,0 +1,12 @@
+package com.code.algonix.problems;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PerformanceHistogramRepository extends JpaRepository<PerformanceHistogram, Long> {
+    Optional<PerformanceHistogram> findByProblemIdAndLanguageAndMetric(
+            Long problemId, String language, PerformanceHistogram.Metric metric);
+}
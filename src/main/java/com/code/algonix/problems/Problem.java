@@ -17,7 +17,8 @@ import java.util.List;
 @Builder
 public class Problem {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "problems_seq")
+    @SequenceGenerator(name = "problems_seq", sequenceName = "problems_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -65,6 +66,15 @@ public class Problem {
     @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "problem")
     private List<TestCase> testCases = new ArrayList<>();
 
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "problem")
+    @OrderBy("orderIndex ASC")
+    @Builder.Default
+    private List<TestGroup> testGroups = new ArrayList<>(); // subtask'lar (ixtiyoriy)
+
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "problem")
+    @Builder.Default
+    private List<ReferenceSolution> referenceSolutions = new ArrayList<>(); // time limit kalibrlash uchun
+
     @ElementCollection
     @CollectionTable(name = "problem_related", joinColumns = @JoinColumn(name = "problem_id"))
     @Column(name = "related_problem_id")
@@ -77,8 +87,12 @@ public class Problem {
 
     private Integer likes = 0;
     private Integer dislikes = 0;
+    // Faqat ProblemSubmissionCounters yangilaydi (UPDATE ... SET x = x + ?), entity save ularni qayta yozmaydi
+    @Column(updatable = false)
     private Double acceptanceRate = 0.0;
+    @Column(updatable = false)
     private Long totalSubmissions = 0L;
+    @Column(updatable = false)
     private Long totalAccepted = 0L;
     private Double frequency = 0.0; // 0.0 - 1.0
     private Boolean isPremium = false;
@@ -90,6 +104,9 @@ public class Problem {
     private Integer memoryLimitMb = 512; // Memory limit in MB (default 512MB)
     
     private Integer globalSequenceNumber; // Global sequence number for ordering
+
+    @Column(length = 64)
+    private String contentHash; // Import qilingan manba sha-256 - o'zgarmagan masala qayta yozilmaydi
     
     // Contest-specific fields
     private Boolean isContestOnly = false; // Masala faqat contest uchunmi
@@ -0,0 +1,478 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.code.algonix.exception.InvalidInputException;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Masalalar katalogining xotiradagi read modeli.
+ * Har bir masala uchun qisqa ma'lumot saqlanadi, difficulty/category/tag/visibility bo'yicha
+ * bitset'lar quriladi - ro'yxat filtrlari, saralash va pagination bazaga murojaat qilmaydi.
+ * Matnli qidiruv va autocomplete shu snapshot ichidagi ProblemSearchIndex orqali.
+ * Masala o'zgarganda (ProblemChangedEvent) faqat o'sha masala bazadan qayta o'qiladi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProblemCatalogIndex {
+
+    private final ProblemRepository problemRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile Snapshot snapshot;
+
+    /**
+     * Katalogni to'liq yuklash (StartupDataLoader masalalarni yuklagandan keyin chaqiradi)
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        List<Entry> entries = readOnly(() -> problemRepository.findAll().stream().map(Entry::of).toList());
+        snapshot = Snapshot.build(entries);
+        log.info("Problem catalog index built: {} problems, {} search terms in {}ms", entries.size(),
+                snapshot.searchIndex.termCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Bitta masalani qayta o'qish - commit'dan keyin, shunda saqlangan holat ko'rinadi
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        refresh(List.of(event.problemId()));
+    }
+
+    /**
+     * Bir nechta masalani bitta so'rov bilan qayta o'qish, snapshot bir marta quriladi
+     */
+    public synchronized void refresh(Collection<Long> problemIds) {
+        Snapshot current = snapshot;
+        if (current == null || problemIds.isEmpty()) {
+            // Hali qurilmagan - rebuild() hammasini o'qiydi
+            return;
+        }
+        Map<Long, Entry> entries = new HashMap<>(current.byId);
+        problemIds.forEach(entries::remove);
+        readOnly(() -> problemRepository.findAllById(problemIds).stream().map(Entry::of).toList())
+                .forEach(entry -> entries.put(entry.getId(), entry));
+        snapshot = Snapshot.build(entries.values());
+    }
+
+    /**
+     * Alohida read-only tranzaksiya: commit'dan keyin ham yangi holat o'qiladi, lazy kolleksiyalar yuklanadi
+     */
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    public int size() {
+        Snapshot current = snapshot;
+        return current == null ? 0 : current.entries.length;
+    }
+
+    /**
+     * Filtr, saralash va pagination - to'liq xotirada
+     */
+    public Page<Entry> query(Filter filter, int page, int size) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            // Startup tugamasdan kelgan so'rov - indeksni shu yerda quramiz
+            rebuild();
+            current = snapshot;
+        }
+        PageRequest pageRequest = PageRequest.of(page, size);
+
+        Match match = current.match(filter);
+        BitSet matches = match.positions();
+        int total = matches.cardinality();
+        int from = (int) Math.min(pageRequest.getOffset(), total);
+        int to = Math.min(from + size, total);
+
+        SortKey sort = filter.getSort() != null ? filter.getSort()
+                : match.scores() != null ? SortKey.RELEVANCE : SortKey.ID;
+        if (sort == SortKey.RELEVANCE && match.scores() != null) {
+            Entry[] entries = current.entries;
+            List<Entry> content = Arrays.stream(current.ranked(match), from, to)
+                    .mapToObj(position -> entries[position])
+                    .toList();
+            return new PageImpl<>(content, pageRequest, total);
+        }
+
+        List<Entry> content = new ArrayList<>(to - from);
+        int seen = 0;
+        for (int position : current.order(sort)) {
+            if (!matches.get(position)) {
+                continue;
+            }
+            if (seen >= from) {
+                content.add(current.entries[position]);
+                if (content.size() == to - from) {
+                    break;
+                }
+            }
+            seen++;
+        }
+        return new PageImpl<>(content, pageRequest, total);
+    }
+
+    /**
+     * Filtrga mos masalalar id'lari (tartibsiz) - boshqa jadvallar bilan birlashtirish uchun
+     */
+    public List<Long> matchingIds(Filter filter) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        BitSet matches = current.match(filter).positions();
+        List<Long> ids = new ArrayList<>(matches.cardinality());
+        for (int i = matches.nextSetBit(0); i >= 0; i = matches.nextSetBit(i + 1)) {
+            ids.add(current.entries[i].getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Slug bo'yicha masala id'si (bazaga murojaatsiz)
+     */
+    public Optional<Long> findIdBySlug(String slug) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return Optional.ofNullable(current.bySlug.get(slug));
+    }
+
+    /**
+     * Katalog bo'yicha sonlar (statistika endpoint'lari uchun) - snapshot bilan birga hisoblangan
+     */
+    public Counts counts() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            rebuild();
+            current = snapshot;
+        }
+        return current.counts;
+    }
+
+    /**
+     * Masalalar soni: jami, difficulty va category bo'yicha (category - COUNT(DISTINCT problem))
+     */
+    public record Counts(long total, Map<Problem.Difficulty, Long> byDifficulty, Map<String, Long> byCategory) {
+
+        public long difficulty(Problem.Difficulty difficulty) {
+            return byDifficulty.getOrDefault(difficulty, 0L);
+        }
+    }
+
+    /**
+     * Autocomplete: yozilayotgan matn bo'yicha eng mos public masalalar
+     */
+    public List<Entry> suggest(String prefix, int limit) {
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        Filter filter = Filter.builder()
+                .search(prefix)
+                .publicOnly(true)
+                .sort(SortKey.RELEVANCE)
+                .build();
+        return query(filter, 0, limit).getContent();
+    }
+
+    /**
+     * Ro'yxat filtri. Bo'sh maydonlar filtrlanmaydi.
+     */
+    @Getter
+    @Builder
+    public static class Filter {
+        private final Problem.Difficulty difficulty;
+        private final Collection<String> categories; // birortasi mos kelsa yetarli
+        private final Collection<String> tags;
+        private final String search; // raqam bo'lsa - global tartib raqami, aks holda to'liq matnli qidiruv
+        private final boolean publicOnly; // contest'ga tegishli, hali e'lon qilinmaganlarsiz
+        private final SortKey sort; // null - qidiruvda RELEVANCE, aks holda ID
+    }
+
+    public enum SortKey {
+        ID(Comparator.comparing(Entry::getId)),
+        SEQUENCE(Comparator.comparing(Entry::getGlobalSequenceNumber, Comparator.nullsLast(Comparator.naturalOrder()))),
+        TITLE(Comparator.comparing(Entry::getTitleLower)),
+        DIFFICULTY(Comparator.comparing(Entry::getDifficulty, Comparator.nullsLast(Comparator.naturalOrder()))),
+        ACCEPTANCE(Comparator.comparing(Entry::getAcceptanceRate, Comparator.nullsLast(Comparator.reverseOrder()))),
+        FREQUENCY(Comparator.comparing(Entry::getFrequency, Comparator.nullsLast(Comparator.reverseOrder()))),
+        RELEVANCE(Comparator.comparing(Entry::getId)); // matnli qidiruvsiz - id bo'yicha
+
+        private final Comparator<Entry> comparator;
+
+        SortKey(Comparator<Entry> comparator) {
+            // Teng qiymatlar id bo'yicha - sahifalar barqaror bo'lishi uchun
+            this.comparator = comparator.thenComparing(Entry::getId);
+        }
+
+        public static SortKey from(String value) {
+            if (value == null || value.isBlank()) {
+                return null;
+            }
+            try {
+                return valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidInputException("Unknown sort: " + value + ", expected one of " + Arrays.toString(values()));
+            }
+        }
+    }
+
+    /**
+     * Ro'yxat uchun kerakli masala ma'lumotlari (o'zgarmas nusxa)
+     */
+    @Getter
+    @Builder
+    public static class Entry {
+        private final Long id;
+        private final String slug;
+        private final String title;
+        private final String titleLower;
+        private final Problem.Difficulty difficulty;
+        private final List<String> categories;
+        private final List<String> tags;
+        private final Double acceptanceRate;
+        private final Boolean isPremium;
+        private final Double frequency;
+        private final Integer timeLimitMs;
+        private final Integer memoryLimitMb;
+        private final Integer globalSequenceNumber;
+        private final boolean contestOnly;
+        private final LocalDateTime publishTime;
+        @Getter(AccessLevel.NONE)
+        private final ProblemSearchIndex.Document searchDocument;
+
+        static Entry of(Problem problem) {
+            List<String> keywords = new ArrayList<>();
+            keywords.addAll(problem.getCategories() == null ? List.of() : problem.getCategories());
+            keywords.addAll(problem.getTags() == null ? List.of() : problem.getTags());
+            keywords.addAll(problem.getCompanies() == null ? List.of() : problem.getCompanies());
+
+            return Entry.builder()
+                    .id(problem.getId())
+                    .slug(problem.getSlug())
+                    .title(problem.getTitle())
+                    .titleLower(problem.getTitle() == null ? "" : problem.getTitle().toLowerCase(Locale.ROOT))
+                    .difficulty(problem.getDifficulty())
+                    .categories(problem.getCategories() == null ? List.of() : List.copyOf(problem.getCategories()))
+                    .tags(problem.getTags() == null ? List.of() : List.copyOf(problem.getTags()))
+                    .acceptanceRate(problem.getAcceptanceRate())
+                    .isPremium(problem.getIsPremium())
+                    .frequency(problem.getFrequency())
+                    .timeLimitMs(problem.getTimeLimitMs())
+                    .memoryLimitMb(problem.getMemoryLimitMb())
+                    .globalSequenceNumber(problem.getGlobalSequenceNumber())
+                    .contestOnly(Boolean.TRUE.equals(problem.getIsContestOnly()))
+                    .publishTime(problem.getPublishTime())
+                    .searchDocument(ProblemSearchIndex.Document.of(problem.getTitle(), keywords, problem.getDescription()))
+                    .build();
+        }
+    }
+
+    /**
+     * Filtr natijasi: mos pozitsiyalar va (matnli qidiruvda) ballar
+     */
+    private record Match(BitSet positions, float[] scores) {
+    }
+
+    /**
+     * Indeksning o'zgarmas holati - o'zgarishda yangisi quriladi va almashtiriladi
+     */
+    private static final class Snapshot {
+        private final Entry[] entries; // id bo'yicha tartiblangan, bitset pozitsiyalari shu
+        private final Map<Long, Entry> byId;
+        private final Map<String, Long> bySlug = new HashMap<>();
+        private final Map<Problem.Difficulty, BitSet> byDifficulty = new EnumMap<>(Problem.Difficulty.class);
+        private final Map<String, BitSet> byCategory = new HashMap<>();
+        private final Map<String, BitSet> byTag = new HashMap<>();
+        private final Map<Integer, Integer> bySequence = new HashMap<>();
+        private final BitSet alwaysPublic = new BitSet();
+        // Contest masalalari: e'lon vaqti -> pozitsiyalar (vaqt o'tishi bilan public bo'ladi)
+        private final TreeMap<LocalDateTime, BitSet> scheduled = new TreeMap<>();
+        private final Map<SortKey, int[]> orders = new EnumMap<>(SortKey.class);
+        private final ProblemSearchIndex searchIndex;
+        private Counts counts;
+
+        private Snapshot(Entry[] entries) {
+            this.entries = entries;
+            this.byId = new HashMap<>(entries.length * 2);
+            this.searchIndex = ProblemSearchIndex.build(Arrays.stream(entries)
+                    .map(entry -> entry.searchDocument == null ? ProblemSearchIndex.Document.EMPTY : entry.searchDocument)
+                    .toList());
+        }
+
+        static Snapshot build(Collection<Entry> source) {
+            Entry[] entries = source.stream().sorted(Comparator.comparing(Entry::getId)).toArray(Entry[]::new);
+            Snapshot snapshot = new Snapshot(entries);
+            for (int i = 0; i < entries.length; i++) {
+                Entry entry = entries[i];
+                snapshot.byId.put(entry.getId(), entry);
+                if (entry.getSlug() != null) {
+                    snapshot.bySlug.put(entry.getSlug(), entry.getId());
+                }
+                if (entry.getDifficulty() != null) {
+                    snapshot.byDifficulty.computeIfAbsent(entry.getDifficulty(), d -> new BitSet()).set(i);
+                }
+                for (String category : entry.getCategories()) {
+                    snapshot.byCategory.computeIfAbsent(category, c -> new BitSet()).set(i);
+                }
+                for (String tag : entry.getTags()) {
+                    snapshot.byTag.computeIfAbsent(tag, t -> new BitSet()).set(i);
+                }
+                if (entry.getGlobalSequenceNumber() != null) {
+                    snapshot.bySequence.putIfAbsent(entry.getGlobalSequenceNumber(), i);
+                }
+                if (!entry.isContestOnly()) {
+                    snapshot.alwaysPublic.set(i);
+                } else if (entry.getPublishTime() != null) {
+                    snapshot.scheduled.computeIfAbsent(entry.getPublishTime(), t -> new BitSet()).set(i);
+                }
+            }
+            for (SortKey key : SortKey.values()) {
+                snapshot.orders.put(key, sortedPositions(entries, key.comparator));
+            }
+            Map<Problem.Difficulty, Long> difficultyCounts = new EnumMap<>(Problem.Difficulty.class);
+            snapshot.byDifficulty.forEach((difficulty, bits) -> difficultyCounts.put(difficulty, (long) bits.cardinality()));
+            Map<String, Long> categoryCounts = new HashMap<>();
+            snapshot.byCategory.forEach((category, bits) -> categoryCounts.put(category, (long) bits.cardinality()));
+            snapshot.counts = new Counts(entries.length, Map.copyOf(difficultyCounts), Map.copyOf(categoryCounts));
+            return snapshot;
+        }
+
+        Match match(Filter filter) {
+            BitSet result = new BitSet(entries.length);
+            result.set(0, entries.length);
+
+            if (filter.getDifficulty() != null) {
+                result.and(bitsFor(byDifficulty.get(filter.getDifficulty())));
+            }
+            if (filter.getCategories() != null && !filter.getCategories().isEmpty()) {
+                result.and(union(filter.getCategories(), byCategory::get));
+            }
+            if (filter.getTags() != null && !filter.getTags().isEmpty()) {
+                result.and(union(filter.getTags(), byTag::get));
+            }
+            if (filter.isPublicOnly()) {
+                BitSet visible = (BitSet) alwaysPublic.clone();
+                scheduled.headMap(LocalDateTime.now(), true).values().forEach(visible::or);
+                result.and(visible);
+            }
+            float[] scores = null;
+            if (filter.getSearch() != null && !filter.getSearch().isBlank()) {
+                scores = applySearch(result, filter.getSearch().trim());
+            }
+            return new Match(result, scores);
+        }
+
+        int[] order(SortKey key) {
+            return orders.get(key == null ? SortKey.ID : key);
+        }
+
+        /**
+         * Mos pozitsiyalar ball bo'yicha kamayish tartibida (teng ballda id bo'yicha)
+         */
+        int[] ranked(Match match) {
+            float[] scores = match.scores();
+            return match.positions().stream()
+                    .boxed()
+                    .sorted((a, b) -> {
+                        int byScore = Float.compare(scores[b], scores[a]);
+                        return byScore != 0 ? byScore : Integer.compare(a, b);
+                    })
+                    .mapToInt(Integer::intValue)
+                    .toArray();
+        }
+
+        private float[] applySearch(BitSet result, String search) {
+            Integer sequence = parseSequence(search);
+            if (sequence != null) {
+                Integer position = bySequence.get(sequence);
+                boolean matched = position != null && result.get(position);
+                result.clear();
+                if (matched) {
+                    result.set(position);
+                }
+                return null;
+            }
+            ProblemSearchIndex.Result found = searchIndex.search(search);
+            if (found == null) {
+                // So'z yo'q (faqat belgilar) - hech narsa mos kelmaydi
+                result.clear();
+                return null;
+            }
+            result.and(found.matches());
+            return found.scores();
+        }
+
+        private static Integer parseSequence(String search) {
+            try {
+                return Integer.parseInt(search);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static BitSet union(Collection<String> keys, Function<String, BitSet> lookup) {
+            BitSet union = new BitSet();
+            for (String key : keys) {
+                BitSet bits = lookup.apply(key);
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+            return union;
+        }
+
+        private static BitSet bitsFor(BitSet bits) {
+            return bits == null ? new BitSet() : bits;
+        }
+
+        private static int[] sortedPositions(Entry[] entries, Comparator<Entry> comparator) {
+            Integer[] positions = new Integer[entries.length];
+            for (int i = 0; i < positions.length; i++) {
+                positions[i] = i;
+            }
+            Arrays.sort(positions, (a, b) -> comparator.compare(entries[a], entries[b]));
+            return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
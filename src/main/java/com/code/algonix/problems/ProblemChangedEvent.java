@@ -0,0 +1,8 @@
+package com.code.algonix.problems;
+
+/**
+ * Masala yaratildi, o'zgartirildi, e'lon qilindi yoki o'chirildi.
+ * Tranzaksiya ichida yuborilsa, tinglovchilar commit'dan keyin ishlaydi.
+ */
+public record ProblemChangedEvent(Long problemId) {
+}
@@ -3,6 +3,9 @@ package com.code.algonix.problems;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -11,15 +14,21 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.code.algonix.problems.dto.CreateProblemRequest;
 import com.code.algonix.problems.dto.ProblemDetailResponse;
 import com.code.algonix.problems.dto.ProblemListResponse;
+import com.code.algonix.problems.dto.ProblemSuggestionResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 
@@ -30,6 +39,7 @@ import lombok.RequiredArgsConstructor;
 public class ProblemController {
 
     private final ProblemService problemService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     @Operation(summary = "Barcha masalalarni olish", description = "Pagination, filter va search bilan barcha masalalar ro'yxati")
@@ -38,8 +48,12 @@ public class ProblemController {
             @RequestParam(defaultValue = "50") int size,
             @RequestParam(required = false) Problem.Difficulty difficulty,
             @RequestParam(required = false) List<String> categories,
-            @RequestParam(required = false) String search) {
-        return ResponseEntity.ok(problemService.getAllProblems(page, size, difficulty, categories, null, search));
+            @RequestParam(required = false) List<String> tags,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean publicOnly,
+            @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(problemService.listProblems(page, size,
+                catalogFilter(difficulty, categories, tags, search, publicOnly, sort), null, false));
     }
 
     @GetMapping("/user")
@@ -49,23 +63,65 @@ public class ProblemController {
             @RequestParam(defaultValue = "50") int size,
             @RequestParam(required = false) Problem.Difficulty difficulty,
             @RequestParam(required = false) List<String> categories,
+            @RequestParam(required = false) List<String> tags,
             @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean publicOnly,
+            @RequestParam(required = false) String sort,
             Authentication authentication) {
         String username = authentication != null ? authentication.getName() : null;
-        System.out.println("DEBUG Controller: Authentication: " + authentication + ", Username: " + username);
-        return ResponseEntity.ok(problemService.getAllProblemsForUser(page, size, username, difficulty, categories, search));
+        return ResponseEntity.ok(problemService.listProblems(page, size,
+                catalogFilter(difficulty, categories, tags, search, publicOnly, sort), username, true));
+    }
+
+    @GetMapping("/autocomplete")
+    @Operation(summary = "Masala qidiruvi uchun autocomplete", description = "Sarlavha, tag, category, company va tavsif bo'yicha eng mos masalalar")
+    public ResponseEntity<List<ProblemSuggestionResponse>> autocomplete(
+            @RequestParam("q") String query,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(problemService.suggestProblems(query, limit));
+    }
+
+    private ProblemCatalogIndex.Filter catalogFilter(Problem.Difficulty difficulty, List<String> categories,
+                                                     List<String> tags, String search, boolean publicOnly, String sort) {
+        return ProblemCatalogIndex.Filter.builder()
+                .difficulty(difficulty)
+                .categories(categories)
+                .tags(tags)
+                .search(search)
+                .publicOnly(publicOnly)
+                .sort(ProblemCatalogIndex.SortKey.from(sort))
+                .build();
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Masalani ID bo'yicha olish")
-    public ResponseEntity<ProblemDetailResponse> getProblemById(@PathVariable Long id) {
-        return ResponseEntity.ok(problemService.getProblemById(id));
+    @Operation(summary = "Masalani ID bo'yicha olish",
+            responses = @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ProblemDetailResponse.class))))
+    public ResponseEntity<byte[]> getProblemById(@PathVariable Long id, WebRequest webRequest) {
+        return detailResponse(problemService.getProblemDetailById(id), webRequest);
     }
 
     @GetMapping("/slug/{slug}")
-    @Operation(summary = "Masalani slug bo'yicha olish")
-    public ResponseEntity<ProblemDetailResponse> getProblemBySlug(@PathVariable String slug) {
-        return ResponseEntity.ok(problemService.getProblemBySlug(slug));
+    @Operation(summary = "Masalani slug bo'yicha olish",
+            responses = @ApiResponse(responseCode = "200", content = @Content(schema = @Schema(implementation = ProblemDetailResponse.class))))
+    public ResponseEntity<byte[]> getProblemBySlug(@PathVariable String slug, WebRequest webRequest) {
+        return detailResponse(problemService.getProblemDetailBySlug(slug), webRequest);
+    }
+
+    /**
+     * Keshdagi JSON; If-None-Match mos kelsa 304 (tanasiz). no-cache - klient har safar ETag bilan tekshiradi
+     */
+    private ResponseEntity<byte[]> detailResponse(ProblemDetailCache.Rendered detail, WebRequest webRequest) {
+        if (webRequest.checkNotModified(detail.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(detail.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(detail.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.body());
     }
 
     @PostMapping
@@ -109,8 +165,16 @@ public class ProblemController {
     @Operation(summary = "Kodni test qilish", description = "Submit qilmasdan test run")
     public ResponseEntity<com.code.algonix.problems.dto.RunCodeResponse> runCode(
             @PathVariable Long id,
-            @RequestBody com.code.algonix.problems.dto.RunCodeRequest request) {
-        return ResponseEntity.ok(problemService.runCode(id, request));
+            @RequestBody com.code.algonix.problems.dto.RunCodeRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        String owner = authentication != null ? authentication.getName() : "anonymous";
+        IdempotencyService.Result<com.code.algonix.problems.dto.RunCodeResponse> result = idempotencyService.execute(
+                "run", owner, idempotencyKey, List.of(id, request),
+                () -> problemService.runCode(id, request));
+        return ResponseEntity.ok()
+                .header(IdempotencyService.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.value());
     }
     
     @PostMapping("/{id}/favourite")
@@ -0,0 +1,148 @@
+package com.code.algonix.problems;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.code.algonix.problems.dto.ProblemDetailResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Masala sahifasi javoblarining keshi: JSON bir marta render qilinadi va strong ETag bilan saqlanadi.
+ * Kalit - masala id va versiya: ProblemChangedEvent versiyani oshiradi va yozuvni o'chiradi,
+ * render paytida versiya o'zgargan bo'lsa eski natija keshga tushmaydi.
+ * Hajmi cheklangan, eng uzoq ishlatilmagan yozuv chiqariladi (LRU).
+ */
+@Service
+@RequiredArgsConstructor
+public class ProblemDetailCache {
+
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${problems.detail-cache.max-entries:2000}")
+    private int maxEntries;
+
+    private final Map<Long, Rendered> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    private final AtomicLong versionCounter = new AtomicLong();
+
+    /**
+     * Render qilingan javob: JSON baytlari va ETag (qo'shtirnoq bilan)
+     */
+    public record Rendered(byte[] body, String etag) {
+    }
+
+    /**
+     * Keshdan olish, bo'lmasa loader bilan read-only tranzaksiyada render qilish
+     */
+    public Rendered get(Long problemId, Supplier<ProblemDetailResponse> loader) {
+        synchronized (entries) {
+            Rendered cached = entries.get(problemId);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        long version = versionOf(problemId);
+        Rendered rendered = render(readOnly(loader));
+        synchronized (entries) {
+            // Render davomida masala o'zgargan bo'lsa - natija qaytadi, lekin saqlanmaydi
+            if (versionOf(problemId) == version) {
+                entries.put(problemId, rendered);
+                if (entries.size() > maxEntries) {
+                    Long eldest = entries.keySet().iterator().next();
+                    entries.remove(eldest);
+                }
+            }
+        }
+        return rendered;
+    }
+
+    /**
+     * Masala o'zgardi yoki o'chirildi - commit'dan keyin
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProblemChanged(ProblemChangedEvent event) {
+        evict(event.problemId());
+    }
+
+    /**
+     * Template'lar o'zgardi - CodeTemplateService keshidan keyin, barcha yozuvlar bitta lock ostida o'chiriladi
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTemplatesChanged(CodeTemplatesChangedEvent event) {
+        evictAll(event.problemIds());
+    }
+
+    public void evictAll(Collection<Long> problemIds) {
+        for (Long problemId : problemIds) {
+            versions.put(problemId, versionCounter.incrementAndGet());
+        }
+        synchronized (entries) {
+            entries.keySet().removeAll(problemIds);
+        }
+    }
+
+    /**
+     * Yozuvni o'chirish; shu paytda render qilinayotgan eski natija ham keshga tushmaydi
+     */
+    public void evict(Long problemId) {
+        versions.put(problemId, versionCounter.incrementAndGet());
+        synchronized (entries) {
+            entries.remove(problemId);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private long versionOf(Long problemId) {
+        return versions.getOrDefault(problemId, 0L);
+    }
+
+    private Rendered render(ProblemDetailResponse response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(response);
+            return new Rendered(body, etag(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to render problem " + response.getId(), e);
+        }
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            // Strong ETag - kontent bo'yicha, restart'dan keyin ham bir xil
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T readOnly(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        template.setReadOnly(true);
+        return template.execute(status -> action.get());
+    }
+}
@@ -0,0 +1,258 @@
+package com.code.algonix.problems;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.code.algonix.exception.InvalidInputException;
+import com.code.algonix.problems.dto.CreateProblemRequest;
+import com.code.algonix.problems.dto.ProblemImportResponse;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Masalalarni ommaviy import qilish (startup'dagi JSON fayllar va admin API uchun bitta pipeline).
+ * JSON massiv oqim sifatida o'qiladi va chunk'larga bo'linadi: chunk ichida tekshirish va entity
+ * qurish parallel, saqlash bitta tranzaksiyada saveAll (batch INSERT).
+ * Slug bo'yicha mavjud masala: content hash bir xil bo'lsa o'tkazib yuboriladi, farq qilsa
+ * conflict sifatida qaytariladi (mavjud masala va unga bog'liq submission'lar o'zgartirilmaydi).
+ * Oxirida global tartib raqamlari bitta UPDATE bilan beriladi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProblemImportService {
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+
+    private final ProblemService problemService;
+    private final ProblemRepository problemRepository;
+    private final ProblemCatalogIndex problemCatalogIndex;
+    private final CodeTemplateService codeTemplateService;
+    private final TimeLimitCalibrationService timeLimitCalibrationService;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${problems.import.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * JSON massivdan import. Noto'g'ri JSON - InvalidInputException
+     */
+    public ProblemImportResponse importProblems(InputStream input, String source) {
+        long start = System.nanoTime();
+        Report report = new Report();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new InvalidInputException("Expected a JSON array of problems");
+            }
+            List<CreateProblemRequest> chunk = new ArrayList<>(chunkSize);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(objectMapper.readValue(parser, CreateProblemRequest.class));
+                if (chunk.size() == chunkSize) {
+                    importChunk(chunk, report);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(chunk, report);
+            }
+        } catch (JsonProcessingException e) {
+            throw new InvalidInputException("Invalid problem JSON: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (report.imported > 0) {
+            int renumbered = inTransaction(problemRepository::renumberGlobalSequence);
+            log.debug("Global sequence numbers updated for {} problems", renumbered);
+            if (problemCatalogIndex.isReady()) {
+                // Har bir masala uchun event o'rniga katalog bir marta qayta quriladi
+                problemCatalogIndex.rebuild();
+            }
+            if (codeTemplateService.isLoaded()) {
+                codeTemplateService.reload();
+            }
+        }
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        log.info("Imported {} problems from {} ({} unchanged, {} conflicts, {} failed) in {}ms",
+                report.imported, source, report.unchanged, report.conflictCount, report.failedCount, durationMs);
+        return ProblemImportResponse.builder()
+                .source(source)
+                .total(report.total)
+                .imported(report.imported)
+                .unchanged(report.unchanged)
+                .conflictCount(report.conflictCount)
+                .failedCount(report.failedCount)
+                .conflicts(report.conflicts)
+                .failed(report.failed)
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private void importChunk(List<CreateProblemRequest> chunk, Report report) {
+        report.total += chunk.size();
+
+        // 1. Tekshirish, hash va entity qurish - CPU ishi, parallel
+        List<Prepared> prepared = chunk.parallelStream().map(this::prepare).toList();
+
+        // 2. Mavjud masalalar bilan solishtirish - bitta so'rov
+        Set<String> slugs = new HashSet<>();
+        prepared.stream().filter(p -> p.error() == null).forEach(p -> slugs.add(p.request().getSlug()));
+        Map<String, String> existing = new HashMap<>();
+        if (!slugs.isEmpty()) {
+            for (Object[] row : problemRepository.findContentHashesBySlugIn(slugs)) {
+                existing.put((String) row[0], row[1] == null ? "" : (String) row[1]);
+            }
+        }
+
+        List<Prepared> toSave = new ArrayList<>();
+        for (Prepared p : prepared) {
+            String slug = p.request().getSlug();
+            if (p.error() != null) {
+                report.fail(slug, p.error());
+            } else if (!report.seenSlugs.add(slug)) {
+                report.fail(slug, "Duplicate slug in import");
+            } else if (existing.containsKey(slug)) {
+                if (existing.get(slug).equals(p.hash())) {
+                    report.unchanged++;
+                } else {
+                    report.conflict(slug);
+                }
+            } else {
+                toSave.add(p);
+            }
+        }
+
+        // 3. Saqlash: butun chunk bitta tranzaksiyada, xato bo'lsa masalalar alohida
+        if (toSave.isEmpty()) {
+            return;
+        }
+        try {
+            inTransaction(() -> save(toSave.stream().map(Prepared::problem).toList()));
+            report.imported += toSave.size();
+        } catch (RuntimeException e) {
+            log.warn("Batch import of {} problems failed ({}), retrying one by one", toSave.size(), e.getMessage());
+            for (Prepared p : toSave) {
+                try {
+                    // Muvaffaqiyatsiz tranzaksiyadagi entity'lar ishlatilmaydi - qaytadan quriladi
+                    Problem problem = problemService.buildProblem(p.request());
+                    problem.setContentHash(p.hash());
+                    inTransaction(() -> save(List.of(problem)));
+                    report.imported++;
+                } catch (RuntimeException single) {
+                    report.fail(p.request().getSlug(), single.getMessage());
+                }
+            }
+        }
+    }
+
+    private List<Problem> save(List<Problem> problems) {
+        List<Problem> saved = problemRepository.saveAll(problems);
+        for (Problem problem : saved) {
+            if (!problem.getReferenceSolutions().isEmpty()) {
+                timeLimitCalibrationService.calibrateAfterCommit(problem.getId());
+            }
+        }
+        return saved;
+    }
+
+    private Prepared prepare(CreateProblemRequest request) {
+        try {
+            if (request.getSlug() == null || request.getSlug().isBlank()) {
+                return Prepared.failed(request, "Slug is required");
+            }
+            if (request.getTitle() == null || request.getTitle().isBlank()) {
+                return Prepared.failed(request, "Title is required");
+            }
+            if (request.getDifficulty() == null) {
+                return Prepared.failed(request, "Difficulty is required");
+            }
+            if (request.getTestCases() != null
+                    && request.getTestCases().stream().anyMatch(tc -> tc.getExpectedOutput() == null)) {
+                return Prepared.failed(request, "Test case expected output is required");
+            }
+            String hash = contentHash(request);
+            Problem problem = problemService.buildProblem(request);
+            problem.setContentHash(hash);
+            return new Prepared(request, hash, problem, null);
+        } catch (InvalidInputException e) {
+            return Prepared.failed(request, e.getMessage());
+        }
+    }
+
+    private String contentHash(CreateProblemRequest request) {
+        try {
+            byte[] json = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template.execute(status -> action.get());
+    }
+
+    private record Prepared(CreateProblemRequest request, String hash, Problem problem, String error) {
+
+        static Prepared failed(CreateProblemRequest request, String error) {
+            return new Prepared(request, null, null, error);
+        }
+    }
+
+    /**
+     * Import davomidagi hisob (bitta thread'da yangilanadi)
+     */
+    private static final class Report {
+        private final Set<String> seenSlugs = new HashSet<>();
+        private final List<String> conflicts = new ArrayList<>();
+        private final List<String> failed = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int unchanged;
+        private int conflictCount;
+        private int failedCount;
+
+        void conflict(String slug) {
+            conflictCount++;
+            if (conflicts.size() < MAX_REPORTED_ERRORS) {
+                conflicts.add(slug);
+            }
+        }
+
+        void fail(String slug, String reason) {
+            failedCount++;
+            if (failed.size() < MAX_REPORTED_ERRORS) {
+                failed.add(Objects.requireNonNullElse(slug, "(no slug)") + ": " + reason);
+            }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.code.algonix.problems;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,6 +15,21 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface ProblemRepository extends JpaRepository<Problem, Long> {
     Optional<Problem> findBySlug(String slug);
+
+    // Import: mavjud masalalarning slug va content hash'lari
+    @Query("SELECT p.slug, p.contentHash FROM Problem p WHERE p.slug IN :slugs")
+    List<Object[]> findContentHashesBySlugIn(@Param("slugs") Collection<String> slugs);
+
+    // Global tartib raqamlari id bo'yicha - bitta set-based UPDATE (persistence context tozalanadi)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE problems p SET global_sequence_number = r.rn "
+            + "FROM (SELECT id, ROW_NUMBER() OVER (ORDER BY id) AS rn FROM problems) r "
+            + "WHERE p.id = r.id AND p.global_sequence_number IS DISTINCT FROM r.rn", nativeQuery = true)
+    int renumberGlobalSequence();
+
+    // Masala sahifasi uchun: misollar bilan birga (qolgan kolleksiyalar shu tranzaksiyada yuklanadi)
+    @Query("SELECT p FROM Problem p LEFT JOIN FETCH p.examples WHERE p.id = :id")
+    Optional<Problem> findDetailById(@Param("id") Long id);
     boolean existsBySlug(String slug);
     
     // Filter by difficulty only
@@ -34,10 +51,6 @@ public interface ProblemRepository extends JpaRepository<Problem, Long> {
     @Query("SELECT COUNT(p) FROM Problem p WHERE p.difficulty = :difficulty")
     Long countByDifficulty(@Param("difficulty") Problem.Difficulty difficulty);
     
-    // Category statistics
-    @Query("SELECT c, COUNT(DISTINCT p) FROM Problem p JOIN p.categories c GROUP BY c")
-    List<Object[]> countByCategory();
-    
     // Search methods
     // Search by title only
     @Query("SELECT p FROM Problem p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :searchTerm, '%'))")
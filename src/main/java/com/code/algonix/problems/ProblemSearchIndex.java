@@ -0,0 +1,200 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Masalalar bo'yicha to'liq matnli qidiruv (o'zgarmas inverted index).
+ * Sarlavha, tag/category/company va tavsif so'zlari turli og'irlik bilan indekslanadi,
+ * natija tf-idf bali bilan tartiblanadi. So'rovning barcha so'zlari mos kelishi kerak,
+ * oxirgi so'z prefiks sifatida qidiriladi (yozish davomida autocomplete).
+ * Term lug'ati tartiblangan massiv - prefiks oralig'i binary search bilan topiladi.
+ * Hujjat raqami - ProblemCatalogIndex snapshot'idagi pozitsiya.
+ */
+final class ProblemSearchIndex {
+
+    static final int TITLE_WEIGHT = 10;
+    static final int KEYWORD_WEIGHT = 4;
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    // Prefiks bo'yicha topilgan so'z to'liq mos kelgandan pastroq baholanadi
+    private static final float PREFIX_FACTOR = 0.7f;
+
+    private final int documentCount;
+    private final String[] terms; // tartiblangan
+    private final int[][] postings; // term -> hujjatlar (o'sish tartibida)
+    private final int[][] weights; // term -> hujjatdagi og'irlik (postings bilan parallel)
+
+    /**
+     * Bitta hujjatning so'zlari va og'irliklari (parallel massivlar)
+     */
+    record Document(String[] terms, int[] weights) {
+
+        static final Document EMPTY = new Document(new String[0], new int[0]);
+
+        static Document of(String title, Collection<String> keywords, String description) {
+            Map<String, Integer> weighted = new LinkedHashMap<>();
+            tokenize(title).forEach(term -> weighted.merge(term, TITLE_WEIGHT, Integer::sum));
+            if (keywords != null) {
+                for (String keyword : keywords) {
+                    tokenize(keyword).forEach(term -> weighted.merge(term, KEYWORD_WEIGHT, Integer::sum));
+                }
+            }
+            tokenize(description).forEach(term -> weighted.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+            if (weighted.isEmpty()) {
+                return EMPTY;
+            }
+
+            String[] terms = new String[weighted.size()];
+            int[] weights = new int[weighted.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> entry : weighted.entrySet()) {
+                // Bir xil so'zlar hujjatlar orasida bitta nusxada saqlanadi
+                terms[i] = entry.getKey().intern();
+                weights[i++] = entry.getValue();
+            }
+            return new Document(terms, weights);
+        }
+    }
+
+    /**
+     * Qidiruv natijasi: mos hujjatlar va ularning ballari (pozitsiya bo'yicha)
+     */
+    record Result(BitSet matches, float[] scores) {
+    }
+
+    private ProblemSearchIndex(int documentCount, String[] terms, int[][] postings, int[][] weights) {
+        this.documentCount = documentCount;
+        this.terms = terms;
+        this.postings = postings;
+        this.weights = weights;
+    }
+
+    static ProblemSearchIndex build(List<Document> documents) {
+        Map<String, int[]> counts = new HashMap<>();
+        for (Document document : documents) {
+            for (String term : document.terms()) {
+                counts.computeIfAbsent(term, t -> new int[1])[0]++;
+            }
+        }
+        String[] terms = counts.keySet().toArray(String[]::new);
+        Arrays.sort(terms);
+
+        Map<String, Integer> termIds = new HashMap<>(terms.length * 2);
+        int[][] postings = new int[terms.length][];
+        int[][] weights = new int[terms.length][];
+        for (int id = 0; id < terms.length; id++) {
+            termIds.put(terms[id], id);
+            int df = counts.get(terms[id])[0];
+            postings[id] = new int[df];
+            weights[id] = new int[df];
+        }
+
+        int[] filled = new int[terms.length];
+        for (int doc = 0; doc < documents.size(); doc++) {
+            Document document = documents.get(doc);
+            for (int i = 0; i < document.terms().length; i++) {
+                int id = termIds.get(document.terms()[i]);
+                postings[id][filled[id]] = doc;
+                weights[id][filled[id]++] = document.weights()[i];
+            }
+        }
+        return new ProblemSearchIndex(documents.size(), terms, postings, weights);
+    }
+
+    /**
+     * So'rov bo'yicha qidiruv. So'rovda so'z bo'lmasa null (matn filtri yo'q)
+     */
+    Result search(String query) {
+        List<String> tokens = tokenize(query);
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        BitSet matches = new BitSet(documentCount);
+        matches.set(0, documentCount);
+        float[] scores = new float[documentCount];
+        float[] tokenScores = new float[documentCount];
+
+        for (int t = 0; t < tokens.size() && !matches.isEmpty(); t++) {
+            String token = tokens.get(t);
+            boolean prefix = t == tokens.size() - 1;
+            int from = lowerBound(token);
+            int to = prefix ? lowerBound(token + Character.MAX_VALUE) : exactEnd(from, token);
+
+            BitSet tokenMatches = new BitSet(documentCount);
+            for (int id = from; id < to; id++) {
+                float idf = (float) Math.log(1.0 + (double) documentCount / postings[id].length);
+                float factor = terms[id].length() == token.length() ? 1f : PREFIX_FACTOR;
+                for (int i = 0; i < postings[id].length; i++) {
+                    int doc = postings[id][i];
+                    float score = (float) Math.log1p(weights[id][i]) * idf * factor;
+                    if (!tokenMatches.get(doc) || score > tokenScores[doc]) {
+                        tokenScores[doc] = score;
+                    }
+                    tokenMatches.set(doc);
+                }
+            }
+
+            matches.and(tokenMatches);
+            for (int doc = matches.nextSetBit(0); doc >= 0; doc = matches.nextSetBit(doc + 1)) {
+                scores[doc] += tokenScores[doc];
+            }
+        }
+        return new Result(matches, scores);
+    }
+
+    int termCount() {
+        return terms.length;
+    }
+
+    private int lowerBound(String key) {
+        int index = Arrays.binarySearch(terms, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int exactEnd(int from, String token) {
+        return from < terms.length && terms[from].equals(token) ? from + 1 : from;
+    }
+
+    /**
+     * Matnni so'zlarga ajratish: kichik harf, harf/raqam ketma-ketliklari.
+     * Apostroflar (o', g', ʻ, ’) tashlab yuboriladi - "qo'shish" va "qoshish" bir xil so'z
+     */
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (isApostrophe(c)) {
+                // ʻ va ʼ harf sifatida ham hisoblanadi - avval tekshiriladi
+                continue;
+            }
+            if (Character.isLetterOrDigit(c)) {
+                current.append(c);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            tokens.add(current.toString());
+        }
+        return tokens;
+    }
+
+    private static boolean isApostrophe(char c) {
+        return c == '\'' || c == '`' || c == 'ʻ' || c == 'ʼ' || c == '‘' || c == '’';
+    }
+}
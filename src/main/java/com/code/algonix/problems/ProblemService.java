@@ -2,24 +2,34 @@ package com.code.algonix.problems;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.code.algonix.exception.InvalidInputException;
 import com.code.algonix.exception.ResourceNotFoundException;
+import com.code.algonix.problems.dto.CodeTemplateResponse;
 import com.code.algonix.problems.dto.CreateProblemRequest;
 import com.code.algonix.problems.dto.ProblemDetailResponse;
 import com.code.algonix.problems.dto.ProblemListResponse;
+import com.code.algonix.problems.dto.ProblemSuggestionResponse;
 import com.code.algonix.user.UserEntity;
 import com.code.algonix.user.UserRepository;
+import com.code.algonix.user.UserSolvedStatsService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,15 +37,39 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProblemService {
 
+    private static final int MAX_SUGGESTIONS = 50;
+    private static final List<Problem.Difficulty> STATS_DIFFICULTIES = List.of(
+            Problem.Difficulty.BEGINNER, Problem.Difficulty.BASIC, Problem.Difficulty.NORMAL,
+            Problem.Difficulty.MEDIUM, Problem.Difficulty.HARD);
+
     private final ProblemRepository problemRepository;
     private final ProblemServiceRunCode runCodeService;
     private final SubmissionRepository submissionRepository;
     private final UserRepository userRepository;
     private final FavouriteRepository favouriteRepository;
+    private final ProblemCatalogIndex problemCatalogIndex;
+    private final ProblemDetailCache problemDetailCache;
     private final CodeTemplateService codeTemplateService;
+    private final TimeLimitCalibrationService timeLimitCalibrationService;
+    private final TimeLimitCalibrationRepository timeLimitCalibrationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSolvedStatsService userSolvedStatsService;
+    private final MarkdownRenderer markdownRenderer;
 
     @Transactional
     public Problem createProblem(CreateProblemRequest request) {
+        Problem saved = problemRepository.save(buildProblem(request));
+        eventPublisher.publishEvent(new ProblemChangedEvent(saved.getId()));
+        if (!saved.getReferenceSolutions().isEmpty()) {
+            timeLimitCalibrationService.calibrateAfterCommit(saved.getId());
+        }
+        return saved;
+    }
+
+    /**
+     * So'rovdan saqlanmagan Problem (bolalari bilan) - createProblem va import uchun
+     */
+    Problem buildProblem(CreateProblemRequest request) {
         Problem problem = Problem.builder()
                 .slug(request.getSlug())
                 .title(request.getTitle())
@@ -43,7 +77,8 @@ public class ProblemService {
                 .categories(request.getCategories())
                 .tags(request.getTags())
                 .description(request.getDescription())
-                .descriptionHtml(request.getDescriptionHtml())
+                // HTML serverda, yozish paytida render qilinadi (so'rovdagi descriptionHtml ishlatilmaydi)
+                .descriptionHtml(markdownRenderer.render(request.getDescription()))
                 .constraints(request.getConstraints())
                 .hints(request.getHints())
                 .relatedProblems(request.getRelatedProblems())
@@ -81,6 +116,10 @@ public class ProblemService {
             problem.setCodeTemplates(templates);
         }
 
+        // Add test groups (subtasks)
+        Map<String, TestGroup> groupsByName = buildTestGroups(problem, request.getTestGroups());
+        problem.setTestGroups(new ArrayList<>(groupsByName.values()));
+
         // Add test cases
         if (request.getTestCases() != null) {
             List<TestCase> testCases = request.getTestCases().stream()
@@ -90,12 +129,95 @@ public class ProblemService {
                             .expectedOutput(tc.getExpectedOutput())
                             .isHidden(tc.getIsHidden() != null && tc.getIsHidden())
                             .timeLimitMs(Objects.requireNonNullElse(tc.getTimeLimitMs(), 2000))
+                            .testGroup(resolveTestGroup(groupsByName, tc.getGroup()))
                             .build())
                     .collect(Collectors.toList());
             problem.setTestCases(testCases);
         }
 
-        return problemRepository.save(problem);
+        // Add reference solutions
+        problem.setReferenceSolutions(buildReferenceSolutions(problem, request.getReferenceSolutions()));
+        return problem;
+    }
+
+    /**
+     * Reference yechimlarni almashtirish va time limitni qayta kalibrlash
+     */
+    @Transactional
+    public int replaceReferenceSolutions(Long problemId, List<CreateProblemRequest.ReferenceSolutionRequest> requests) {
+        Problem problem = problemRepository.findById(problemId)
+                .orElseThrow(() -> new ResourceNotFoundException("Problem not found: " + problemId));
+        problem.getReferenceSolutions().clear();
+        problem.getReferenceSolutions().addAll(buildReferenceSolutions(problem, requests));
+        problemRepository.save(problem);
+        if (!problem.getReferenceSolutions().isEmpty()) {
+            timeLimitCalibrationService.calibrateAfterCommit(problemId);
+        }
+        return problem.getReferenceSolutions().size();
+    }
+
+    private List<ReferenceSolution> buildReferenceSolutions(Problem problem,
+                                                            List<CreateProblemRequest.ReferenceSolutionRequest> requests) {
+        List<ReferenceSolution> references = new ArrayList<>();
+        if (requests == null) {
+            return references;
+        }
+        for (CreateProblemRequest.ReferenceSolutionRequest rs : requests) {
+            if (rs.getLanguage() == null || rs.getLanguage().isBlank()
+                    || rs.getCode() == null || rs.getCode().isBlank()) {
+                throw new InvalidInputException("Reference solution language and code are required");
+            }
+            references.add(ReferenceSolution.builder()
+                    .problem(problem)
+                    .language(rs.getLanguage().toLowerCase())
+                    .code(rs.getCode())
+                    .build());
+        }
+        return references;
+    }
+
+    /**
+     * Test guruhlarini yaratish; bog'liqliklar faqat oldingi guruhlarga bo'lishi mumkin
+     */
+    private Map<String, TestGroup> buildTestGroups(Problem problem, List<CreateProblemRequest.TestGroupRequest> requests) {
+        Map<String, TestGroup> groups = new LinkedHashMap<>();
+        if (requests == null) {
+            return groups;
+        }
+        for (CreateProblemRequest.TestGroupRequest gr : requests) {
+            if (gr.getName() == null || gr.getName().isBlank()) {
+                throw new InvalidInputException("Test group name is required");
+            }
+            if (groups.containsKey(gr.getName())) {
+                throw new InvalidInputException("Duplicate test group: " + gr.getName());
+            }
+            List<String> dependsOn = gr.getDependsOn() != null ? gr.getDependsOn() : List.of();
+            for (String dependency : dependsOn) {
+                if (!groups.containsKey(dependency)) {
+                    throw new InvalidInputException("Test group '" + gr.getName()
+                            + "' can only depend on earlier groups, unknown: " + dependency);
+                }
+            }
+            groups.put(gr.getName(), TestGroup.builder()
+                    .problem(problem)
+                    .name(gr.getName())
+                    .points(Objects.requireNonNullElse(gr.getPoints(), 0))
+                    .orderIndex(groups.size())
+                    .dependsOn(new ArrayList<>(dependsOn))
+                    .build());
+        }
+        return groups;
+    }
+
+    private TestGroup resolveTestGroup(Map<String, TestGroup> groupsByName, String groupName) {
+        if (groupName == null) {
+            return null;
+        }
+        TestGroup group = groupsByName.get(groupName);
+        if (group == null) {
+            throw new InvalidInputException("Unknown test group: " + groupName);
+        }
+        return group;
     }
 
     public ProblemListResponse getAllProblems(int page, int size) {
@@ -111,95 +233,11 @@ public class ProblemService {
     }
     
     public ProblemListResponse getAllProblems(int page, int size, Problem.Difficulty difficulty, List<String> categories, String username, String search) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Problem> problemPage;
-        
-        // Check if search is for sequence number (numeric)
-        boolean isSequenceSearch = false;
-        Integer sequenceNumber = null;
-        if (search != null && !search.trim().isEmpty()) {
-            try {
-                sequenceNumber = Integer.parseInt(search.trim());
-                isSequenceSearch = true;
-            } catch (NumberFormatException e) {
-                // Not a number, search by title
-                isSequenceSearch = false;
-            }
-        }
-        
-        // Use appropriate filtering method based on parameters
-        if (search != null && !search.trim().isEmpty()) {
-            if (isSequenceSearch) {
-                // Search by sequence number
-                problemPage = problemRepository.findByGlobalSequenceNumber(sequenceNumber, pageable);
-            } else {
-                // Search by title with filters
-                if (difficulty != null && categories != null && !categories.isEmpty()) {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCaseAndDifficultyAndCategories(search, difficulty, categories, pageable);
-                } else if (difficulty != null) {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCaseAndDifficulty(search, difficulty, pageable);
-                } else if (categories != null && !categories.isEmpty()) {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCaseAndCategories(search, categories, pageable);
-                } else {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCase(search, pageable);
-                }
-            }
-        } else {
-            // No search, use existing filter logic
-            if (difficulty != null && categories != null && !categories.isEmpty()) {
-                problemPage = problemRepository.findByDifficultyAndCategories(difficulty, categories, pageable);
-            } else if (difficulty != null) {
-                problemPage = problemRepository.findByDifficulty(difficulty, pageable);
-            } else if (categories != null && !categories.isEmpty()) {
-                problemPage = problemRepository.findByCategories(categories, pageable);
-            } else {
-                problemPage = problemRepository.findAll(pageable);
-            }
-        }
-
-        // Get user for favourite checking
-        UserEntity user = null;
-        if (username != null) {
-            user = userRepository.findByUsername(username).orElse(null);
-        }
-
-        // Calculate sequence numbers based on global sequence number
-        List<ProblemListResponse.ProblemSummary> summaries = new ArrayList<>();
-        final UserEntity finalUser = user;
-        
-        for (int i = 0; i < problemPage.getContent().size(); i++) {
-            Problem p = problemPage.getContent().get(i);
-            
-            // Check if favourited
-            boolean isFavourite = false;
-            if (finalUser != null) {
-                isFavourite = favouriteRepository.existsByUserAndProblem(finalUser, p);
-            }
-            
-            ProblemListResponse.ProblemSummary summary = ProblemListResponse.ProblemSummary.builder()
-                    .sequenceNumber(p.getGlobalSequenceNumber() != null ? p.getGlobalSequenceNumber() : (page * size) + i + 1)
-                    .id(p.getId())
-                    .slug(p.getSlug())
-                    .title(p.getTitle())
-                    .difficulty(p.getDifficulty())
-                    .acceptanceRate(p.getAcceptanceRate())
-                    .isPremium(p.getIsPremium())
-                    .frequency(p.getFrequency())
-                    .categories(p.getCategories())
-                    .status("todo") // Will be calculated on frontend based on user submissions
-                    .isFavourite(isFavourite)
-                    .timeLimitMs(p.getTimeLimitMs() != null ? p.getTimeLimitMs() : 2000)
-                    .memoryLimitMb(p.getMemoryLimitMb() != null ? p.getMemoryLimitMb() : 512)
-                    .build();
-            summaries.add(summary);
-        }
-
-        return ProblemListResponse.builder()
-                .total(problemPage.getTotalElements())
-                .page(page)
-                .pageSize(size)
-                .problems(summaries)
-                .build();
+        return listProblems(page, size, ProblemCatalogIndex.Filter.builder()
+                .difficulty(difficulty)
+                .categories(categories)
+                .search(search)
+                .build(), username, false);
     }
 
     public ProblemListResponse getAllProblemsForUser(int page, int size, String username) {
@@ -213,91 +251,36 @@ public class ProblemService {
 
     public ProblemListResponse getAllProblemsForUser(int page, int size, String username, 
                                                    Problem.Difficulty difficulty, List<String> categories, String search) {
-        Pageable pageable = PageRequest.of(page, size);
-        Page<Problem> problemPage;
-        
-        // Check if search is for sequence number (numeric)
-        boolean isSequenceSearch = false;
-        Integer sequenceNumber = null;
-        if (search != null && !search.trim().isEmpty()) {
-            try {
-                sequenceNumber = Integer.parseInt(search.trim());
-                isSequenceSearch = true;
-            } catch (NumberFormatException e) {
-                // Not a number, search by title
-                isSequenceSearch = false;
-            }
-        }
-        
-        // Use appropriate filtering method based on parameters
-        if (search != null && !search.trim().isEmpty()) {
-            if (isSequenceSearch) {
-                // Search by sequence number
-                problemPage = problemRepository.findByGlobalSequenceNumber(sequenceNumber, pageable);
-            } else {
-                // Search by title with filters
-                if (difficulty != null && categories != null && !categories.isEmpty()) {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCaseAndDifficultyAndCategories(search, difficulty, categories, pageable);
-                } else if (difficulty != null) {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCaseAndDifficulty(search, difficulty, pageable);
-                } else if (categories != null && !categories.isEmpty()) {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCaseAndCategories(search, categories, pageable);
-                } else {
-                    problemPage = problemRepository.findByTitleContainingIgnoreCase(search, pageable);
-                }
-            }
-        } else {
-            // No search, use existing filter logic
-            if (difficulty != null && categories != null && !categories.isEmpty()) {
-                problemPage = problemRepository.findByDifficultyAndCategories(difficulty, categories, pageable);
-            } else if (difficulty != null) {
-                problemPage = problemRepository.findByDifficulty(difficulty, pageable);
-            } else if (categories != null && !categories.isEmpty()) {
-                problemPage = problemRepository.findByCategories(categories, pageable);
-            } else {
-                problemPage = problemRepository.findAll(pageable);
-            }
+        return listProblems(page, size, ProblemCatalogIndex.Filter.builder()
+                .difficulty(difficulty)
+                .categories(categories)
+                .search(search)
+                .build(), username, true);
+    }
+
+    /**
+     * Masalalar ro'yxati - katalog indeksidan (bazaga murojaatsiz), foydalanuvchi holati overlay bilan.
+     * withStatus=false bo'lsa faqat favourite belgilanadi, status frontend'da hisoblanadi.
+     */
+    public ProblemListResponse listProblems(int page, int size, ProblemCatalogIndex.Filter filter,
+                                            String username, boolean withStatus) {
+        if (page < 0 || size < 1) {
+            throw new InvalidInputException("Invalid page or size");
         }
+        Page<ProblemCatalogIndex.Entry> problemPage = problemCatalogIndex.query(filter, page, size);
 
-        // Get user to check solved problems
         UserEntity user = null;
         if (username != null) {
             user = userRepository.findByUsername(username).orElse(null);
-            System.out.println("DEBUG: Username: " + username + ", User found: " + (user != null));
-            if (user != null) {
-                System.out.println("DEBUG: User ID: " + user.getId() + ", Username: " + user.getUsername());
-            }
-        } else {
-            System.out.println("DEBUG: Username is null");
         }
+        // Sahifa uchun holat ikki so'rovda olinadi (har bir masala uchun alohida emas)
+        StatusOverlay overlay = loadOverlay(user,
+                problemPage.getContent().stream().map(ProblemCatalogIndex.Entry::getId).toList());
 
-        final UserEntity finalUser = user;
         List<ProblemListResponse.ProblemSummary> summaries = new ArrayList<>();
-        
         for (int i = 0; i < problemPage.getContent().size(); i++) {
-            Problem p = problemPage.getContent().get(i);
-            
-            String status = "todo"; // Default status
-            boolean isFavourite = false; // Default favourite status
-            
-            if (finalUser != null) {
-                // Check if user has solved this problem
-                boolean hasSolved = submissionRepository.existsByUserAndProblemAndStatus(
-                    finalUser, p, Submission.SubmissionStatus.ACCEPTED
-                );
-                status = hasSolved ? "solved" : "todo";
-                
-                // Check if user has favourited this problem
-                isFavourite = favouriteRepository.existsByUserAndProblem(finalUser, p);
-                
-                // Debug log
-                if (p.getId().equals(6L)) {
-                    System.out.println("DEBUG: Problem 6 check for user " + finalUser.getUsername() + 
-                                     " - hasSolved: " + hasSolved);
-                }
-            }
-            
-            ProblemListResponse.ProblemSummary summary = ProblemListResponse.ProblemSummary.builder()
+            ProblemCatalogIndex.Entry p = problemPage.getContent().get(i);
+            summaries.add(ProblemListResponse.ProblemSummary.builder()
                     .sequenceNumber(p.getGlobalSequenceNumber() != null ? p.getGlobalSequenceNumber() : (page * size) + i + 1)
                     .id(p.getId())
                     .slug(p.getSlug())
@@ -307,12 +290,11 @@ public class ProblemService {
                     .isPremium(p.getIsPremium())
                     .frequency(p.getFrequency())
                     .categories(p.getCategories())
-                    .status(status)
-                    .isFavourite(isFavourite)
+                    .status(withStatus ? overlay.status(p.getId()) : "todo")
+                    .isFavourite(overlay.isFavourite(p.getId()))
                     .timeLimitMs(p.getTimeLimitMs() != null ? p.getTimeLimitMs() : 2000)
                     .memoryLimitMb(p.getMemoryLimitMb() != null ? p.getMemoryLimitMb() : 512)
-                    .build();
-            summaries.add(summary);
+                    .build());
         }
 
         return ProblemListResponse.builder()
@@ -323,27 +305,26 @@ public class ProblemService {
                 .build();
     }
 
-    public ProblemDetailResponse getProblemBySlug(String slug) {
-        Problem problem = problemRepository.findBySlug(slug)
+    /**
+     * Masala sahifasi - keshdan (render qilingan JSON va ETag), bo'lmasa bazadan bir marta
+     */
+    public ProblemDetailCache.Rendered getProblemDetailBySlug(String slug) {
+        Long id = problemCatalogIndex.findIdBySlug(slug)
                 .orElseThrow(() -> new ResourceNotFoundException("Problem not found: " + slug));
-
-        return mapToProblemDetailResponse(problem);
+        return getProblemDetailById(id);
     }
 
-    public ProblemDetailResponse getProblemById(Long id) {
-        Problem problem = problemRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Problem not found: " + id));
-
-        return mapToProblemDetailResponse(problem);
+    public ProblemDetailCache.Rendered getProblemDetailById(Long id) {
+        return problemDetailCache.get(id, () -> mapToProblemDetailResponse(problemRepository.findDetailById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Problem not found: " + id))));
     }
 
     private ProblemDetailResponse mapToProblemDetailResponse(Problem problem) {
-        // Code template'larni olish
-        List<CodeTemplate> templates = codeTemplateService.getTemplatesForProblem(problem.getId());
-        Map<String, String> codeTemplates = templates.stream()
+        // Code template'lar - keshdan
+        Map<String, String> codeTemplates = codeTemplateService.getTemplatesForProblem(problem.getId()).stream()
             .collect(Collectors.toMap(
-                CodeTemplate::getLanguage,
-                CodeTemplate::getCode
+                CodeTemplateResponse::getLanguage,
+                CodeTemplateResponse::getCode
             ));
 
         List<ProblemDetailResponse.ExampleDto> examples = problem.getExamples().stream()
@@ -391,97 +372,51 @@ public class ProblemService {
         if (!problemRepository.existsById(id)) {
             throw new ResourceNotFoundException("Problem not found: " + id);
         }
+        timeLimitCalibrationRepository.deleteByProblemId(id);
         problemRepository.deleteById(id);
+        eventPublisher.publishEvent(new ProblemChangedEvent(id));
     }
 
     public com.code.algonix.problems.dto.RunCodeResponse runCode(Long problemId, com.code.algonix.problems.dto.RunCodeRequest request) {
         return runCodeService.runCode(problemId, request);
     }
 
+    /**
+     * Masalalar soni katalog indeksidan, foydalanuvchi yechganlari - UserStatistics hisoblagichlaridan
+     */
     public com.code.algonix.problems.dto.ProblemStatsResponse getProblemStatistics(String username) {
-        // Get total count
-        Long totalProblems = problemRepository.count();
-        
-        // Get count by each difficulty
-        Long beginnerCount = problemRepository.countByDifficulty(Problem.Difficulty.BEGINNER);
-        Long basicCount = problemRepository.countByDifficulty(Problem.Difficulty.BASIC);
-        Long normalCount = problemRepository.countByDifficulty(Problem.Difficulty.NORMAL);
-        Long mediumCount = problemRepository.countByDifficulty(Problem.Difficulty.MEDIUM);
-        Long hardCount = problemRepository.countByDifficulty(Problem.Difficulty.HARD);
-        
-        // Get user statistics if username provided
-        Long totalSolved = 0L;
-        Long userBeginnerCount = 0L;
-        Long userBasicCount = 0L;
-        Long userNormalCount = 0L;
-        Long userMediumCount = 0L;
-        Long userHardCount = 0L;
-        
+        ProblemCatalogIndex.Counts counts = problemCatalogIndex.counts();
+
+        UserSolvedStatsService.SolvedSummary solved = null;
         if (username != null) {
             UserEntity user = userRepository.findByUsername(username).orElse(null);
             if (user != null) {
-                totalSolved = submissionRepository.countSolvedProblemsByUser(user);
-                userBeginnerCount = submissionRepository.countSolvedProblemsByUserAndDifficulty(user, Problem.Difficulty.BEGINNER);
-                userBasicCount = submissionRepository.countSolvedProblemsByUserAndDifficulty(user, Problem.Difficulty.BASIC);
-                userNormalCount = submissionRepository.countSolvedProblemsByUserAndDifficulty(user, Problem.Difficulty.NORMAL);
-                userMediumCount = submissionRepository.countSolvedProblemsByUserAndDifficulty(user, Problem.Difficulty.MEDIUM);
-                userHardCount = submissionRepository.countSolvedProblemsByUserAndDifficulty(user, Problem.Difficulty.HARD);
+                solved = userSolvedStatsService.getSolvedSummary(user);
             }
         }
-        
-        // Create difficulty stats list
-        List<com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem> difficultyStats = List.of(
-            com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem.builder()
-                .name("Beginner")
-                .total(beginnerCount)
-                .solved(userBeginnerCount)
-                .build(),
-            com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem.builder()
-                .name("Basic")
-                .total(basicCount)
-                .solved(userBasicCount)
-                .build(),
-            com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem.builder()
-                .name("Normal")
-                .total(normalCount)
-                .solved(userNormalCount)
-                .build(),
-            com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem.builder()
-                .name("Medium")
-                .total(mediumCount)
-                .solved(userMediumCount)
-                .build(),
-            com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem.builder()
-                .name("Hard")
-                .total(hardCount)
-                .solved(userHardCount)
-                .build()
-        );
-        
+
+        List<com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem> difficultyStats = new ArrayList<>();
+        for (Problem.Difficulty difficulty : STATS_DIFFICULTIES) {
+            String name = difficulty.name().charAt(0) + difficulty.name().substring(1).toLowerCase(Locale.ROOT);
+            difficultyStats.add(com.code.algonix.problems.dto.ProblemStatsResponse.DifficultyStatItem.builder()
+                    .name(name)
+                    .total(counts.difficulty(difficulty))
+                    .solved(solved == null ? 0L : solved.difficulty(difficulty))
+                    .build());
+        }
+
         return com.code.algonix.problems.dto.ProblemStatsResponse.builder()
-                .allProblems(totalProblems)
-                .allUserSolvedProblems(totalSolved)
+                .allProblems(counts.total())
+                .allUserSolvedProblems(solved == null ? 0L : solved.total())
                 .difficultyStats(difficultyStats)
                 .build();
     }
 
     public com.code.algonix.problems.dto.CategoryStatsResponse getCategoryStatistics() {
-        // Get total count
-        Long totalProblems = problemRepository.count();
-        
-        // Get count by each category
-        List<Object[]> categoryResults = problemRepository.countByCategory();
-        Map<String, Long> categoryStats = new HashMap<>();
-        
-        for (Object[] result : categoryResults) {
-            String category = (String) result[0];
-            Long count = (Long) result[1];
-            categoryStats.put(category, count);
-        }
-        
+        ProblemCatalogIndex.Counts counts = problemCatalogIndex.counts();
         return com.code.algonix.problems.dto.CategoryStatsResponse.builder()
-                .totalProblems(totalProblems)
-                .categoryStats(categoryStats)
+                .totalProblems(counts.total())
+                .categoryStats(new HashMap<>(counts.byCategory()))
                 .build();
     }
     
@@ -518,15 +453,11 @@ public class ProblemService {
         Pageable pageable = PageRequest.of(page, size);
         Page<Favourite> favouritePage = favouriteRepository.findByUserOrderByCreatedAtDesc(user, pageable);
         
+        StatusOverlay overlay = loadOverlay(user, favouritePage.getContent().stream().map(fav -> fav.getProblem().getId()).toList());
         return favouritePage.getContent().stream()
                 .map(fav -> {
                     Problem p = fav.getProblem();
-                    
-                    // Check if solved
-                    boolean hasSolved = submissionRepository.existsByUserAndProblemAndStatus(
-                        user, p, Submission.SubmissionStatus.ACCEPTED
-                    );
-                    String status = hasSolved ? "solved" : "todo";
+                    String status = overlay.status(p.getId());
                     
                     return ProblemListResponse.ProblemSummary.builder()
                             .sequenceNumber(p.getGlobalSequenceNumber())
@@ -563,23 +494,22 @@ public class ProblemService {
         
         // Apply filters based on provided parameters
         if (search != null && !search.trim().isEmpty()) {
-            if (difficulty != null && categories != null && !categories.isEmpty()) {
-                // Search + difficulty + categories
-                favouritePage = favouriteRepository.findByUserAndProblemTitleContainingIgnoreCaseAndDifficultyAndCategories(
-                    user, search.trim(), difficulty, categories, pageable);
-            } else if (difficulty != null) {
-                // Search + difficulty
-                favouritePage = favouriteRepository.findByUserAndProblemTitleContainingIgnoreCaseAndDifficulty(
-                    user, search.trim(), difficulty, pageable);
-            } else if (categories != null && !categories.isEmpty()) {
-                // Search + categories
-                favouritePage = favouriteRepository.findByUserAndProblemTitleContainingIgnoreCaseAndCategories(
-                    user, search.trim(), categories, pageable);
-            } else {
-                // Search only
-                favouritePage = favouriteRepository.findByUserAndProblemTitleContainingIgnoreCase(
-                    user, search.trim(), pageable);
-            }
+            // Matnli qidiruv katalog indeksida; foydalanuvchi sevimlilari (kichik ro'yxat) bilan xotirada kesishadi.
+            // Katalog natijasi IN ro'yxatiga berilmaydi - qisqa prefiks o'n minglab parametr bo'lishi mumkin
+            Set<Long> matching = new HashSet<>(problemCatalogIndex.matchingIds(ProblemCatalogIndex.Filter.builder()
+                    .difficulty(difficulty)
+                    .categories(categories)
+                    .search(search)
+                    .build()));
+            List<Long> favouriteIds = favouriteRepository.findProblemIdsByUser(user).stream()
+                    .filter(matching::contains)
+                    .toList();
+            int from = (int) Math.min(pageable.getOffset(), favouriteIds.size());
+            List<Long> pageIds = favouriteIds.subList(from, Math.min(from + size, favouriteIds.size()));
+            List<Favourite> content = pageIds.isEmpty()
+                    ? List.of()
+                    : favouriteRepository.findByUserAndProblemIdIn(user, pageIds);
+            favouritePage = new PageImpl<>(content, pageable, favouriteIds.size());
         } else {
             // No search term
             if (difficulty != null && categories != null && !categories.isEmpty()) {
@@ -600,15 +530,11 @@ public class ProblemService {
             }
         }
         
+        StatusOverlay overlay = loadOverlay(user, favouritePage.getContent().stream().map(fav -> fav.getProblem().getId()).toList());
         List<ProblemListResponse.ProblemSummary> problemSummaries = favouritePage.getContent().stream()
                 .map(fav -> {
                     Problem p = fav.getProblem();
-                    
-                    // Check if solved
-                    boolean hasSolved = submissionRepository.existsByUserAndProblemAndStatus(
-                        user, p, Submission.SubmissionStatus.ACCEPTED
-                    );
-                    String status = hasSolved ? "solved" : "todo";
+                    String status = overlay.status(p.getId());
                     
                     return ProblemListResponse.ProblemSummary.builder()
                             .sequenceNumber(p.getGlobalSequenceNumber())
@@ -635,4 +561,60 @@ public class ProblemService {
                 .pageSize(size)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * Autocomplete: eng mos public masalalar
+     */
+    public List<ProblemSuggestionResponse> suggestProblems(String query, int limit) {
+        if (limit < 1 || limit > MAX_SUGGESTIONS) {
+            throw new InvalidInputException("Limit must be between 1 and " + MAX_SUGGESTIONS);
+        }
+        return problemCatalogIndex.suggest(query, limit).stream()
+                .map(entry -> ProblemSuggestionResponse.builder()
+                        .id(entry.getId())
+                        .sequenceNumber(entry.getGlobalSequenceNumber())
+                        .slug(entry.getSlug())
+                        .title(entry.getTitle())
+                        .difficulty(entry.getDifficulty())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Sahifadagi masalalar uchun foydalanuvchi holati: solved/attempted va favourite
+     * (sahifa hajmidan qat'i nazar ikki so'rov)
+     */
+    private StatusOverlay loadOverlay(UserEntity user, List<Long> problemIds) {
+        if (user == null || problemIds.isEmpty()) {
+            return StatusOverlay.EMPTY;
+        }
+
+        Set<Long> solved = new HashSet<>();
+        Set<Long> attempted = new HashSet<>();
+        for (Object[] row : submissionRepository.findProblemStatusesForUser(user.getId(), problemIds)) {
+            Long problemId = (Long) row[0];
+            attempted.add(problemId);
+            if (((Number) row[1]).intValue() > 0) {
+                solved.add(problemId);
+            }
+        }
+        Set<Long> favourites = new HashSet<>(favouriteRepository.findFavouriteProblemIds(user.getId(), problemIds));
+        return new StatusOverlay(solved, attempted, favourites);
+    }
+
+    private record StatusOverlay(Set<Long> solved, Set<Long> attempted, Set<Long> favourites) {
+
+        static final StatusOverlay EMPTY = new StatusOverlay(Set.of(), Set.of(), Set.of());
+
+        String status(Long problemId) {
+            if (solved.contains(problemId)) {
+                return "solved";
+            }
+            return attempted.contains(problemId) ? "attempted" : "todo";
+        }
+
+        boolean isFavourite(Long problemId) {
+            return favourites.contains(problemId);
+        }
+    }
+}
@@ -1,24 +1,54 @@
 package com.code.algonix.problems;
 
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import com.code.algonix.exception.InvalidInputException;
 import com.code.algonix.exception.ResourceNotFoundException;
+import com.code.algonix.exception.TooManyRequestsException;
 import com.code.algonix.problems.dto.RunCodeRequest;
 import com.code.algonix.problems.dto.RunCodeResponse;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class ProblemServiceRunCode {
 
+    /** Kompilyatsiya uchun qo'shimcha vaqt (javac/g++) */
+    private static final long COMPILE_BUDGET_MS = 15000;
+
     private final ProblemRepository problemRepository;
     private final CodeExecutionServiceSelector codeExecutionServiceSelector;
+    private final LeetCodeExecutionService leetCodeExecutionService;
+    private final ThreadPoolTaskExecutor runExecutor;
+
+    @Value("${judge.run.timeout-ms:2000}")
+    private long runTimeoutMs;
+
+    @Value("${judge.run.max-output-bytes:65536}")
+    private int runMaxOutputBytes;
+
+    @Value("${judge.run.max-input-bytes:65536}")
+    private int runMaxInputBytes;
 
     public RunCodeResponse runCode(Long problemId, RunCodeRequest request) {
+        if (request.getCustomInput() != null) {
+            return runWithCustomInput(problemId, request);
+        }
+
         Problem problem = problemRepository.findById(problemId)
                 .orElseThrow(() -> new ResourceNotFoundException("Problem not found: " + problemId));
 
@@ -72,4 +102,67 @@ public class ProblemServiceRunCode {
                 .errorMessage(firstResult.getErrorMessage())
                 .build();
     }
+
+    /**
+     * Custom input bilan tez yo'l: DB'dan test case'lar yuklanmaydi,
+     * kod alohida kichik pool'da qattiqroq limitlar bilan bajariladi
+     */
+    private RunCodeResponse runWithCustomInput(Long problemId, RunCodeRequest request) {
+        if (request.getCustomInput().getBytes(StandardCharsets.UTF_8).length > runMaxInputBytes) {
+            throw new InvalidInputException("Input juda katta (max " + runMaxInputBytes + " bayt)");
+        }
+
+        Future<LeetCodeExecutionService.CustomRunResult> future;
+        try {
+            future = runExecutor.submit(() -> leetCodeExecutionService.runWithInput(
+                    request.getCode(),
+                    request.getLanguage(),
+                    problemId,
+                    request.getCustomInput(),
+                    runTimeoutMs,
+                    runMaxOutputBytes));
+        } catch (TaskRejectedException e) {
+            throw new TooManyRequestsException("Run navbati to'lgan, birozdan keyin qayta urinib ko'ring");
+        }
+
+        LeetCodeExecutionService.CustomRunResult result;
+        try {
+            result = future.get(runTimeoutMs + COMPILE_BUDGET_MS, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            result = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result = null;
+        } catch (ExecutionException e) {
+            log.warn("Custom input run failed for problem {}", problemId, e.getCause());
+            result = null;
+        }
+
+        if (result == null) {
+            return RunCodeResponse.builder()
+                    .status("error")
+                    .output("")
+                    .runtime(0)
+                    .memory(0.0)
+                    .errorMessage("Kod bajarilmadi")
+                    .build();
+        }
+
+        String errorMessage = null;
+        if (!"success".equals(result.getStatus())) {
+            errorMessage = result.getStderr() == null || result.getStderr().isBlank()
+                    ? result.getStatus()
+                    : result.getStderr();
+        }
+
+        return RunCodeResponse.builder()
+                .status(result.getStatus())
+                .output(result.getStdout())
+                .stderr(result.getStderr())
+                .runtime((int) result.getRuntimeMs())
+                .memory(result.getMemoryMb())
+                .errorMessage(errorMessage)
+                .build();
+    }
 }
@@ -0,0 +1,120 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Masala bo'yicha submission/accepted hisoblagichlari (write-behind).
+ * Har bir natija xotiradagi LongAdder'ga qo'shiladi - submission problems qatorini qulflamaydi.
+ * Vaqti-vaqti bilan to'plangan farqlar bitta batch UPDATE (x = x + ?) bilan yoziladi,
+ * acceptance rate shu UPDATE ichida qayta hisoblanadi, so'ng katalog va masala sahifasi keshi yangilanadi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ProblemSubmissionCounters {
+
+    private static final String UPDATE_SQL = """
+            UPDATE problems SET
+                total_submissions = COALESCE(total_submissions, 0) + ?,
+                total_accepted = COALESCE(total_accepted, 0) + ?,
+                acceptance_rate = CASE WHEN COALESCE(total_submissions, 0) + ? > 0
+                    THEN ROUND((COALESCE(total_accepted, 0) + ?) * 1000.0 / (COALESCE(total_submissions, 0) + ?)) / 10.0
+                    ELSE 0 END
+            WHERE id = ?""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ProblemCatalogIndex problemCatalogIndex;
+    private final ProblemDetailCache problemDetailCache;
+
+    private final Map<Long, Counter> counters = new ConcurrentHashMap<>();
+
+    /**
+     * Yangi baholangan submission (rejudge emas)
+     */
+    public void recordSubmission(Long problemId, boolean accepted) {
+        Counter counter = counterFor(problemId);
+        // submissions avval: flush accepted'ni oldin o'qiydi, shuning uchun accepted hech qachon oldinda bo'lmaydi
+        counter.submissions.increment();
+        if (accepted) {
+            counter.accepted.increment();
+        }
+    }
+
+    /**
+     * Rejudge natijasi ACCEPTED'ga o'tdi (+1) yoki ACCEPTED'dan chiqdi (-1); submission soni o'zgarmaydi
+     */
+    public void recordAcceptedChange(Long problemId, int delta) {
+        counterFor(problemId).accepted.add(delta);
+    }
+
+    /**
+     * To'plangan farqlarni DB'ga yozish
+     */
+    @Scheduled(fixedDelayString = "${problems.counters.flush-interval-ms:15000}")
+    @PreDestroy
+    public synchronized void flush() {
+        List<Counter> pending = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Counter counter : counters.values()) {
+            // Hisoblagichlar hech qachon nolga tushirilmaydi - yozilgan qism ayiriladi, parallel qo'shilganlar yo'qolmaydi
+            long accepted = counter.accepted.sum() - counter.flushedAccepted;
+            long submissions = counter.submissions.sum() - counter.flushedSubmissions;
+            if (accepted == 0 && submissions == 0) {
+                continue;
+            }
+            counter.pendingAccepted = accepted;
+            counter.pendingSubmissions = submissions;
+            pending.add(counter);
+            batch.add(new Object[] {submissions, accepted, submissions, accepted, submissions, counter.problemId});
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+        } catch (RuntimeException e) {
+            // Farqlar saqlanib qoladi, keyingi flush qayta urinadi
+            log.warn("Failed to flush submission counters for {} problems: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        List<Long> problemIds = new ArrayList<>(pending.size());
+        for (Counter counter : pending) {
+            counter.flushedAccepted += counter.pendingAccepted;
+            counter.flushedSubmissions += counter.pendingSubmissions;
+            problemIds.add(counter.problemId);
+            problemDetailCache.evict(counter.problemId);
+        }
+        problemCatalogIndex.refresh(problemIds);
+        log.debug("Flushed submission counters for {} problems", problemIds.size());
+    }
+
+    private Counter counterFor(Long problemId) {
+        return counters.computeIfAbsent(problemId, Counter::new);
+    }
+
+    @RequiredArgsConstructor
+    private static final class Counter {
+        private final Long problemId;
+        private final LongAdder submissions = new LongAdder();
+        private final LongAdder accepted = new LongAdder();
+        // Faqat flush() ichida (synchronized) o'zgaradi
+        private long flushedSubmissions;
+        private long flushedAccepted;
+        private long pendingSubmissions;
+        private long pendingAccepted;
+    }
+}
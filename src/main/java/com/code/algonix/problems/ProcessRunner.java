@@ -0,0 +1,195 @@
+package com.code.algonix.problems;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Bitta jarayonni limitlar bilan ishga tushirish:
+ * - stdin parallel yoziladi, stdout/stderr parallel o'qiladi (pipe to'lib qolmasligi uchun)
+ * - output limitdan oshsa jarayon to'xtatiladi
+ * - Linux'da eng yuqori xotira (VmHWM) /proc orqali o'lchanadi
+ */
+public final class ProcessRunner {
+
+    private static final long MEMORY_SAMPLE_INTERVAL_MS = 5;
+
+    private ProcessRunner() {
+    }
+
+    /**
+     * Jarayon natijasi
+     */
+    @Getter
+    @Builder
+    public static class Result {
+        private final int exitCode;
+        private final String stdout;
+        private final String stderr;
+        private final long runtimeMs;
+        private final long peakMemoryKb;
+        private final boolean timedOut;
+        private final boolean outputLimitExceeded;
+
+        public boolean isSuccess() {
+            return !timedOut && !outputLimitExceeded && exitCode == 0;
+        }
+
+        public double getPeakMemoryMb() {
+            return peakMemoryKb / 1024.0;
+        }
+    }
+
+    public static Result run(List<String> command, Path workDir, String stdin,
+                             long timeoutMs, int maxOutputBytes) throws IOException, InterruptedException {
+        ProcessBuilder pb = new ProcessBuilder(command);
+        pb.directory(workDir.toFile());
+
+        long startTime = System.nanoTime();
+        Process process = pb.start();
+
+        // Har qanday chiqishda (interrupt, cancel(true), shutdown) jarayon to'xtatiladi - foydalanuvchi dasturi qolib ketmaydi
+        try {
+            BoundedCollector stdout = new BoundedCollector(process.getInputStream(), maxOutputBytes, process);
+            BoundedCollector stderr = new BoundedCollector(process.getErrorStream(), maxOutputBytes, process);
+            Thread stdoutReader = Thread.ofVirtual().start(stdout);
+            Thread stderrReader = Thread.ofVirtual().start(stderr);
+
+            // stdin ham alohida thread'da: jarayon o'qimasa pipe to'lib yozish bloklanadi, deadline esa baribir ishlaydi
+            byte[] input = stdin == null ? new byte[0] : stdin.getBytes(StandardCharsets.UTF_8);
+            Thread stdinWriter = Thread.ofVirtual().start(() -> writeStdin(process.getOutputStream(), input));
+
+            long deadline = startTime + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+            long peakMemoryKb = 0;
+            boolean finished = false;
+            while (!finished) {
+                peakMemoryKb = Math.max(peakMemoryKb, readPeakMemoryKb(process.pid()));
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    break;
+                }
+                finished = process.waitFor(Math.min(TimeUnit.NANOSECONDS.toMillis(remaining) + 1,
+                        MEMORY_SAMPLE_INTERVAL_MS), TimeUnit.MILLISECONDS);
+            }
+            long runtimeMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+            if (!finished) {
+                process.destroyForcibly();
+                process.waitFor(1, TimeUnit.SECONDS);
+            }
+            stdinWriter.join(1000);
+            stdoutReader.join(1000);
+            stderrReader.join(1000);
+
+            return Result.builder()
+                    .exitCode(finished ? process.exitValue() : -1)
+                    .stdout(stdout.asString())
+                    .stderr(stderr.asString())
+                    .runtimeMs(runtimeMs)
+                    .peakMemoryKb(peakMemoryKb)
+                    .timedOut(!finished && !stdout.isLimitExceeded() && !stderr.isLimitExceeded())
+                    .outputLimitExceeded(stdout.isLimitExceeded() || stderr.isLimitExceeded())
+                    .build();
+        } finally {
+            if (process.isAlive()) {
+                process.destroyForcibly();
+                awaitExit(process);
+            }
+        }
+    }
+
+    /**
+     * Majburan to'xtatilgan jarayonni qisqa kutish; interrupt holati saqlanadi (chaqiruvchi baribir InterruptedException oladi)
+     */
+    private static void awaitExit(Process process) {
+        boolean interrupted = Thread.interrupted();
+        try {
+            process.waitFor(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            interrupted = true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static void writeStdin(OutputStream stream, byte[] input) {
+        try (OutputStream in = stream) {
+            if (input.length > 0) {
+                in.write(input);
+            }
+        } catch (IOException e) {
+            // Jarayon stdin'ni o'qimasdan tugagan yoki to'xtatilgan (pipe yopildi)
+        }
+    }
+
+    /**
+     * /proc/{pid}/status dan VmHWM (peak RSS) ni o'qish; boshqa OS'larda 0
+     */
+    private static long readPeakMemoryKb(long pid) {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc", String.valueOf(pid), "status"))) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.substring(6).trim().split("\\s+")[0]);
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            // Jarayon tugagan yoki /proc mavjud emas
+        }
+        return 0;
+    }
+
+    /**
+     * Stream'ni limitgacha o'qiydi, limitdan oshsa jarayonni to'xtatadi
+     */
+    private static class BoundedCollector implements Runnable {
+        private final InputStream stream;
+        private final int limit;
+        private final Process process;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private volatile boolean limitExceeded;
+
+        BoundedCollector(InputStream stream, int limit, Process process) {
+            this.stream = stream;
+            this.limit = limit;
+            this.process = process;
+        }
+
+        @Override
+        public void run() {
+            byte[] chunk = new byte[8192];
+            try (InputStream in = stream) {
+                int read;
+                while ((read = in.read(chunk)) != -1) {
+                    int allowed = Math.min(read, limit - buffer.size());
+                    buffer.write(chunk, 0, allowed);
+                    if (allowed < read) {
+                        limitExceeded = true;
+                        process.destroyForcibly();
+                        return;
+                    }
+                }
+            } catch (IOException e) {
+                // Jarayon majburan to'xtatilganda stream yopiladi
+            }
+        }
+
+        boolean isLimitExceeded() {
+            return limitExceeded;
+        }
+
+        String asString() {
+            return buffer.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Masalaning mualliflik (reference) yechimi - time limitni kalibrlash
+ * va testlar yechiladigan ekanini tekshirish uchun
+ */
+@Entity
+@Table(name = "reference_solutions")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReferenceSolution {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reference_solutions_seq")
+    @SequenceGenerator(name = "reference_solutions_seq", sequenceName = "reference_solutions_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "problem_id", nullable = false)
+    private Problem problem;
+
+    @Column(nullable = false)
+    private String language; // python, javascript, java, cpp
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String code;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,82 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Submission'larni ommaviy qayta baholash (rejudge) vazifasi.
+ * lastSubmissionId - checkpoint: qayta ishga tushganda shu id'dan keyin davom etadi.
+ */
+@Entity
+@Table(name = "rejudge_jobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RejudgeJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Filtrlar (null - filtr yo'q)
+    private Long problemId;
+    private Long contestId;
+    private String language;
+
+    @Enumerated(EnumType.STRING)
+    private Submission.SubmissionStatus verdict;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    private Long maxSubmissionId; // job yaratilgandagi eng katta id - yangi submission'lar kirmaydi
+
+    @Builder.Default
+    private Long lastSubmissionId = 0L;
+
+    @Builder.Default
+    private Long totalCount = 0L;
+
+    @Builder.Default
+    private Long processedCount = 0L;
+
+    @Builder.Default
+    private Long changedCount = 0L;
+
+    @Builder.Default
+    private Long newlyAcceptedCount = 0L;
+
+    @Builder.Default
+    private Long failedCount = 0L;
+
+    private String createdBy;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED, CANCELLED
+    }
+}
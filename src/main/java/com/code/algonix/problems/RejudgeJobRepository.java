@@ -0,0 +1,44 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+@Repository
+public interface RejudgeJobRepository extends JpaRepository<RejudgeJob, Long> {
+    List<RejudgeJob> findAllByOrderByCreatedAtDesc();
+
+    List<RejudgeJob> findByStatusInOrderByIdAsc(Collection<RejudgeJob.Status> statuses);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RejudgeJob j SET j.status = 'RUNNING', j.startedAt = COALESCE(j.startedAt, :now) " +
+           "WHERE j.id = :id AND j.status IN :from")
+    int start(@Param("id") Long id, @Param("from") Collection<RejudgeJob.Status> from, @Param("now") LocalDateTime now);
+
+    // Checkpoint - status ustuniga tegmaydi (bekor qilish bilan to'qnashmasligi uchun)
+    @Modifying
+    @Transactional
+    @Query("UPDATE RejudgeJob j SET j.lastSubmissionId = :lastSubmissionId, " +
+           "j.processedCount = j.processedCount + :processed, j.changedCount = j.changedCount + :changed, " +
+           "j.newlyAcceptedCount = j.newlyAcceptedCount + :newlyAccepted, j.failedCount = j.failedCount + :failed " +
+           "WHERE j.id = :id")
+    int checkpoint(@Param("id") Long id, @Param("lastSubmissionId") Long lastSubmissionId,
+                   @Param("processed") long processed, @Param("changed") long changed,
+                   @Param("newlyAccepted") long newlyAccepted, @Param("failed") long failed);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE RejudgeJob j SET j.status = :status, j.message = :message, j.completedAt = :completedAt " +
+           "WHERE j.id = :id AND j.status IN :from")
+    int transition(@Param("id") Long id, @Param("from") Collection<RejudgeJob.Status> from,
+                   @Param("status") RejudgeJob.Status status, @Param("message") String message,
+                   @Param("completedAt") LocalDateTime completedAt);
+}
@@ -0,0 +1,253 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.code.algonix.contest.ContestService;
+import com.code.algonix.exception.InvalidInputException;
+import com.code.algonix.exception.ResourceNotFoundException;
+import com.code.algonix.exception.TooManyRequestsException;
+import com.code.algonix.user.UserSolvedStatsService;
+import com.code.algonix.user.UserStatistics;
+import com.code.algonix.user.UserStatisticsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Ommaviy rejudge: submission'lar DB'dan sahifalab (keyset) o'qiladi, kichik pool'da
+ * parallel baholanadi va har sahifadan keyin checkpoint saqlanadi.
+ * Jonli submission'lar (sinxron va asinxron) baholanayotgan paytda rejudge har bir submission oldidan kutib turadi.
+ * Contest ballari va foydalanuvchi statistikasi har sahifa uchun bir martada qayta hisoblanadi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class RejudgeService {
+
+    private static final List<RejudgeJob.Status> ACTIVE = List.of(RejudgeJob.Status.PENDING, RejudgeJob.Status.RUNNING);
+
+    private final RejudgeJobRepository jobRepository;
+    private final SubmissionRepository submissionRepository;
+    private final SubmissionService submissionService;
+    private final ContestService contestService;
+    private final UserStatisticsRepository userStatisticsRepository;
+    private final UserSolvedStatsService userSolvedStatsService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor rejudgeExecutor;
+    private final ThreadPoolTaskExecutor rejudgeWorkerExecutor;
+    private final LiveJudgeTracker liveJudgeTracker;
+
+    @Value("${judge.rejudge.page-size:50}")
+    private int pageSize;
+
+    @Value("${judge.rejudge.backoff-ms:500}")
+    private long backoffMs;
+
+    @Value("${judge.rejudge.max-live-judgings:2}")
+    private int maxLiveJudgings;
+
+    /**
+     * Yangi rejudge job yaratish va navbatga qo'yish
+     */
+    public RejudgeJob createJob(Long problemId, Long contestId, String language,
+                                Submission.SubmissionStatus verdict, String username) {
+        if (problemId == null && contestId == null) {
+            throw new InvalidInputException("problemId or contestId is required");
+        }
+        if (verdict == Submission.SubmissionStatus.PENDING) {
+            throw new InvalidInputException("PENDING submissions cannot be rejudged");
+        }
+
+        Long maxId = submissionRepository.findMaxId();
+        long maxSubmissionId = maxId != null ? maxId : 0L;
+        RejudgeJob job = jobRepository.save(RejudgeJob.builder()
+                .problemId(problemId)
+                .contestId(contestId)
+                .language(language)
+                .verdict(verdict)
+                .status(RejudgeJob.Status.PENDING)
+                .maxSubmissionId(maxSubmissionId)
+                .totalCount(submissionRepository.countForRejudge(maxSubmissionId, problemId, contestId, language, verdict))
+                .createdBy(username)
+                .build());
+
+        try {
+            rejudgeExecutor.execute(() -> runJob(job.getId()));
+        } catch (TaskRejectedException e) {
+            jobRepository.transition(job.getId(), ACTIVE, RejudgeJob.Status.FAILED,
+                    "Rejudge navbati to'lgan", LocalDateTime.now());
+            throw new TooManyRequestsException("Rejudge navbati to'lgan, keyinroq urinib ko'ring");
+        }
+        log.info("Rejudge job {} created by {}: {} submissions", job.getId(), username, job.getTotalCount());
+        return job;
+    }
+
+    public List<RejudgeJob> getJobs() {
+        return jobRepository.findAllByOrderByCreatedAtDesc();
+    }
+
+    public RejudgeJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Rejudge job not found: " + jobId));
+    }
+
+    /**
+     * Job'ni bekor qilish - joriy sahifa tugagach to'xtaydi
+     */
+    public RejudgeJob cancelJob(Long jobId) {
+        getJob(jobId);
+        if (jobRepository.transition(jobId, ACTIVE, RejudgeJob.Status.CANCELLED,
+                "Cancelled", LocalDateTime.now()) == 0) {
+            throw new InvalidInputException("Rejudge job is not active: " + jobId);
+        }
+        return getJob(jobId);
+    }
+
+    /**
+     * Restartdan keyin tugallanmagan job'larni checkpoint'dan davom ettirish
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeJobs() {
+        for (RejudgeJob job : jobRepository.findByStatusInOrderByIdAsc(ACTIVE)) {
+            log.info("Resuming rejudge job {} after submission {}", job.getId(), job.getLastSubmissionId());
+            rejudgeExecutor.execute(() -> runJob(job.getId()));
+        }
+    }
+
+    private void runJob(Long jobId) {
+        RejudgeJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || !ACTIVE.contains(job.getStatus())) {
+            return;
+        }
+        if (jobRepository.start(jobId, ACTIVE, LocalDateTime.now()) == 0) {
+            return;
+        }
+
+        long lastId = job.getLastSubmissionId();
+        try {
+            while (true) {
+                if (!isActive(jobId)) {
+                    log.info("Rejudge job {} stopped at submission {}", jobId, lastId);
+                    return;
+                }
+                waitForLiveTraffic();
+
+                List<Long> ids = submissionRepository.findIdsForRejudge(lastId, job.getMaxSubmissionId(),
+                        job.getProblemId(), job.getContestId(), job.getLanguage(), job.getVerdict(),
+                        PageRequest.of(0, pageSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                processPage(jobId, ids);
+                lastId = ids.get(ids.size() - 1);
+            }
+            jobRepository.transition(jobId, ACTIVE, RejudgeJob.Status.COMPLETED, null, LocalDateTime.now());
+            log.info("Rejudge job {} completed", jobId);
+        } catch (Exception e) {
+            log.error("Rejudge job {} failed", jobId, e);
+            jobRepository.transition(jobId, ACTIVE, RejudgeJob.Status.FAILED, e.getMessage(), LocalDateTime.now());
+        }
+    }
+
+    private void processPage(Long jobId, List<Long> ids) {
+        List<CompletableFuture<SubmissionService.RejudgeOutcome>> futures = ids.stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> {
+                    waitForLiveTrafficUninterruptedly();
+                    return submissionService.rejudge(id);
+                }, rejudgeWorkerExecutor))
+                .toList();
+
+        long changed = 0;
+        long newlyAccepted = 0;
+        long failed = 0;
+        Set<Long> affectedUsers = new HashSet<>();
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                SubmissionService.RejudgeOutcome outcome = futures.get(i).join();
+                if (outcome.isChanged()) {
+                    changed++;
+                    affectedUsers.add(outcome.getUserId());
+                }
+                if (outcome.isNewlyAccepted()) {
+                    newlyAccepted++;
+                }
+            } catch (Exception e) {
+                failed++;
+                log.warn("Rejudge of submission {} failed: {}", ids.get(i), e.getMessage());
+            }
+        }
+
+        // Ball guruh natijalariga bog'liq - status o'zgarmasa ham qayta hisoblanadi
+        contestService.rescoreSubmissions(ids);
+        if (!affectedUsers.isEmpty()) {
+            recalculateUserStatistics(affectedUsers);
+        }
+
+        jobRepository.checkpoint(jobId, ids.get(ids.size() - 1), ids.size(), changed, newlyAccepted, failed);
+    }
+
+    /**
+     * Yechilgan masalalar soni va acceptance rate - bir sahifadagi foydalanuvchilar uchun ikki so'rovda
+     */
+    private void recalculateUserStatistics(Collection<Long> userIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<Long, Map<Problem.Difficulty, Integer>> solved = new HashMap<>();
+            for (Object[] row : submissionRepository.countSolvedByDifficultyForUsers(userIds)) {
+                solved.computeIfAbsent((Long) row[0], id -> new HashMap<>())
+                        .put((Problem.Difficulty) row[1], ((Number) row[2]).intValue());
+            }
+            Map<Long, Double> acceptanceRates = new HashMap<>();
+            for (Object[] row : submissionRepository.countSubmissionsForUsers(userIds)) {
+                long total = ((Number) row[1]).longValue();
+                long accepted = row[2] != null ? ((Number) row[2]).longValue() : 0;
+                acceptanceRates.put((Long) row[0], total > 0 ? Math.round(accepted * 1000.0 / total) / 10.0 : 0.0);
+            }
+
+            List<UserStatistics> statistics = userStatisticsRepository.findByUserIdIn(userIds);
+            for (UserStatistics stats : statistics) {
+                userSolvedStatsService.resync(stats, solved.getOrDefault(stats.getUser().getId(), Map.of()));
+                stats.setAcceptanceRate(acceptanceRates.getOrDefault(stats.getUser().getId(), 0.0));
+            }
+            userStatisticsRepository.saveAll(statistics);
+        });
+    }
+
+    /**
+     * Jonli submission'lar soni limitdan kamayguncha kutish - rejudge ularni siqib chiqarmasin
+     */
+    private void waitForLiveTraffic() throws InterruptedException {
+        while (liveJudgeTracker.inFlight() >= maxLiveJudgings) {
+            Thread.sleep(backoffMs);
+        }
+    }
+
+    private void waitForLiveTrafficUninterruptedly() {
+        try {
+            waitForLiveTraffic();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isActive(Long jobId) {
+        return jobRepository.findById(jobId)
+                .map(job -> job.getStatus() == RejudgeJob.Status.RUNNING)
+                .orElse(false);
+    }
+}
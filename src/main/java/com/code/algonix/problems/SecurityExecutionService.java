@@ -4,12 +4,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
 
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -17,8 +24,64 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class SecurityExecutionService {
 
+    static final Map<String, List<String>> DEFAULT_PATTERNS = Map.of(
+        "java", List.of(
+            "Runtime.getRuntime()", "ProcessBuilder", "System.exit",
+            "File.delete", "Files.delete", "FileWriter", "FileOutputStream",
+            "Socket", "ServerSocket", "URL", "URLConnection",
+            "Class.forName", "Method.invoke", "Field.set"
+        ),
+        "python", List.of(
+            "import os", "import subprocess",
+            "exec(", "eval(", "__import__", "open(",
+            "file(", "raw_input(", "compile(",
+            "globals(", "locals(", "vars(", "dir("
+        ),
+        "javascript", List.of(
+            "import(", "eval(", "new Function(",
+            "setTimeout", "setInterval", "process.exit",
+            "path.", "os.", "child_process",
+            "http.", "https.", "net.", "url."
+        ),
+        "cpp", List.of(
+            "#include <cstdlib>", "#include <system>", "system(",
+            "exec(", "fork(", "clone(", "exit(",
+            "abort(", "terminate(", "quick_exit("
+        ),
+        "c", List.of(
+            "#include <stdlib.h>", "#include <unistd.h>", "system(",
+            "exec(", "fork(", "exit(", "abort(", "malloc("
+        ),
+        "general", List.of(
+            "http://", "https://", "ftp://", "file://",
+            "../", "..\\", "/etc/", "C:\\Windows",
+            "rm ", "del ", "format ", "shutdown", "reboot"
+        ),
+        // SimpleJudgeService - to'liq dasturlar uchun
+        "judge", List.of(
+            "system(", "exec(", "popen(", "fork(", "kill(",
+            "remove(", "unlink(", "rmdir(", "mkdir(",
+            "#include <windows.h>", "#include <unistd.h>",
+            "Runtime.getRuntime()", "ProcessBuilder",
+            "import os", "import subprocess", "import sys",
+            "__import__"
+        ),
+        "judge-javascript", List.of(
+            "require('fs')", "require('child_process')", "require('os')",
+            "require(\"fs\")", "require(\"child_process\")", "require(\"os\")",
+            "process.exit", "process.kill", "child_process",
+            "fs.writeFile", "fs.readFile", "fs.unlink",
+            "\\beval(", "new Function("
+        )
+    );
+
+    private final Environment environment;
+
+    private volatile Map<String, PatternScanner> scanners = Map.of();
+
     /**
      * Vaqtinchalik papkani xavfsiz qilish
      */
@@ -103,80 +166,42 @@ public class SecurityExecutionService {
      */
     public boolean isCodeSafe(String code, String language) {
         // Til-specific xavfli pattern'lar
-        return switch (language.toLowerCase()) {
-            case "java" -> isJavaCodeSafe(code);
-            case "python", "py" -> isPythonCodeSafe(code);
-            case "javascript", "js" -> isJavaScriptCodeSafe(code);
-            case "cpp", "c++" -> isCppCodeSafe(code);
-            case "c" -> isCCodeSafe(code);
-            default -> isGeneralCodeSafe(code);
+        String set = switch (language.toLowerCase()) {
+            case "java" -> "java";
+            case "python", "py" -> "python";
+            case "javascript", "js" -> "javascript";
+            case "cpp", "c++" -> "cpp";
+            case "c" -> "c";
+            default -> "general";
         };
+        return findDangerousPattern(code, set).isEmpty();
     }
 
-    private boolean isJavaCodeSafe(String code) {
-        String[] javaUnsafe = {
-            "Runtime.getRuntime()", "ProcessBuilder", "System.exit",
-            "File.delete", "Files.delete", "FileWriter", "FileOutputStream",
-            "Socket", "ServerSocket", "URL", "URLConnection",
-            "Class.forName", "Method.invoke", "Field.set"
-        };
-        return !containsAny(code, javaUnsafe);
-    }
-
-    private boolean isPythonCodeSafe(String code) {
-        String[] pythonUnsafe = {
-            "import os", "import subprocess", 
-            "exec(", "eval(", "__import__", "open(",
-            "file(", "raw_input(", "compile(",
-            "globals(", "locals(", "vars(", "dir("
-        };
-        return !containsAny(code, pythonUnsafe);
-    }
-
-    private boolean isJavaScriptCodeSafe(String code) {
-        String[] jsUnsafe = {
-            "import(", "eval(", "Function(",
-            "setTimeout", "setInterval", "process.exit",
-            "path.", "os.", "child_process",
-            "http.", "https.", "net.", "url."
-        };
-        return !containsAny(code, jsUnsafe);
-    }
-
-    private boolean isCppCodeSafe(String code) {
-        String[] cppUnsafe = {
-            "#include <cstdlib>", "#include <system>", "system(",
-            "exec(", "fork(", "clone(", "exit(",
-            "abort(", "terminate(", "quick_exit("
-        };
-        return !containsAny(code, cppUnsafe);
-    }
-
-    private boolean isCCodeSafe(String code) {
-        String[] cUnsafe = {
-            "#include <stdlib.h>", "#include <unistd.h>", "system(",
-            "exec(", "fork(", "exit(", "abort(", "malloc("
-        };
-        return !containsAny(code, cUnsafe);
-    }
-
-    private boolean isGeneralCodeSafe(String code) {
-        String[] generalUnsafe = {
-            "http://", "https://", "ftp://", "file://",
-            "../", "..\\", "/etc/", "C:\\Windows",
-            "rm ", "del ", "format ", "shutdown", "reboot"
-        };
-        return !containsAny(code, generalUnsafe);
+    /**
+     * Berilgan pattern to'plami bo'yicha birinchi xavfli moslik (kod bir marta o'tiladi)
+     */
+    public Optional<PatternScanner.Match> findDangerousPattern(String code, String set) {
+        PatternScanner scanner = scanners.get(set);
+        if (scanner == null) {
+            throw new IllegalArgumentException("Unknown pattern set: " + set);
+        }
+        Optional<PatternScanner.Match> match = scanner.findFirst(code);
+        match.ifPresent(m -> log.warn("Xavfli pattern aniqlandi ({}): {} at {}", set, m.pattern(), m.start()));
+        return match;
     }
 
-    private boolean containsAny(String code, String[] patterns) {
-        String lowerCode = code.toLowerCase();
-        for (String pattern : patterns) {
-            if (lowerCode.contains(pattern.toLowerCase())) {
-                log.warn("Xavfli pattern aniqlandi: {}", pattern);
-                return true;
-            }
-        }
-        return false;
+    /**
+     * Pattern to'plamlari - judge.security.patterns.<set> (vergul bilan) default ro'yxatni almashtiradi
+     */
+    @PostConstruct
+    public void buildScanners() {
+        Map<String, PatternScanner> built = new HashMap<>();
+        DEFAULT_PATTERNS.forEach((set, defaults) -> {
+            String[] configured = environment.getProperty("judge.security.patterns." + set, String[].class);
+            List<String> patterns = configured != null ? List.of(configured) : defaults;
+            built.put(set, new PatternScanner(patterns));
+        });
+        scanners = Map.copyOf(built);
+        log.debug("Security pattern scanners built: {}", scanners.keySet());
     }
-}
\ No newline at end of file
+}
@@ -25,6 +25,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class SimpleJudgeService implements CodeExecutionService {
 
+    private final JudgeCalibrationService calibrationService;
+    private final LanguageDriverRegistry languageDriverRegistry;
+    private final SecurityExecutionService securityService;
+
     @Value("${judge.timeout-seconds:5}")
     private int timeoutSeconds;
     
@@ -73,11 +77,9 @@ public class SimpleJudgeService implements CodeExecutionService {
             
             // Tilga qarab bajarish (finalCode ishlatamiz)
             return switch (language.toLowerCase()) {
-                case "cpp", "c++" -> executeCpp(finalCode, testCases, workDir);
-                case "c" -> executeC(finalCode, testCases, workDir);
+                case "cpp", "c++", "c", "python", "python3", "py", "javascript", "js" ->
+                    executeWithDriver(finalCode, language, null, testCases, workDir);
                 case "java" -> executeJava(finalCode, testCases, workDir);
-                case "python", "python3", "py" -> executePython(finalCode, testCases, workDir);
-                case "javascript", "js" -> executeJavaScript(finalCode, testCases, workDir);
                 case "csharp", "c#", "cs" -> executeCSharp(finalCode, testCases, workDir);
                 case "go", "golang" -> executeGo(finalCode, testCases, workDir);
                 case "rust", "rs" -> executeRust(finalCode, testCases, workDir);
@@ -106,35 +108,20 @@ public class SimpleJudgeService implements CodeExecutionService {
     }
     
     /**
-     * C++ kod bajarish
+     * Umumiy drayver (LanguageDriverRegistry) orqali kompilyatsiya va bajarish
      */
-    private ExecutionResult executeCpp(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        // 1. Kod faylini yaratish
-        Path sourceFile = workDir.resolve("solution.cpp");
-        Files.writeString(sourceFile, code);
-        
-        // 2. Compile qilish
-        Path executableFile = workDir.resolve("solution");
-        ProcessBuilder compileBuilder = new ProcessBuilder(
-            "g++", "-o", executableFile.toString(), 
-            sourceFile.toString(), 
-            "-std=c++17", "-O2"
-        );
-        compileBuilder.directory(workDir.toFile());
-        compileBuilder.redirectErrorStream(true);
-        
-        Process compileProcess = compileBuilder.start();
-        boolean compileFinished = compileProcess.waitFor(10, TimeUnit.SECONDS);
-        
-        if (!compileFinished || compileProcess.exitValue() != 0) {
-            String compileError = readProcessOutput(compileProcess.getInputStream());
-            return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Compile xatosi:\n" + compileError);
+    private ExecutionResult executeWithDriver(String code, String language, String mainName,
+                                              List<TestCase> testCases, Path workDir) throws Exception {
+        LanguageDriver driver = languageDriverRegistry.find(language).orElse(null);
+        if (driver == null) {
+            return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Toolchain o'rnatilmagan: " + language);
         }
         
-        log.debug("C++ compilation successful");
-        
-        // 3. Test case'lar bilan tekshirish
-        return runTestCases(new String[]{executableFile.toString()}, testCases, workDir);
+        LanguageDriver.Program program = languageDriverRegistry.prepare(driver, code, workDir, mainName);
+        if (program.compileError() != null) {
+            return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Compile xatosi:\n" + program.compileError());
+        }
+        return runTestCases(program.command().toArray(String[]::new), testCases, workDir);
     }
     
     /**
@@ -146,75 +133,18 @@ public class SimpleJudgeService implements CodeExecutionService {
         if (className == null) {
             return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Java class nomi topilmadi");
         }
-        
-        Path sourceFile = workDir.resolve(className + ".java");
-        Files.writeString(sourceFile, code);
-        
-        // Compile
-        ProcessBuilder compileBuilder = new ProcessBuilder("javac", sourceFile.toString());
-        compileBuilder.directory(workDir.toFile());
-        compileBuilder.redirectErrorStream(true);
-        
-        Process compileProcess = compileBuilder.start();
-        boolean compileFinished = compileProcess.waitFor(15, TimeUnit.SECONDS);
-        
-        if (!compileFinished || compileProcess.exitValue() != 0) {
-            String compileError = readProcessOutput(compileProcess.getInputStream());
-            return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Compile xatosi:\n" + compileError);
-        }
-        
-        // Run
-        String[] command = {"java", "-cp", workDir.toString(), className};
-        return runTestCases(command, testCases, workDir);
-    }
-    
-    /**
-     * Python kod bajarish
-     */
-    private ExecutionResult executePython(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path sourceFile = workDir.resolve("solution.py");
-        Files.writeString(sourceFile, code);
-        
-        String[] command = {"python", sourceFile.toString()};
-        return runTestCases(command, testCases, workDir);
+        return executeWithDriver(code, "java", className, testCases, workDir);
     }
     
     /**
-     * JavaScript kod bajarish
+     * Masala time limiti node tezligiga moslangan holda (tilga bog'liq bo'lmagan node factor)
      */
-    private ExecutionResult executeJavaScript(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path sourceFile = workDir.resolve("solution.js");
-        Files.writeString(sourceFile, code);
-        
-        String[] command = {"node", sourceFile.toString()};
-        return runTestCases(command, testCases, workDir);
-    }
-    
-    /**
-     * C kod bajarish
-     */
-    private ExecutionResult executeC(String code, List<TestCase> testCases, Path workDir) throws Exception {
-        Path sourceFile = workDir.resolve("solution.c");
-        Files.writeString(sourceFile, code);
-        
-        Path executableFile = workDir.resolve("solution");
-        ProcessBuilder compileBuilder = new ProcessBuilder(
-            "gcc", "-o", executableFile.toString(), 
-            sourceFile.toString(), 
-            "-std=c11", "-O2"
-        );
-        compileBuilder.directory(workDir.toFile());
-        compileBuilder.redirectErrorStream(true);
-        
-        Process compileProcess = compileBuilder.start();
-        boolean compileFinished = compileProcess.waitFor(10, TimeUnit.SECONDS);
-        
-        if (!compileFinished || compileProcess.exitValue() != 0) {
-            String compileError = readProcessOutput(compileProcess.getInputStream());
-            return createErrorResult(ExecutionStatus.COMPILE_ERROR, "Compile xatosi:\n" + compileError);
+    private long resolveTimeLimitMs(TestCase testCase) {
+        Problem problem = testCase.getProblem();
+        if (problem == null || problem.getTimeLimitMs() == null) {
+            return timeoutSeconds * 1000L;
         }
-        
-        return runTestCases(new String[]{executableFile.toString()}, testCases, workDir);
+        return calibrationService.scaleTimeLimit(problem.getTimeLimitMs(), null);
     }
     
     /**
@@ -227,6 +157,7 @@ public class SimpleJudgeService implements CodeExecutionService {
         for (int i = 0; i < testCases.size(); i++) {
             TestCase testCase = testCases.get(i);
             log.debug("Running test case {}: input={}", i + 1, testCase.getInput());
+            long timeLimitMs = resolveTimeLimitMs(testCase);
             
             try {
                 // Process yaratish
@@ -243,7 +174,7 @@ public class SimpleJudgeService implements CodeExecutionService {
                 }
                 
                 // Timeout bilan kutish
-                boolean finished = process.waitFor(timeoutSeconds, TimeUnit.SECONDS);
+                boolean finished = process.waitFor(timeLimitMs, TimeUnit.MILLISECONDS);
                 
                 if (!finished) {
                     process.destroyForcibly();
@@ -254,7 +185,7 @@ public class SimpleJudgeService implements CodeExecutionService {
                         .input(testCase.getInput())
                         .expectedOutput(testCase.getExpectedOutput())
                         .actualOutput("")
-                        .errorMessage("Vaqt tugadi (" + timeoutSeconds + "s)")
+                        .errorMessage("Vaqt tugadi (" + timeLimitMs + "ms)")
                         .build();
                     results.add(result);
                     continue;
@@ -360,13 +291,13 @@ public class SimpleJudgeService implements CodeExecutionService {
     /**
      * Output'larni taqqoslash
      */
-    private boolean compareOutputs(String expected, String actual) {
+    boolean compareOutputs(String expected, String actual) {
         expected = normalizeOutput(expected);
         actual = normalizeOutput(actual);
         return expected.equals(actual);
     }
     
-    private String normalizeOutput(String output) {
+    String normalizeOutput(String output) {
         if (output == null) return "";
         
         // Trailing whitespace'larni olib tashlash
@@ -620,7 +551,7 @@ public class SimpleJudgeService implements CodeExecutionService {
     /**
      * Funksiya kodini to'liq dasturga aylantirish
      */
-    private String wrapFunctionCode(String userCode, String language, Long problemId) {
+    String wrapFunctionCode(String userCode, String language, Long problemId) {
         if (problemId == null) {
             problemId = 4L; // Default: Even or Odd
         }
@@ -879,60 +810,13 @@ public class SimpleJudgeService implements CodeExecutionService {
     }
 
     /**
-     * Xavfli kod tekshirish
-     */
-    private boolean containsDangerousCode(String code, String language) {
-        // JavaScript uchun maxsus tekshirish
-        if ("javascript".equals(language.toLowerCase()) || "js".equals(language.toLowerCase())) {
-            return containsJavaScriptDangerousCode(code);
-        }
-        
-        String[] dangerousPatterns = {
-            "system(", "exec(", "popen(", "fork(", "kill(",
-            "remove(", "unlink(", "rmdir(", "mkdir(",
-            "#include <windows.h>", "#include <unistd.h>",
-            "Runtime.getRuntime()", "ProcessBuilder",
-            "import os", "import subprocess", "import sys",
-            "__import__"
-        };
-        
-        String lowerCode = code.toLowerCase();
-        for (String pattern : dangerousPatterns) {
-            if (lowerCode.contains(pattern.toLowerCase())) {
-                log.warn("Dangerous code detected: {}", pattern);
-                return true;
-            }
-        }
-        
-        return false;
-    }
-    
-    /**
-     * JavaScript uchun xavfli kod tekshirish
+     * Xavfli kod tekshirish - bitta o'tishda (PatternScanner)
      */
-    private boolean containsJavaScriptDangerousCode(String code) {
-        String[] jsDangerousPatterns = {
-            "require('fs')", "require('child_process')", "require('os')",
-            "require(\"fs\")", "require(\"child_process\")", "require(\"os\")",
-            "process.exit", "process.kill", "child_process",
-            "fs.writeFile", "fs.readFile", "fs.unlink"
-        };
-        
-        String lowerCode = code.toLowerCase();
-        for (String pattern : jsDangerousPatterns) {
-            if (lowerCode.contains(pattern.toLowerCase())) {
-                log.warn("Dangerous JavaScript code detected: {}", pattern);
-                return true;
-            }
-        }
-        
-        // eval( va Function( ni aniq tekshirish
-        if (lowerCode.matches(".*\\beval\\s*\\(.*") || lowerCode.matches(".*\\bFunction\\s*\\(.*")) {
-            log.warn("Dangerous JavaScript code detected: eval() or Function()");
-            return true;
-        }
-        
-        return false;
+    boolean containsDangerousCode(String code, String language) {
+        String lang = language.toLowerCase();
+        // JavaScript uchun maxsus to'plam
+        String set = "javascript".equals(lang) || "js".equals(lang) ? "judge-javascript" : "judge";
+        return securityService.findDangerousPattern(code, set).isPresent();
     }
     
     /**
@@ -955,7 +839,7 @@ public class SimpleJudgeService implements CodeExecutionService {
     /**
      * Process output'ini o'qish
      */
-    private String readProcessOutput(InputStream inputStream) throws IOException {
+    String readProcessOutput(InputStream inputStream) throws IOException {
         StringBuilder output = new StringBuilder();
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream))) {
             String line;
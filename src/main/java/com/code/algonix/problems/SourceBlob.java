@@ -0,0 +1,41 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Submission source kodi - sha-256 bo'yicha bir marta saqlanadi (bir xil kodlar bitta qatorni ulashadi).
+ * Thresholddan katta kod gzip qilinadi.
+ */
+@Entity
+@Table(name = "source_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SourceBlob {
+    @Id
+    @Column(length = 64)
+    private String hash; // sha-256, hex
+
+    @Column(columnDefinition = "BYTEA", nullable = false)
+    private byte[] content;
+
+    @Column(nullable = false)
+    private Boolean compressed;
+
+    private Integer originalLength; // baytlar soni
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.code.algonix.problems;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SourceBlobRepository extends JpaRepository<SourceBlob, String> {
+
+    // Parallel bir xil submission'lar bir-birini buzmasligi uchun - mavjud bo'lsa hech narsa qilmaydi
+    @Modifying
+    @Query(value = "INSERT INTO source_blobs (hash, content, compressed, original_length, created_at) " +
+                   "VALUES (:hash, :content, :compressed, :originalLength, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("hash") String hash, @Param("content") byte[] content,
+                       @Param("compressed") boolean compressed, @Param("originalLength") int originalLength);
+}
@@ -0,0 +1,56 @@
+package com.code.algonix.problems;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Source kodni content-addressed saqlash: kalit - sha-256, bir xil kod qayta yozilmaydi.
+ * Submission blob'ga LAZY havola qiladi, kod faqat kerak bo'lganda o'qiladi.
+ */
+@Service
+@RequiredArgsConstructor
+public class SourceCodeStorage {
+
+    private final SourceBlobRepository sourceBlobRepository;
+
+    @Value("${judge.source.compress-threshold-bytes:1024}")
+    private int compressThresholdBytes;
+
+    /**
+     * Kodni saqlash (mavjud bo'lsa qayta yozilmaydi) va unga havola qaytarish
+     */
+    public SourceBlob store(String code) {
+        byte[] bytes = code.getBytes(StandardCharsets.UTF_8);
+        String hash = sha256(bytes);
+        if (!sourceBlobRepository.existsById(hash)) {
+            boolean compress = bytes.length > compressThresholdBytes;
+            sourceBlobRepository.insertIfAbsent(hash, compress ? Gzip.compress(bytes) : bytes, compress, bytes.length);
+        }
+        return sourceBlobRepository.getReferenceById(hash);
+    }
+
+    public String read(SourceBlob blob) {
+        if (blob == null) {
+            return null;
+        }
+        if (Boolean.TRUE.equals(blob.getCompressed())) {
+            return Gzip.decompress(blob.getContent());
+        }
+        return new String(blob.getContent(), StandardCharsets.UTF_8);
+    }
+
+    static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
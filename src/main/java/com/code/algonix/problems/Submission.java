@@ -13,17 +13,21 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 @Entity
 @Table(name = "submissions")
@@ -33,7 +37,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class Submission {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submissions_seq")
+    @SequenceGenerator(name = "submissions_seq", sequenceName = "submissions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -44,8 +49,12 @@ public class Submission {
     @JoinColumn(name = "problem_id", nullable = false)
     private Problem problem;
 
-    @Column(columnDefinition = "TEXT", nullable = false)
-    private String code;
+    // Kod source_blobs'da (hash bo'yicha deduplikatsiya), faqat kerak bo'lganda yuklanadi
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "source_hash", nullable = false)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private SourceBlob source;
 
     @Column(nullable = false)
     private String language; // python, java, javascript, cpp
@@ -68,6 +77,14 @@ public class Submission {
     private Double memory; // MB
     private Double memoryPercentile; // 0-100
 
+    // Subtask (test guruhlari) bo'yicha ball - guruhsiz masalalarda null
+    private Integer score;
+    private Integer maxScore;
+
+    @OneToMany(cascade = CascadeType.ALL, orphanRemoval = true, mappedBy = "submission")
+    @Builder.Default
+    private List<TestGroupResult> groupResults = new ArrayList<>();
+
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
@@ -2,12 +2,15 @@ package com.code.algonix.problems;
 
 import com.code.algonix.problems.dto.SubmissionRequest;
 import com.code.algonix.problems.dto.SubmissionResponse;
+import com.code.algonix.problems.dto.TestOutputResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -18,14 +21,46 @@ import java.util.List;
 public class SubmissionController {
 
     private final SubmissionService submissionService;
+    private final IdempotencyService idempotencyService;
 
     @PostMapping
-    @Operation(summary = "Kod yuborish", description = "Masala uchun yechim yuborish")
+    @Operation(summary = "Kod yuborish", description = "Masala uchun yechim yuborish. "
+            + "Idempotency-Key bilan takroriy so'rov birinchi natijani qaytaradi")
     public ResponseEntity<SubmissionResponse> submitCode(
             @RequestBody SubmissionRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
         String username = authentication.getName();
-        return ResponseEntity.ok(submissionService.submitCode(request, username));
+        IdempotencyService.Result<SubmissionResponse> result = idempotencyService.execute(
+                "submit", username, idempotencyKey, request,
+                () -> submissionService.submitCode(request, username));
+        return ResponseEntity.ok()
+                .header(IdempotencyService.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.value());
+    }
+
+    @PostMapping("/async")
+    @Operation(summary = "Kodni navbatga yuborish",
+            description = "Darhol PENDING javob qaytaradi, natija /{id}/events orqali keladi")
+    public ResponseEntity<SubmissionResponse> submitCodeAsync(
+            @RequestBody SubmissionRequest request,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
+            Authentication authentication) {
+        String username = authentication.getName();
+        // Takroriy so'rov navbatga qayta qo'yilmaydi - birinchi submission ID qaytadi
+        IdempotencyService.Result<SubmissionResponse> result = idempotencyService.execute(
+                "submit-async", username, idempotencyKey, request,
+                () -> submissionService.submitCodeAsync(request, username));
+        return ResponseEntity.accepted()
+                .header(IdempotencyService.REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .body(result.value());
+    }
+
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Submission jarayonini real-time kuzatish (SSE)",
+            description = "queued, compiling, test va verdict eventlari")
+    public SseEmitter streamSubmissionEvents(@PathVariable Long id) {
+        return submissionService.streamSubmissionEvents(id);
     }
 
     @GetMapping("/{id}")
@@ -34,6 +69,13 @@ public class SubmissionController {
         return ResponseEntity.ok(submissionService.getSubmission(id));
     }
 
+    @GetMapping("/{id}/tests/{testCaseId}/output")
+    @Operation(summary = "Test natijasining to'liq input/output'i",
+            description = "Submission javobida uzun matnlar qisqartiriladi (truncated=true)")
+    public ResponseEntity<TestOutputResponse> getTestOutput(@PathVariable Long id, @PathVariable Long testCaseId) {
+        return ResponseEntity.ok(submissionService.getTestOutput(id, testCaseId));
+    }
+
     @GetMapping("/my")
     @Operation(summary = "O'z submissionlarimni ko'rish")
     public ResponseEntity<List<SubmissionResponse>> getMySubmissions(Authentication authentication) {
@@ -0,0 +1,220 @@
+package com.code.algonix.problems;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.code.algonix.problems.dto.SubmissionEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Submission natijalarini SSE orqali real-time yuborish.
+ * Kech ulangan client'lar uchun eventlar tarixi qisqa vaqt saqlanadi.
+ */
+@Service
+@Slf4j
+public class SubmissionEventService {
+
+    @Value("${submission.events.timeout-ms:120000}")
+    private long emitterTimeoutMs;
+
+    @Value("${submission.events.retention-ms:60000}")
+    private long retentionMs;
+
+    @Value("${submission.events.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    private final Map<Long, SubmissionStream> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Submission eventlariga obuna bo'lish.
+     * Agar submission allaqachon baholangan bo'lsa - darhol verdict yuboriladi.
+     */
+    public SseEmitter subscribe(Submission submission) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMs);
+        SubmissionStream stream = streams.get(submission.getId());
+
+        if (stream == null) {
+            if (submission.getStatus() != Submission.SubmissionStatus.PENDING) {
+                sendAndComplete(emitter, verdictEvent(submission));
+                return emitter;
+            }
+            stream = streams.computeIfAbsent(submission.getId(), id -> new SubmissionStream());
+        }
+
+        stream.attach(emitter);
+        return emitter;
+    }
+
+    /**
+     * Submission navbatga qo'yildi
+     */
+    public void publishQueued(Submission submission) {
+        publish(submission.getId(), SubmissionEvent.builder()
+                .type(SubmissionEvent.QUEUED)
+                .status(submission.getStatus().name())
+                .build());
+    }
+
+    /**
+     * Judge bosqichlarini SSE eventlariga aylantiruvchi listener
+     */
+    public JudgeProgressListener listenerFor(Long submissionId) {
+        return new JudgeProgressListener() {
+            @Override
+            public void onCompiling(String language) {
+                publish(submissionId, SubmissionEvent.builder()
+                        .type(SubmissionEvent.COMPILING)
+                        .message(language)
+                        .build());
+            }
+
+            @Override
+            public void onTestCompleted(int testNumber, int totalTests, CodeExecutionService.TestCaseResult result) {
+                publish(submissionId, SubmissionEvent.builder()
+                        .type(SubmissionEvent.TEST)
+                        .testNumber(testNumber)
+                        .totalTests(totalTests)
+                        .passed(result.isPassed())
+                        .status(result.getStatus().name())
+                        .runtime(result.getRuntime())
+                        .memory(result.getMemory())
+                        .build());
+            }
+        };
+    }
+
+    /**
+     * Yakuniy natija - stream yopiladi
+     */
+    public void publishVerdict(Submission submission) {
+        publish(submission.getId(), verdictEvent(submission));
+    }
+
+    private void publish(Long submissionId, SubmissionEvent event) {
+        event.setSubmissionId(submissionId);
+        event.setTimestamp(LocalDateTime.now());
+        streams.computeIfAbsent(submissionId, id -> new SubmissionStream()).publish(event);
+    }
+
+    private SubmissionEvent verdictEvent(Submission submission) {
+        return SubmissionEvent.builder()
+                .type(SubmissionEvent.VERDICT)
+                .submissionId(submission.getId())
+                .status(submission.getStatus().name())
+                .totalTests(submission.getTotalTestCases())
+                .passedTests(submission.getPassedTestCases())
+                .score(submission.getScore())
+                .passed(submission.getStatus() == Submission.SubmissionStatus.ACCEPTED)
+                .runtime(submission.getRuntime())
+                .memory(submission.getMemory())
+                .message(submission.getErrorMessage())
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * Tugagan stream'lar retention'dan keyin, verdict kelmagan (crash/restart) stream'lar esa
+     * oxirgi faollikdan idle-timeout o'tgach o'chiriladi
+     */
+    @Scheduled(fixedDelayString = "${submission.events.eviction-interval-ms:30000}")
+    public void evictExpiredStreams() {
+        long now = System.currentTimeMillis();
+        streams.entrySet().removeIf(entry -> {
+            SubmissionStream stream = entry.getValue();
+            if (stream.isExpired(now, retentionMs)) {
+                return true;
+            }
+            if (stream.isIdle(now, idleTimeoutMs)) {
+                stream.close();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private static boolean send(SseEmitter emitter, SubmissionEvent event) {
+        try {
+            emitter.send(SseEmitter.event().name(event.getType()).data(event));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE client disconnected: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private static void sendAndComplete(SseEmitter emitter, SubmissionEvent event) {
+        if (send(emitter, event)) {
+            emitter.complete();
+        }
+    }
+
+    /**
+     * Bitta submission uchun ulangan client'lar va eventlar tarixi
+     */
+    private static class SubmissionStream {
+        private final List<SseEmitter> emitters = new CopyOnWriteArrayList<>();
+        private final List<SubmissionEvent> history = new ArrayList<>();
+        private volatile long lastActivityAt = System.currentTimeMillis();
+        private volatile long finishedAt;
+
+        synchronized void attach(SseEmitter emitter) {
+            for (SubmissionEvent event : history) {
+                if (!send(emitter, event)) {
+                    return;
+                }
+            }
+            if (finishedAt > 0) {
+                emitter.complete();
+                return;
+            }
+            emitters.add(emitter);
+            emitter.onCompletion(() -> emitters.remove(emitter));
+            emitter.onTimeout(() -> emitters.remove(emitter));
+            emitter.onError(e -> emitters.remove(emitter));
+        }
+
+        synchronized void publish(SubmissionEvent event) {
+            if (finishedAt > 0) {
+                return;
+            }
+            history.add(event);
+            lastActivityAt = System.currentTimeMillis();
+            boolean terminal = SubmissionEvent.VERDICT.equals(event.getType());
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, event)) {
+                    emitters.remove(emitter);
+                } else if (terminal) {
+                    emitter.complete();
+                }
+            }
+            if (terminal) {
+                emitters.clear();
+                finishedAt = System.currentTimeMillis();
+            }
+        }
+
+        boolean isExpired(long now, long retentionMs) {
+            return finishedAt > 0 && now - finishedAt > retentionMs;
+        }
+
+        boolean isIdle(long now, long idleTimeoutMs) {
+            return finishedAt == 0 && now - lastActivityAt > idleTimeoutMs;
+        }
+
+        synchronized void close() {
+            emitters.forEach(SseEmitter::complete);
+            emitters.clear();
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package com.code.algonix.problems;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,19 +18,23 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     List<Submission> findByProblemIdOrderBySubmittedAtDesc(Long problemId);
     List<Submission> findByUserIdAndProblemId(Long userId, Long problemId);
     
+    // Masalalar ro'yxati overlay'i: [problemId, solved (0/1)] - faqat urinib ko'rilgan masalalar
+    @Query("SELECT s.problem.id, MAX(CASE WHEN s.status = 'ACCEPTED' THEN 1 ELSE 0 END) FROM Submission s " +
+           "WHERE s.user.id = :userId AND s.problem.id IN :problemIds GROUP BY s.problem.id")
+    List<Object[]> findProblemStatusesForUser(@Param("userId") Long userId, @Param("problemIds") Collection<Long> problemIds);
+    
     // Gamification support
     boolean existsByUserAndProblemAndStatus(UserEntity user, Problem problem, Submission.SubmissionStatus status);
     boolean existsByUserAndProblemAndStatusAndIdNot(UserEntity user, Problem problem, Submission.SubmissionStatus status, Long excludeId);
     
     // User statistics
-    @Query("SELECT COUNT(DISTINCT s.problem) FROM Submission s WHERE s.user = :user AND s.status = 'ACCEPTED'")
-    Long countSolvedProblemsByUser(@Param("user") UserEntity user);
-    
-    @Query("SELECT COUNT(DISTINCT s.problem) FROM Submission s WHERE s.user = :user AND s.status = 'ACCEPTED' AND s.problem.difficulty = :difficulty")
-    Long countSolvedProblemsByUserAndDifficulty(@Param("user") UserEntity user, @Param("difficulty") Problem.Difficulty difficulty);
+    // Solved hisoblagichlarini to'ldirish uchun: [difficulty, count] - bitta GROUP BY
+    @Query("SELECT s.problem.difficulty, COUNT(DISTINCT s.problem) FROM Submission s WHERE s.user = :user AND s.status = 'ACCEPTED' GROUP BY s.problem.difficulty")
+    List<Object[]> countSolvedProblemsByUserGroupedByDifficulty(@Param("user") UserEntity user);
     
-    @Query("SELECT COUNT(DISTINCT s.problem) FROM Submission s WHERE s.user = :user AND s.status = 'ACCEPTED' AND EXISTS (SELECT 1 FROM s.problem.categories c WHERE c = :category)")
-    Long countSolvedProblemsByUserAndCategory(@Param("user") UserEntity user, @Param("category") String category);
+    // [category, count] - foydalanuvchi yechgan masalalar category bo'yicha, bitta GROUP BY
+    @Query("SELECT c, COUNT(DISTINCT p) FROM Submission s JOIN s.problem p JOIN p.categories c WHERE s.user = :user AND s.status = 'ACCEPTED' GROUP BY c")
+    List<Object[]> countSolvedProblemsByUserGroupedByCategory(@Param("user") UserEntity user);
     
     // Admin panel uchun
     long countByStatus(Submission.SubmissionStatus status);
@@ -52,4 +58,37 @@ public interface SubmissionRepository extends JpaRepository<Submission, Long> {
     // Mavjud yillarni olish
     @Query("SELECT DISTINCT EXTRACT(YEAR FROM s.submittedAt) as year FROM Submission s WHERE s.status = 'ACCEPTED' AND s.submittedAt IS NOT NULL ORDER BY year DESC")
     List<Integer> findAvailableSubmissionYears();
+    
+    // Rejudge - keyset pagination (id > afterId), ixtiyoriy filtrlar
+    @Query("SELECT s.id FROM Submission s WHERE s.id > :afterId AND s.id <= :maxId AND s.status <> 'PENDING' " +
+           "AND (:problemId IS NULL OR s.problem.id = :problemId) " +
+           "AND (:language IS NULL OR s.language = :language) " +
+           "AND (:verdict IS NULL OR s.status = :verdict) " +
+           "AND (:contestId IS NULL OR EXISTS (SELECT 1 FROM ContestSubmission cs WHERE cs.submission = s AND cs.contest.id = :contestId)) " +
+           "ORDER BY s.id")
+    List<Long> findIdsForRejudge(@Param("afterId") Long afterId, @Param("maxId") Long maxId,
+                                 @Param("problemId") Long problemId, @Param("contestId") Long contestId,
+                                 @Param("language") String language, @Param("verdict") Submission.SubmissionStatus verdict,
+                                 Pageable pageable);
+    
+    @Query("SELECT COUNT(s) FROM Submission s WHERE s.id <= :maxId AND s.status <> 'PENDING' " +
+           "AND (:problemId IS NULL OR s.problem.id = :problemId) " +
+           "AND (:language IS NULL OR s.language = :language) " +
+           "AND (:verdict IS NULL OR s.status = :verdict) " +
+           "AND (:contestId IS NULL OR EXISTS (SELECT 1 FROM ContestSubmission cs WHERE cs.submission = s AND cs.contest.id = :contestId))")
+    long countForRejudge(@Param("maxId") Long maxId, @Param("problemId") Long problemId, @Param("contestId") Long contestId,
+                         @Param("language") String language, @Param("verdict") Submission.SubmissionStatus verdict);
+    
+    @Query("SELECT MAX(s.id) FROM Submission s")
+    Long findMaxId();
+    
+    // Foydalanuvchilar statistikasini guruhlab qayta hisoblash: [userId, difficulty, solvedCount]
+    @Query("SELECT s.user.id, s.problem.difficulty, COUNT(DISTINCT s.problem.id) FROM Submission s " +
+           "WHERE s.user.id IN :userIds AND s.status = 'ACCEPTED' GROUP BY s.user.id, s.problem.difficulty")
+    List<Object[]> countSolvedByDifficultyForUsers(@Param("userIds") Collection<Long> userIds);
+    
+    // [userId, totalSubmissions, acceptedSubmissions]
+    @Query("SELECT s.user.id, COUNT(s), SUM(CASE WHEN s.status = 'ACCEPTED' THEN 1 ELSE 0 END) FROM Submission s " +
+           "WHERE s.user.id IN :userIds GROUP BY s.user.id")
+    List<Object[]> countSubmissionsForUsers(@Param("userIds") Collection<Long> userIds);
 }
@@ -0,0 +1,128 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.code.algonix.problems.dto.SubmissionResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Judge natijalari mapping'i: engine natijasi -> TestResult entity'lari -> javob DTO.
+ * Faqat TestResultStorage'ga bog'liq - benchmark'da to'g'ridan-to'g'ri yaratiladi.
+ */
+@Component
+@RequiredArgsConstructor
+public class SubmissionResultMapper {
+
+    private final TestResultStorage testResultStorage;
+
+    /**
+     * Engine natijalarini TestResult entity'lariga aylantirish
+     */
+    public List<TestResult> toTestResults(Submission submission, Problem problem,
+                                         List<CodeExecutionService.TestCaseResult> caseResults) {
+        List<TestResult> testResults = new ArrayList<>();
+        for (CodeExecutionService.TestCaseResult tcResult : caseResults) {
+            TestCase testCase = problem.getTestCases().stream()
+                    .filter(tc -> tc.getId().equals(tcResult.getTestCaseId()))
+                    .findFirst()
+                    .orElse(null);
+
+            TestResult.TestStatus status = switch (tcResult.getStatus()) {
+                case ACCEPTED -> TestResult.TestStatus.PASSED;
+                case WRONG_ANSWER -> TestResult.TestStatus.FAILED;
+                case TIME_LIMIT_EXCEEDED -> TestResult.TestStatus.TIME_LIMIT_EXCEEDED;
+                case RUNTIME_ERROR -> TestResult.TestStatus.RUNTIME_ERROR;
+                case MEMORY_LIMIT_EXCEEDED -> TestResult.TestStatus.MEMORY_LIMIT_EXCEEDED;
+                default -> TestResult.TestStatus.FAILED;
+            };
+
+            TestResult result = TestResult.builder()
+                    .submission(submission)
+                    .testCase(testCase)
+                    .status(status)
+                    .runtime(tcResult.getRuntime())
+                    .memory(tcResult.getMemory())
+                    .errorMessage(tcResult.getErrorMessage())
+                    .build();
+            testResultStorage.storeActualOutput(result, tcResult.getActualOutput());
+            testResults.add(result);
+        }
+        return testResults;
+    }
+
+    private SubmissionResponse.TestResultDto toTestResultDto(TestResult tr) {
+        TestCase testCase = tr.getTestCase();
+        // Saqlangan nusxa (eski qatorlar) - aynan shu bilan baholangan; bo'lmasa joriy test case
+        String input = tr.getInput() != null ? tr.getInput() : testCase != null ? testCase.getInput() : null;
+        String expectedOutput = tr.getExpectedOutput() != null ? tr.getExpectedOutput()
+                : testCase != null ? testCase.getExpectedOutput() : null;
+        return SubmissionResponse.TestResultDto.builder()
+                .testCaseId(testCase != null ? testCase.getId() : null)
+                .status(tr.getStatus().name())
+                .runtime(tr.getRuntime())
+                .memory(tr.getMemory())
+                .input(testResultStorage.preview(input))
+                .expectedOutput(testResultStorage.preview(expectedOutput))
+                // O'tgan test chiqishi saqlanmaydi - u expected output bilan bir xil
+                .actualOutput(tr.getActualOutput() == null && tr.getStatus() == TestResult.TestStatus.PASSED
+                        ? testResultStorage.preview(expectedOutput) : testResultStorage.preview(tr.getActualOutput()))
+                .errorMessage(tr.getErrorMessage())
+                // Migratsiyadan oldingi qatorlarda to'liq chiqish actual_output'da qolgan - javobda preview
+                .truncated(Boolean.TRUE.equals(tr.getOutputTruncated())
+                        || testResultStorage.exceedsPreview(tr.getActualOutput())
+                        || testResultStorage.exceedsPreview(input)
+                        || testResultStorage.exceedsPreview(expectedOutput))
+                .build();
+    }
+
+    /**
+     * Submission -> javob DTO (code null bo'lsa kod qaytarilmaydi)
+     */
+    public SubmissionResponse toResponse(Submission submission, String code) {
+        List<SubmissionResponse.TestResultDto> testResults = submission.getTestResults().stream()
+                .map(this::toTestResultDto)
+                .collect(Collectors.toList());
+
+        SubmissionResponse.OverallStats stats = SubmissionResponse.OverallStats.builder()
+                .totalTestCases(submission.getTotalTestCases())
+                .passedTestCases(submission.getPassedTestCases())
+                .runtime(submission.getRuntime())
+                .runtimePercentile(submission.getRuntimePercentile())
+                .memory(submission.getMemory())
+                .memoryPercentile(submission.getMemoryPercentile())
+                .score(submission.getScore())
+                .maxScore(submission.getMaxScore())
+                .build();
+
+        List<SubmissionResponse.GroupResultDto> groupResults = submission.getGroupResults().isEmpty() ? null
+                : submission.getGroupResults().stream()
+                        .map(gr -> SubmissionResponse.GroupResultDto.builder()
+                                .name(gr.getGroupName())
+                                .status(gr.getStatus().name())
+                                .points(gr.getPoints())
+                                .earnedPoints(gr.getEarnedPoints())
+                                .testsRun(gr.getTestsRun())
+                                .totalTests(gr.getTotalTests())
+                                .build())
+                        .collect(Collectors.toList());
+
+        return SubmissionResponse.builder()
+                .submissionId(submission.getId())
+                .userId(submission.getUser().getId())
+                .problemId(submission.getProblem().getId())
+                .code(code)
+                .language(submission.getLanguage())
+                .status(submission.getStatus())
+                .testResults(testResults)
+                .groupResults(groupResults)
+                .overallStats(stats)
+                .submittedAt(submission.getSubmittedAt())
+                .judgedAt(submission.getJudgedAt())
+                .build();
+    }
+}
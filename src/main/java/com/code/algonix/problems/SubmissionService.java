@@ -5,20 +5,30 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.code.algonix.exception.ResourceNotFoundException;
 import com.code.algonix.gamification.RewardResult;
 import com.code.algonix.gamification.RewardService;
 import com.code.algonix.problems.dto.SubmissionRequest;
 import com.code.algonix.problems.dto.SubmissionResponse;
+import com.code.algonix.problems.dto.TestOutputResponse;
 import com.code.algonix.user.UserEntity;
 import com.code.algonix.user.UserRepository;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 @Service
+@Slf4j
 @RequiredArgsConstructor
 public class SubmissionService {
 
@@ -27,31 +37,30 @@ public class SubmissionService {
     private final UserRepository userRepository;
     private final RewardService rewardService;
     private final LeetCodeExecutionService leetCodeExecutionService;
+    private final PercentileService percentileService;
+    private final ProblemSubmissionCounters problemSubmissionCounters;
+    private final TestResultStorage testResultStorage;
+    private final SourceCodeStorage sourceCodeStorage;
+    private final SubmissionEventService submissionEventService;
+    private final LiveJudgeTracker liveJudgeTracker;
+    private final SubmissionResultMapper submissionResultMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor judgeExecutor;
 
     @Transactional
     public SubmissionResponse submitCode(SubmissionRequest request, String username) {
-        UserEntity user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-
-        Problem problem = problemRepository.findById(request.getProblemId())
-                .orElseThrow(() -> new ResourceNotFoundException("Problem not found"));
-
-        // Create submission
-        Submission submission = Submission.builder()
-                .user(user)
-                .problem(problem)
-                .code(request.getCode())
-                .language(request.getLanguage())
-                .status(Submission.SubmissionStatus.PENDING)
-                .testResults(new ArrayList<>())
-                .build();
+        Submission submission = createPendingSubmission(request, username);
+        submissionEventService.publishQueued(submission);
 
-        submission = submissionRepository.save(submission);
-
-        // Execute code synchronously (can be made async later)
-        RewardResult rewardResult = executeCode(submission, problem);
+        RewardResult rewardResult;
+        liveJudgeTracker.started();
+        try {
+            rewardResult = executeCode(submission, submission.getProblem());
+        } finally {
+            liveJudgeTracker.finished();
+        }
 
-        SubmissionResponse response = mapToSubmissionResponse(submission);
+        SubmissionResponse response = submissionResultMapper.toResponse(submission, request.getCode());
         
         // Add reward info if available
         if (rewardResult != null) {
@@ -72,53 +81,138 @@ public class SubmissionService {
         return response;
     }
 
+    /**
+     * Kodni navbatga qo'yib darhol PENDING javob qaytarish.
+     * Natijani GET /api/submissions/{id}/events orqali kuzatish mumkin.
+     */
+    public SubmissionResponse submitCodeAsync(SubmissionRequest request, String username) {
+        Submission submission = transactionTemplate.execute(status -> createPendingSubmission(request, username));
+        submissionEventService.publishQueued(submission);
+
+        Long submissionId = submission.getId();
+        // Navbatda turgani ham jonli yuklama hisoblanadi
+        liveJudgeTracker.started();
+        try {
+            judgeExecutor.execute(() -> judgeInBackground(submissionId));
+        } catch (TaskRejectedException e) {
+            liveJudgeTracker.finished();
+            log.warn("Judge queue is full, rejecting submission {}", submissionId);
+            submission.setStatus(Submission.SubmissionStatus.RUNTIME_ERROR);
+            submission.setErrorMessage("Judge navbati to'lgan, keyinroq qayta urinib ko'ring");
+            submission.setJudgedAt(LocalDateTime.now());
+            submissionRepository.save(submission);
+            submissionEventService.publishVerdict(submission);
+        }
+
+        return submissionResultMapper.toResponse(submission, request.getCode());
+    }
+
+    private void judgeInBackground(Long submissionId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Submission submission = submissionRepository.findById(submissionId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Submission not found"));
+                executeCode(submission, submission.getProblem());
+            });
+        } catch (Exception e) {
+            log.error("Background judging failed for submission {}", submissionId, e);
+        } finally {
+            liveJudgeTracker.finished();
+        }
+    }
+
+    private Submission createPendingSubmission(SubmissionRequest request, String username) {
+        UserEntity user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+
+        Problem problem = problemRepository.findById(request.getProblemId())
+                .orElseThrow(() -> new ResourceNotFoundException("Problem not found"));
+
+        Submission submission = Submission.builder()
+                .user(user)
+                .problem(problem)
+                .source(sourceCodeStorage.store(request.getCode()))
+                .language(request.getLanguage())
+                .status(Submission.SubmissionStatus.PENDING)
+                .testResults(new ArrayList<>())
+                .build();
+
+        return submissionRepository.save(submission);
+    }
+
+    /**
+     * Mavjud submission'ni qayta baholash (rejudge).
+     * Mukofot faqat yangi ACCEPTED uchun beriladi, percentile histogrammasi qayta to'ldirilmaydi.
+     */
+    public RejudgeOutcome rejudge(Long submissionId) {
+        return transactionTemplate.execute(status -> {
+            Submission submission = submissionRepository.findById(submissionId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Submission not found"));
+            Submission.SubmissionStatus previousStatus = submission.getStatus();
+            executeCode(submission, submission.getProblem(), true);
+            RejudgeOutcome outcome = new RejudgeOutcome(submissionId, submission.getUser().getId(),
+                    previousStatus, submission.getStatus());
+            boolean wasAccepted = previousStatus == Submission.SubmissionStatus.ACCEPTED;
+            boolean accepted = submission.getStatus() == Submission.SubmissionStatus.ACCEPTED;
+            if (wasAccepted != accepted) {
+                Long problemId = submission.getProblem().getId();
+                afterCommit(() -> problemSubmissionCounters.recordAcceptedChange(problemId, accepted ? 1 : -1));
+            }
+            return outcome;
+        });
+    }
+
     private RewardResult executeCode(Submission submission, Problem problem) {
+        return executeCode(submission, problem, false);
+    }
+
+    private RewardResult executeCode(Submission submission, Problem problem, boolean rejudge) {
         RewardResult rewardResult = null;
+        boolean wasAccepted = submission.getStatus() == Submission.SubmissionStatus.ACCEPTED;
         try {
             // LeetCode style kod bajarish
             CodeExecutionService.ExecutionResult executionResult = leetCodeExecutionService.executeCode(
-                    submission.getCode(),
+                    sourceCodeStorage.read(submission.getSource()),
                     submission.getLanguage(),
-                    problem.getTestCases()
+                    problem.getTestCases(),
+                    rejudge ? JudgeProgressListener.NONE : submissionEventService.listenerFor(submission.getId())
             );
 
-            // Map execution results to test results
-            List<TestResult> testResults = new ArrayList<>();
-            for (CodeExecutionService.TestCaseResult tcResult : executionResult.getTestResults()) {
-                TestCase testCase = problem.getTestCases().stream()
-                        .filter(tc -> tc.getId().equals(tcResult.getTestCaseId()))
-                        .findFirst()
-                        .orElse(null);
-
-                TestResult.TestStatus status = switch (tcResult.getStatus()) {
-                    case ACCEPTED -> TestResult.TestStatus.PASSED;
-                    case WRONG_ANSWER -> TestResult.TestStatus.FAILED;
-                    case TIME_LIMIT_EXCEEDED -> TestResult.TestStatus.TIME_LIMIT_EXCEEDED;
-                    case RUNTIME_ERROR -> TestResult.TestStatus.RUNTIME_ERROR;
-                    default -> TestResult.TestStatus.FAILED;
-                };
-
-                TestResult result = TestResult.builder()
-                        .submission(submission)
-                        .testCase(testCase)
-                        .status(status)
-                        .runtime(tcResult.getRuntime())
-                        .memory(tcResult.getMemory())
-                        .input(tcResult.getInput())
-                        .expectedOutput(tcResult.getExpectedOutput())
-                        .actualOutput(tcResult.getActualOutput())
-                        .errorMessage(tcResult.getErrorMessage())
-                        .build();
-                testResults.add(result);
-            }
+            List<TestResult> testResults = submissionResultMapper.toTestResults(submission, problem, executionResult.getTestResults());
 
             // Set submission results
-            submission.setTestResults(testResults);
+            // Managed kolleksiyani almashtirmasdan yangilash (orphanRemoval)
+            submission.getTestResults().clear();
+            submission.getTestResults().addAll(testResults);
             submission.setTotalTestCases(executionResult.getTotalTestCases());
             submission.setPassedTestCases(executionResult.getPassedTestCases());
             submission.setRuntime(executionResult.getAverageRuntime());
             submission.setMemory(executionResult.getAverageMemory());
             submission.setJudgedAt(LocalDateTime.now());
+            submission.setScore(executionResult.getScore());
+            submission.setMaxScore(executionResult.getMaxScore());
+
+            List<TestGroupResult> groupResults = new ArrayList<>();
+            if (executionResult.getGroupResults() != null) {
+                for (CodeExecutionService.GroupResult gr : executionResult.getGroupResults()) {
+                    TestGroup testGroup = problem.getTestGroups().stream()
+                            .filter(g -> g.getId().equals(gr.getGroupId()))
+                            .findFirst()
+                            .orElse(null);
+                    groupResults.add(TestGroupResult.builder()
+                            .submission(submission)
+                            .testGroup(testGroup)
+                            .groupName(gr.getName())
+                            .status(gr.getStatus())
+                            .points(gr.getPoints())
+                            .earnedPoints(gr.getEarnedPoints())
+                            .testsRun(gr.getTestsRun())
+                            .totalTests(gr.getTotalTests())
+                            .build());
+                }
+            }
+            submission.getGroupResults().clear();
+            submission.getGroupResults().addAll(groupResults);
 
             // Determine submission status
             Submission.SubmissionStatus submissionStatus = switch (executionResult.getStatus()) {
@@ -131,19 +225,30 @@ public class SubmissionService {
             };
             submission.setStatus(submissionStatus);
 
-            if (executionResult.getErrorMessage() != null) {
-                submission.setErrorMessage(executionResult.getErrorMessage());
-            }
+            // Rejudge'da eski xabar qolib ketmasligi uchun har doim yoziladi
+            submission.setErrorMessage(executionResult.getErrorMessage());
 
-            // Calculate percentiles (mock for now)
-            submission.setRuntimePercentile(85.2);
-            submission.setMemoryPercentile(72.5);
+            // Percentile'lar faqat qabul qilingan yechimlar orasida hisoblanadi
+            if (submissionStatus == Submission.SubmissionStatus.ACCEPTED) {
+                PercentileService.Percentiles percentiles = rejudge
+                        ? percentileService.percentilesFor(problem.getId(), submission.getLanguage(),
+                                executionResult.getAverageRuntime(), executionResult.getAverageMemory())
+                        : percentileService.recordAccepted(problem.getId(), submission.getLanguage(),
+                                executionResult.getAverageRuntime(), executionResult.getAverageMemory());
+                submission.setRuntimePercentile(percentiles.getRuntimePercentile());
+                submission.setMemoryPercentile(percentiles.getMemoryPercentile());
+            } else {
+                submission.setRuntimePercentile(null);
+                submission.setMemoryPercentile(null);
+            }
 
-            // Save submission first to get ID
+            // Submission qatori va barcha test natijalari flush'da yoziladi:
+            // ID'lar sequence'dan olingani uchun test natijalari bitta batch INSERT bo'lib ketadi
             submissionRepository.save(submission);
 
             // Process rewards if submission is accepted (AFTER saving submission)
-            if (submissionStatus == Submission.SubmissionStatus.ACCEPTED) {
+            // Rejudge'da allaqachon ACCEPTED bo'lgan submission uchun mukofot qayta berilmaydi
+            if (submissionStatus == Submission.SubmissionStatus.ACCEPTED && !wasAccepted) {
                 rewardResult = rewardService.processSuccessfulSubmission(
                     submission.getUser(), 
                     problem, 
@@ -152,19 +257,59 @@ public class SubmissionService {
             }
 
         } catch (Exception e) {
+            log.error("Judging failed for submission {}", submission.getId(), e);
             submission.setStatus(Submission.SubmissionStatus.RUNTIME_ERROR);
             submission.setErrorMessage("Kod bajarishda xato: " + e.getMessage());
             submission.setJudgedAt(LocalDateTime.now());
             submissionRepository.save(submission);
         }
 
+        if (!rejudge) {
+            boolean accepted = submission.getStatus() == Submission.SubmissionStatus.ACCEPTED;
+            afterCommit(() -> problemSubmissionCounters.recordSubmission(problem.getId(), accepted));
+            publishVerdictAfterCommit(submission);
+        }
         return rewardResult;
     }
 
+    /**
+     * Verdict faqat tranzaksiya commit bo'lgandan keyin yuboriladi,
+     * shunda client GET orqali yangilangan natijani ko'radi
+     */
+    private void publishVerdictAfterCommit(Submission submission) {
+        afterCommit(() -> submissionEventService.publishVerdict(submission));
+    }
+
+    /**
+     * Tranzaksiya commit bo'lgandan keyin (tranzaksiya bo'lmasa - darhol)
+     */
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Submission eventlariga SSE orqali obuna bo'lish
+     */
+    public SseEmitter streamSubmissionEvents(Long id) {
+        Submission submission = submissionRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Submission not found"));
+        return submissionEventService.subscribe(submission);
+    }
+
+    @Transactional(readOnly = true)
     public SubmissionResponse getSubmission(Long id) {
         Submission submission = submissionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Submission not found"));
-        return mapToSubmissionResponse(submission);
+        return submissionResultMapper.toResponse(submission, sourceCodeStorage.read(submission.getSource()));
     }
 
     public List<SubmissionResponse> getUserSubmissions(String username) {
@@ -173,44 +318,52 @@ public class SubmissionService {
 
         return submissionRepository.findByUserIdOrderBySubmittedAtDesc(user.getId())
                 .stream()
-                .map(this::mapToSubmissionResponse)
+                // Ro'yxatda kod qaytarilmaydi - source_blobs o'qilmaydi
+                .map(submission -> submissionResultMapper.toResponse(submission, null))
                 .collect(Collectors.toList());
     }
 
-    private SubmissionResponse mapToSubmissionResponse(Submission submission) {
-        List<SubmissionResponse.TestResultDto> testResults = submission.getTestResults().stream()
-                .map(tr -> SubmissionResponse.TestResultDto.builder()
-                        .testCaseId(tr.getTestCase() != null ? tr.getTestCase().getId() : null)
-                        .status(tr.getStatus().name())
-                        .runtime(tr.getRuntime())
-                        .memory(tr.getMemory())
-                        .input(tr.getInput())
-                        .expectedOutput(tr.getExpectedOutput())
-                        .actualOutput(tr.getActualOutput())
-                        .errorMessage(tr.getErrorMessage())
-                        .build())
-                .collect(Collectors.toList());
+    /**
+     * Test natijasining to'liq input, expected va actual output'i (javobda preview qaytadi)
+     */
+    @Transactional(readOnly = true)
+    public TestOutputResponse getTestOutput(Long submissionId, Long testCaseId) {
+        Submission submission = submissionRepository.findById(submissionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Submission not found"));
+        TestResult result = submission.getTestResults().stream()
+                .filter(tr -> tr.getTestCase() != null && tr.getTestCase().getId().equals(testCaseId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Test result not found: " + testCaseId));
 
-        SubmissionResponse.OverallStats stats = SubmissionResponse.OverallStats.builder()
-                .totalTestCases(submission.getTotalTestCases())
-                .passedTestCases(submission.getPassedTestCases())
-                .runtime(submission.getRuntime())
-                .runtimePercentile(submission.getRuntimePercentile())
-                .memory(submission.getMemory())
-                .memoryPercentile(submission.getMemoryPercentile())
+        return TestOutputResponse.builder()
+                .submissionId(submissionId)
+                .testCaseId(testCaseId)
+                .status(result.getStatus().name())
+                .input(result.getTestCase().getInput())
+                .expectedOutput(result.getTestCase().getExpectedOutput())
+                .actualOutput(result.getActualOutput() == null && result.getStatus() == TestResult.TestStatus.PASSED
+                        ? result.getTestCase().getExpectedOutput() : testResultStorage.readActualOutput(result))
                 .build();
+    }
 
-        return SubmissionResponse.builder()
-                .submissionId(submission.getId())
-                .userId(submission.getUser().getId())
-                .problemId(submission.getProblem().getId())
-                .code(submission.getCode())
-                .language(submission.getLanguage())
-                .status(submission.getStatus())
-                .testResults(testResults)
-                .overallStats(stats)
-                .submittedAt(submission.getSubmittedAt())
-                .judgedAt(submission.getJudgedAt())
-                .build();
+    /**
+     * Bitta submission rejudge natijasi
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class RejudgeOutcome {
+        private final Long submissionId;
+        private final Long userId;
+        private final Submission.SubmissionStatus previousStatus;
+        private final Submission.SubmissionStatus newStatus;
+
+        public boolean isChanged() {
+            return previousStatus != newStatus;
+        }
+
+        public boolean isNewlyAccepted() {
+            return newStatus == Submission.SubmissionStatus.ACCEPTED
+                    && previousStatus != Submission.SubmissionStatus.ACCEPTED;
+        }
     }
 }
@@ -1,10 +1,16 @@
 package com.code.algonix.problems;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.code.algonix.config.StartupReadiness;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +23,9 @@ public class SystemInfoController {
 
     private final ResourceMonitoringService resourceMonitoringService;
     private final CodeExecutionServiceSelector executionServiceSelector;
+    private final JudgeCalibrationService calibrationService;
+    private final LanguageDriverRegistry languageDriverRegistry;
+    private final StartupReadiness startupReadiness;
 
     @GetMapping("/stats")
     @Operation(summary = "Tizim statistikasini olish")
@@ -33,11 +42,27 @@ public class SystemInfoController {
                 .availableProcessors(stats.getAvailableProcessors())
                 .executionMethod(executionMethod)
                 .hasEnoughResources(resourceMonitoringService.hasEnoughResources())
+                .nodeSpeedFactor(calibrationService.getNodeSpeedFactor())
+                .speedFactors(calibrationService.getSpeedFactors())
+                .calibratedAt(calibrationService.getCalibratedAt())
                 .build();
         
         return ResponseEntity.ok(response);
     }
 
+    @GetMapping("/languages")
+    @Operation(summary = "Judge node'dagi til toolchain'lari (startupda aniqlangan)")
+    public ResponseEntity<Map<String, LanguageDriverRegistry.Toolchain>> getLanguages() {
+        return ResponseEntity.ok(languageDriverRegistry.getToolchains());
+    }
+
+    @GetMapping("/readiness")
+    @Operation(summary = "Startup ma'lumotlari yuklanganmi (yuklanayotgan bo'lsa 503)")
+    public ResponseEntity<StartupReadiness.Status> getReadiness() {
+        StartupReadiness.Status status = startupReadiness.status();
+        return ResponseEntity.status(status.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE).body(status);
+    }
+
     @GetMapping("/health")
     @Operation(summary = "Tizim sog'ligini tekshirish")
     public ResponseEntity<HealthResponse> getSystemHealth() {
@@ -64,6 +89,9 @@ public class SystemInfoController {
         private final int availableProcessors;
         private final String executionMethod;
         private final boolean hasEnoughResources;
+        private final double nodeSpeedFactor;
+        private final Map<String, Double> speedFactors;
+        private final LocalDateTime calibratedAt;
 
         private SystemInfoResponse(Builder builder) {
             this.totalMemoryMB = builder.totalMemoryMB;
@@ -74,6 +102,9 @@ public class SystemInfoController {
             this.availableProcessors = builder.availableProcessors;
             this.executionMethod = builder.executionMethod;
             this.hasEnoughResources = builder.hasEnoughResources;
+            this.nodeSpeedFactor = builder.nodeSpeedFactor;
+            this.speedFactors = builder.speedFactors;
+            this.calibratedAt = builder.calibratedAt;
         }
 
         public static Builder builder() {
@@ -89,6 +120,9 @@ public class SystemInfoController {
         public int getAvailableProcessors() { return availableProcessors; }
         public String getExecutionMethod() { return executionMethod; }
         public boolean isHasEnoughResources() { return hasEnoughResources; }
+        public double getNodeSpeedFactor() { return nodeSpeedFactor; }
+        public Map<String, Double> getSpeedFactors() { return speedFactors; }
+        public LocalDateTime getCalibratedAt() { return calibratedAt; }
 
         public static class Builder {
             private long totalMemoryMB;
@@ -99,6 +133,9 @@ public class SystemInfoController {
             private int availableProcessors;
             private String executionMethod;
             private boolean hasEnoughResources;
+            private double nodeSpeedFactor;
+            private Map<String, Double> speedFactors;
+            private LocalDateTime calibratedAt;
 
             public Builder totalMemoryMB(long totalMemoryMB) {
                 this.totalMemoryMB = totalMemoryMB;
@@ -140,6 +177,21 @@ public class SystemInfoController {
                 return this;
             }
 
+            public Builder nodeSpeedFactor(double nodeSpeedFactor) {
+                this.nodeSpeedFactor = nodeSpeedFactor;
+                return this;
+            }
+
+            public Builder speedFactors(Map<String, Double> speedFactors) {
+                this.speedFactors = speedFactors;
+                return this;
+            }
+
+            public Builder calibratedAt(LocalDateTime calibratedAt) {
+                this.calibratedAt = calibratedAt;
+                return this;
+            }
+
             public SystemInfoResponse build() {
                 return new SystemInfoResponse(this);
             }
@@ -11,7 +11,8 @@ import lombok.*;
 @Builder
 public class TestCase {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_cases_seq")
+    @SequenceGenerator(name = "test_cases_seq", sequenceName = "test_cases_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -27,4 +28,9 @@ public class TestCase {
     private Boolean isHidden = false; // yashirin test case
     private Integer timeLimitMs = 2000; // default 2 seconds
     private Integer orderIndex;
+
+    @ManyToOne
+    @JoinColumn(name = "test_group_id")
+    @org.hibernate.annotations.OnDelete(action = org.hibernate.annotations.OnDeleteAction.SET_NULL)
+    private TestGroup testGroup; // null - guruhsiz test
 }
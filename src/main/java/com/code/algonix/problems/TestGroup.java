@@ -0,0 +1,55 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Test guruhi (subtask): o'z bali va boshqa guruhlarga bog'liqligi bor.
+ * Guruh birinchi xatoda to'xtatiladi, bog'liq guruhi o'tmagan guruh o'tkazib yuboriladi.
+ */
+@Entity
+@Table(name = "test_groups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestGroup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_groups_seq")
+    @SequenceGenerator(name = "test_groups_seq", sequenceName = "test_groups_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "problem_id", nullable = false)
+    private Problem problem;
+
+    @Column(nullable = false)
+    private String name; // "subtask1", "n <= 1000"
+
+    @Builder.Default
+    private Integer points = 0;
+
+    private Integer orderIndex;
+
+    @ElementCollection
+    @CollectionTable(name = "test_group_dependencies", joinColumns = @JoinColumn(name = "test_group_id"))
+    @Column(name = "depends_on")
+    @Builder.Default
+    private List<String> dependsOn = new ArrayList<>(); // oldingi guruhlar nomlari
+}
@@ -0,0 +1,167 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Test case'larni guruhlar bo'yicha bajarish tartibi.
+ * Guruhsiz masala uchun barcha testlar bitta yashirin guruhga tushadi
+ * (eski LeetCode-style xatti-harakat: birinchi xatoda to'xtash).
+ */
+@Getter
+@RequiredArgsConstructor
+public class TestGroupPlan {
+
+    public static final String DEFAULT_GROUP = "default";
+
+    private final List<Group> groups;
+    private final boolean grouped;
+
+    public static TestGroupPlan of(List<TestCase> testCases) {
+        boolean grouped = testCases.stream().anyMatch(tc -> tc.getTestGroup() != null);
+        if (!grouped) {
+            return new TestGroupPlan(List.of(new Group(null, DEFAULT_GROUP, 0, List.of(), testCases)), false);
+        }
+
+        // Guruhsiz testlar birinchi, 0 ballik guruhga tushadi
+        Map<Long, List<TestCase>> byGroup = new LinkedHashMap<>();
+        Map<Long, TestGroup> groupsById = new LinkedHashMap<>();
+        List<TestCase> ungrouped = new ArrayList<>();
+        for (TestCase tc : testCases) {
+            TestGroup group = tc.getTestGroup();
+            if (group == null) {
+                ungrouped.add(tc);
+            } else {
+                groupsById.putIfAbsent(group.getId(), group);
+                byGroup.computeIfAbsent(group.getId(), id -> new ArrayList<>()).add(tc);
+            }
+        }
+
+        // Testi yo'q guruhlar ham rejada qoladi (bo'sh guruh o'tgan hisoblanadi) - aks holda unga bog'liq
+        // guruhlar doim SKIPPED bo'lib, ballari maxScore'dan tushib qoladi
+        for (TestGroup group : groupsById.values().iterator().next().getProblem().getTestGroups()) {
+            groupsById.putIfAbsent(group.getId(), group);
+        }
+
+        List<Group> groups = new ArrayList<>();
+        if (!ungrouped.isEmpty()) {
+            groups.add(new Group(null, DEFAULT_GROUP, 0, List.of(), ungrouped));
+        }
+        groupsById.values().stream()
+                .sorted(Comparator.comparing(TestGroup::getOrderIndex, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(g -> groups.add(new Group(
+                        g,
+                        g.getName(),
+                        g.getPoints() != null ? g.getPoints() : 0,
+                        g.getDependsOn() != null ? List.copyOf(g.getDependsOn()) : List.of(),
+                        byGroup.getOrDefault(g.getId(), List.of()))));
+        return new TestGroupPlan(groups, true);
+    }
+
+    public int getMaxScore() {
+        return groups.stream().mapToInt(Group::getPoints).sum();
+    }
+
+    /**
+     * Guruhlarni tartib bilan bajarish: guruh ichida birinchi xatoda to'xtash, bog'liq guruhi o'tmagan guruh
+     * ishga tushirilmaydi (SKIPPED). Guruhsiz masalada birinchi xatoda butunlay to'xtaydi.
+     */
+    public Outcome execute(TestRunner runner) {
+        int totalTests = groups.stream().mapToInt(g -> g.getTestCases().size()).sum();
+        List<CodeExecutionService.TestCaseResult> results = new ArrayList<>();
+        List<CodeExecutionService.GroupResult> groupResults = new ArrayList<>();
+        Set<String> passedGroups = new HashSet<>();
+        int passedCount = 0;
+        int offset = 0;
+        int firstFailureNumber = 0;
+        CodeExecutionService.TestCaseResult firstFailure = null;
+
+        for (Group group : groups) {
+            boolean dependenciesPassed = passedGroups.containsAll(group.getDependsOn());
+            boolean groupPassed = dependenciesPassed;
+            int testsRun = 0;
+
+            if (dependenciesPassed) {
+                for (TestCase testCase : group.getTestCases()) {
+                    int testNumber = offset + testsRun + 1;
+                    CodeExecutionService.TestCaseResult result = runner.run(testCase, testNumber, totalTests);
+                    results.add(result);
+                    testsRun++;
+                    if (!result.isPassed()) {
+                        groupPassed = false;
+                        if (firstFailure == null) {
+                            firstFailure = result;
+                            firstFailureNumber = testNumber;
+                        }
+                        break;
+                    }
+                    passedCount++;
+                }
+            }
+            offset += group.getTestCases().size();
+
+            if (groupPassed) {
+                passedGroups.add(group.getName());
+            }
+            groupResults.add(CodeExecutionService.GroupResult.builder()
+                    .groupId(group.getTestGroup() != null ? group.getTestGroup().getId() : null)
+                    .name(group.getName())
+                    .status(!dependenciesPassed ? CodeExecutionService.GroupStatus.SKIPPED
+                            : (groupPassed ? CodeExecutionService.GroupStatus.PASSED : CodeExecutionService.GroupStatus.FAILED))
+                    .points(group.getPoints())
+                    .earnedPoints(groupPassed ? group.getPoints() : 0)
+                    .testsRun(testsRun)
+                    .totalTests(group.getTestCases().size())
+                    .build());
+
+            if (!grouped && !groupPassed) {
+                break; // LeetCode style: stop on first failure
+            }
+        }
+        return new Outcome(totalTests, results, groupResults, passedCount, firstFailure, firstFailureNumber);
+    }
+
+    /**
+     * Bitta testni bajaruvchi (testNumber - 1 dan boshlab, rejadagi tartib bo'yicha)
+     */
+    @FunctionalInterface
+    public interface TestRunner {
+        CodeExecutionService.TestCaseResult run(TestCase testCase, int testNumber, int totalTests);
+    }
+
+    /**
+     * Bajarish natijasi: test va guruh natijalari, birinchi xato
+     */
+    public record Outcome(int totalTests,
+                          List<CodeExecutionService.TestCaseResult> results,
+                          List<CodeExecutionService.GroupResult> groupResults,
+                          int passedCount,
+                          CodeExecutionService.TestCaseResult firstFailure,
+                          int firstFailureNumber) {
+
+        public int score() {
+            return groupResults.stream().mapToInt(CodeExecutionService.GroupResult::getEarnedPoints).sum();
+        }
+    }
+
+    /**
+     * Bitta guruh: nomi, bali, bog'liqliklari va testlari
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Group {
+        private final TestGroup testGroup;
+        private final String name;
+        private final int points;
+        private final List<String> dependsOn;
+        private final List<TestCase> testCases;
+    }
+}
@@ -0,0 +1,53 @@
+package com.code.algonix.problems;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Submission'ning bitta test guruhi bo'yicha natijasi (IOI-style ball uchun)
+ */
+@Entity
+@Table(name = "submission_group_results")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestGroupResult {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "submission_group_results_seq")
+    @SequenceGenerator(name = "submission_group_results_seq", sequenceName = "submission_group_results_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne
+    @JoinColumn(name = "submission_id", nullable = false)
+    private Submission submission;
+
+    @ManyToOne
+    @JoinColumn(name = "test_group_id")
+    @org.hibernate.annotations.OnDelete(action = org.hibernate.annotations.OnDeleteAction.SET_NULL)
+    private TestGroup testGroup;
+
+    @Column(nullable = false)
+    private String groupName;
+
+    @Enumerated(EnumType.STRING)
+    private CodeExecutionService.GroupStatus status;
+
+    private Integer points;
+    private Integer earnedPoints;
+    private Integer testsRun;
+    private Integer totalTests;
+}
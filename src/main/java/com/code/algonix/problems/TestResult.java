@@ -1,15 +1,19 @@
 package com.code.algonix.problems;
 
+import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OneToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +28,8 @@ import lombok.NoArgsConstructor;
 @Builder
 public class TestResult {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_results_seq")
+    @SequenceGenerator(name = "test_results_seq", sequenceName = "test_results_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -42,15 +47,26 @@ public class TestResult {
     private Integer runtime; // milliseconds
     private Double memory; // MB
 
+    // Migratsiyadan oldingi qatorlar: test case o'chirilgan yoki o'zgargan bo'lsa, baholangan input/expected
+    // faqat shu yerda qoladi. Yangi natijalarda null - ular TestCase'dan olinadi
     @Column(columnDefinition = "TEXT")
     private String input;
 
     @Column(columnDefinition = "TEXT")
     private String expectedOutput;
 
+    // Input va expected output TestCase'dan olinadi; actual output faqat xato testlar uchun
+    // (preview), undan uzuni fullOutput'da siqilgan holda
     @Column(columnDefinition = "TEXT")
     private String actualOutput;
 
+    @Builder.Default
+    private Boolean outputTruncated = false;
+
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "full_output_id")
+    private TestResultOutput fullOutput;
+
     @Column(columnDefinition = "TEXT")
     private String errorMessage;
 
@@ -0,0 +1,35 @@
+package com.code.algonix.problems;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Xato testning to'liq (gzip) chiqishi - faqat preview'dan uzun bo'lsa saqlanadi
+ * va faqat so'ralganda yuklanadi
+ */
+@Entity
+@Table(name = "test_result_outputs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TestResultOutput {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "test_result_outputs_seq")
+    @SequenceGenerator(name = "test_result_outputs_seq", sequenceName = "test_result_outputs_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(columnDefinition = "BYTEA", nullable = false)
+    private byte[] compressed;
+
+    private Integer originalLength; // belgilar soni
+}
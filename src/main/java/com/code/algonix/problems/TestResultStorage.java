@@ -0,0 +1,72 @@
+package com.code.algonix.problems;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * TestResult saqlash siyosati:
+ * - input va expected output saqlanmaydi (TestCase'ga havola)
+ * - actual output faqat o'tmagan testlar uchun, previewChars'dan uzuni kesiladi
+ *   va to'liq matn gzip qilib alohida jadvalda saqlanadi (maxStoredChars gacha)
+ */
+@Service
+public class TestResultStorage {
+
+    @Value("${judge.test-results.preview-chars:1024}")
+    private int previewChars;
+
+    @Value("${judge.test-results.max-stored-chars:1048576}")
+    private int maxStoredChars;
+
+    @Value("${judge.test-results.store-passed-output:false}")
+    private boolean storePassedOutput;
+
+    /**
+     * Natijaga actual output'ni siyosat bo'yicha yozish
+     */
+    public void storeActualOutput(TestResult result, String actualOutput) {
+        result.setOutputTruncated(false);
+        result.setFullOutput(null);
+        if (actualOutput == null
+                || (result.getStatus() == TestResult.TestStatus.PASSED && !storePassedOutput)) {
+            result.setActualOutput(null);
+            return;
+        }
+        if (actualOutput.length() <= previewChars) {
+            result.setActualOutput(actualOutput);
+            return;
+        }
+
+        result.setActualOutput(actualOutput.substring(0, previewChars));
+        result.setOutputTruncated(true);
+        String stored = actualOutput.length() > maxStoredChars ? actualOutput.substring(0, maxStoredChars) : actualOutput;
+        result.setFullOutput(TestResultOutput.builder()
+                .compressed(Gzip.compress(stored))
+                .originalLength(actualOutput.length())
+                .build());
+    }
+
+    /**
+     * To'liq actual output (siqilgan nusxa bo'lsa undan)
+     */
+    public String readActualOutput(TestResult result) {
+        if (result.getFullOutput() != null) {
+            return Gzip.decompress(result.getFullOutput().getCompressed());
+        }
+        return result.getActualOutput();
+    }
+
+    /**
+     * Javob uchun qisqartirilgan matn (input/expected output uchun)
+     */
+    public String preview(String value) {
+        if (value == null || value.length() <= previewChars) {
+            return value;
+        }
+        return value.substring(0, previewChars);
+    }
+
+    public boolean exceedsPreview(String value) {
+        return value != null && value.length() > previewChars;
+    }
+}
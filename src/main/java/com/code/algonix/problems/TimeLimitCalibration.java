@@ -0,0 +1,94 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Reference yechimlar bo'yicha time limit kalibrlash natijasi.
+ * Barcha vaqtlar bazaviy node'ga keltirilgan (JudgeCalibrationService.normalizeRuntime).
+ */
+@Entity
+@Table(name = "time_limit_calibrations")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TimeLimitCalibration {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "problem_id", nullable = false)
+    private Long problemId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status;
+
+    private Integer runsPerSolution;
+
+    private Long slowestMs; // eng sekin reference yechimning median vaqti
+
+    private Integer proposedTimeLimitMs;
+
+    private Integer previousTimeLimitMs;
+
+    @Builder.Default
+    private Boolean applied = false;
+
+    @Column(columnDefinition = "TEXT")
+    private String message;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "time_limit_calibration_runs", joinColumns = @JoinColumn(name = "calibration_id"))
+    @Builder.Default
+    private List<ReferenceRun> runs = new ArrayList<>();
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+
+    private LocalDateTime completedAt;
+
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Bitta reference yechimning vaqt taqsimoti (har bir run - eng sekin test vaqti)
+     */
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReferenceRun {
+        private Long referenceSolutionId;
+        private String language;
+        private String verdict; // ACCEPTED, WRONG_ANSWER, ...
+        private Integer samples;
+        private Long minMs;
+        private Long medianMs;
+        private Long maxMs;
+    }
+}
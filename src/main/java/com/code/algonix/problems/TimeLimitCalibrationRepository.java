@@ -0,0 +1,13 @@
+package com.code.algonix.problems;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface TimeLimitCalibrationRepository extends JpaRepository<TimeLimitCalibration, Long> {
+    List<TimeLimitCalibration> findByProblemIdOrderByCreatedAtDesc(Long problemId);
+
+    void deleteByProblemId(Long problemId);
+}
@@ -0,0 +1,274 @@
+package com.code.algonix.problems;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.code.algonix.exception.InvalidInputException;
+import com.code.algonix.exception.ResourceNotFoundException;
+import com.code.algonix.exception.TooManyRequestsException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Reference yechimlar bo'yicha time limitni avtomatik aniqlash.
+ * Har bir reference yechim barcha testlarda bir necha marta parallel ishga tushiriladi,
+ * vaqtlar bazaviy node'ga keltiriladi va limit eng sekin yechimning
+ * (median) vaqtiga karrali qilib taklif qilinadi yoki o'rnatiladi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class TimeLimitCalibrationService {
+
+    private final ProblemRepository problemRepository;
+    private final TimeLimitCalibrationRepository calibrationRepository;
+    private final LeetCodeExecutionService leetCodeExecutionService;
+    private final JudgeCalibrationService judgeCalibrationService;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor calibrationExecutor;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${judge.time-limit.runs:3}")
+    private int runs;
+
+    @Value("${judge.time-limit.multiplier:3.0}")
+    private double multiplier;
+
+    @Value("${judge.time-limit.round-ms:100}")
+    private int roundMs;
+
+    @Value("${judge.time-limit.min-ms:500}")
+    private int minTimeLimitMs;
+
+    @Value("${judge.time-limit.max-ms:10000}")
+    private int maxTimeLimitMs;
+
+    @Value("${judge.time-limit.run-timeout-ms:10000}")
+    private long runTimeoutMs;
+
+    @Value("${judge.time-limit.auto-apply:true}")
+    private boolean autoApply;
+
+    /**
+     * Tranzaksiya commit bo'lgandan keyin kalibrlashni boshlash (masala yoki testlar o'zgarganda)
+     */
+    public void calibrateAfterCommit(Long problemId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            startQuietly(problemId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                // afterCommit ichida eski tranzaksiya hali bog'langan - yangi thread'da boshlaymiz
+                try {
+                    calibrationExecutor.execute(() -> startQuietly(problemId));
+                } catch (TaskRejectedException e) {
+                    log.warn("Time limit calibration queue is full, problem {} skipped", problemId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Kalibrlashni boshlash; natija fon rejimida to'ldiriladi
+     */
+    public TimeLimitCalibration calibrate(Long problemId, boolean apply) {
+        Snapshot snapshot = transactionTemplate.execute(status -> loadSnapshot(problemId));
+
+        TimeLimitCalibration calibration = calibrationRepository.save(TimeLimitCalibration.builder()
+                .problemId(problemId)
+                .status(TimeLimitCalibration.Status.RUNNING)
+                .runsPerSolution(Math.max(1, runs))
+                .previousTimeLimitMs(snapshot.timeLimitMs())
+                .build());
+
+        List<CompletableFuture<Sample>> samples = new ArrayList<>();
+        try {
+            for (ReferenceSolution reference : snapshot.references()) {
+                for (int i = 0; i < Math.max(1, runs); i++) {
+                    samples.add(CompletableFuture.supplyAsync(
+                            () -> runOnce(reference, snapshot.testCases()), calibrationExecutor));
+                }
+            }
+        } catch (TaskRejectedException e) {
+            samples.forEach(sample -> sample.cancel(false));
+            fail(calibration.getId(), "Kalibrlash navbati to'lgan");
+            throw new TooManyRequestsException("Kalibrlash navbati to'lgan, keyinroq urinib ko'ring");
+        }
+
+        Long calibrationId = calibration.getId();
+        CompletableFuture.allOf(samples.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> {
+                    try {
+                        complete(calibrationId, problemId, snapshot, samples, apply);
+                    } catch (Exception e) {
+                        log.error("Time limit calibration {} failed", calibrationId, e);
+                        fail(calibrationId, "Internal error: " + e.getMessage());
+                    }
+                });
+        return calibration;
+    }
+
+    public List<TimeLimitCalibration> getCalibrations(Long problemId) {
+        return calibrationRepository.findByProblemIdOrderByCreatedAtDesc(problemId);
+    }
+
+    private void startQuietly(Long problemId) {
+        try {
+            calibrate(problemId, autoApply);
+        } catch (Exception e) {
+            log.warn("Could not start time limit calibration for problem {}: {}", problemId, e.getMessage());
+        }
+    }
+
+    private Snapshot loadSnapshot(Long problemId) {
+        Problem problem = problemRepository.findById(problemId)
+                .orElseThrow(() -> new ResourceNotFoundException("Problem not found: " + problemId));
+        if (problem.getReferenceSolutions().isEmpty()) {
+            throw new InvalidInputException("Problem has no reference solutions: " + problemId);
+        }
+        if (problem.getTestCases().isEmpty()) {
+            throw new InvalidInputException("Problem has no test cases: " + problemId);
+        }
+        // Lazy kolleksiyalarni tranzaksiya ichida yuklab olamiz - testlar fon thread'larida ishlatiladi
+        problem.getTestGroups().forEach(group -> group.getDependsOn().size());
+        return new Snapshot(
+                problem.getTimeLimitMs(),
+                List.copyOf(problem.getReferenceSolutions()),
+                List.copyOf(problem.getTestCases()));
+    }
+
+    private Sample runOnce(ReferenceSolution reference, List<TestCase> testCases) {
+        CodeExecutionService.ExecutionResult result = leetCodeExecutionService.executeWithTimeLimit(
+                reference.getCode(), reference.getLanguage(), testCases, runTimeoutMs);
+
+        if (result.getStatus() != CodeExecutionService.ExecutionStatus.ACCEPTED) {
+            return new Sample(reference, result.getStatus().name(), result.getErrorMessage(), 0);
+        }
+        // Run vaqti - eng sekin test vaqti
+        long slowestTest = result.getTestResults().stream()
+                .mapToLong(CodeExecutionService.TestCaseResult::getRuntime)
+                .max()
+                .orElse(0);
+        long normalized = judgeCalibrationService.normalizeRuntime(slowestTest, reference.getLanguage());
+        return new Sample(reference, result.getStatus().name(), null, normalized);
+    }
+
+    private void complete(Long calibrationId, Long problemId, Snapshot snapshot,
+                          List<CompletableFuture<Sample>> samples, boolean apply) {
+        TimeLimitCalibration calibration = calibrationRepository.findById(calibrationId).orElseThrow();
+        List<TimeLimitCalibration.ReferenceRun> referenceRuns = new ArrayList<>();
+        String failure = null;
+        long slowestMs = 0;
+
+        for (ReferenceSolution reference : snapshot.references()) {
+            List<Sample> referenceSamples = samples.stream()
+                    .map(CompletableFuture::join)
+                    .filter(sample -> sample.reference() == reference)
+                    .toList();
+            Sample failed = referenceSamples.stream()
+                    .filter(sample -> !"ACCEPTED".equals(sample.verdict()))
+                    .findFirst()
+                    .orElse(null);
+
+            if (failed != null) {
+                referenceRuns.add(TimeLimitCalibration.ReferenceRun.builder()
+                        .referenceSolutionId(reference.getId())
+                        .language(reference.getLanguage())
+                        .verdict(failed.verdict())
+                        .samples(referenceSamples.size())
+                        .build());
+                if (failure == null) {
+                    failure = String.format("Reference solution #%d (%s): %s%s", reference.getId(),
+                            reference.getLanguage(), failed.verdict(),
+                            failed.message() != null ? " - " + failed.message() : "");
+                }
+                continue;
+            }
+
+            List<Long> runtimes = referenceSamples.stream()
+                    .map(Sample::runtimeMs)
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+            long median = runtimes.get(runtimes.size() / 2);
+            slowestMs = Math.max(slowestMs, median);
+            referenceRuns.add(TimeLimitCalibration.ReferenceRun.builder()
+                    .referenceSolutionId(reference.getId())
+                    .language(reference.getLanguage())
+                    .verdict("ACCEPTED")
+                    .samples(runtimes.size())
+                    .minMs(runtimes.get(0))
+                    .medianMs(median)
+                    .maxMs(runtimes.get(runtimes.size() - 1))
+                    .build());
+        }
+
+        calibration.getRuns().clear();
+        calibration.getRuns().addAll(referenceRuns);
+        calibration.setCompletedAt(LocalDateTime.now());
+
+        if (failure != null) {
+            // Testlar reference yechim bilan yechilmaydi - limitga tegmaymiz
+            calibration.setStatus(TimeLimitCalibration.Status.FAILED);
+            calibration.setMessage(failure);
+            calibrationRepository.save(calibration);
+            log.warn("Time limit calibration for problem {} failed: {}", problemId, failure);
+            return;
+        }
+
+        int proposed = proposeTimeLimit(slowestMs);
+        calibration.setStatus(TimeLimitCalibration.Status.COMPLETED);
+        calibration.setSlowestMs(slowestMs);
+        calibration.setProposedTimeLimitMs(proposed);
+
+        if (apply) {
+            transactionTemplate.executeWithoutResult(status -> problemRepository.findById(problemId)
+                    .ifPresent(problem -> {
+                        problem.setTimeLimitMs(proposed);
+                        problemRepository.save(problem);
+                        eventPublisher.publishEvent(new ProblemChangedEvent(problemId));
+                    }));
+            calibration.setApplied(true);
+        }
+        calibrationRepository.save(calibration);
+        log.info("Time limit calibration for problem {}: slowest {}ms, proposed {}ms (applied: {})",
+                problemId, slowestMs, proposed, apply);
+    }
+
+    private int proposeTimeLimit(long slowestMs) {
+        long limit = (long) Math.ceil(slowestMs * multiplier);
+        if (roundMs > 1) {
+            limit = (limit + roundMs - 1) / roundMs * roundMs;
+        }
+        return (int) Math.min(maxTimeLimitMs, Math.max(minTimeLimitMs, limit));
+    }
+
+    private void fail(Long calibrationId, String message) {
+        calibrationRepository.findById(calibrationId).ifPresent(calibration -> {
+            calibration.setStatus(TimeLimitCalibration.Status.FAILED);
+            calibration.setMessage(message);
+            calibration.setCompletedAt(LocalDateTime.now());
+            calibrationRepository.save(calibration);
+        });
+    }
+
+    private record Snapshot(Integer timeLimitMs, List<ReferenceSolution> references, List<TestCase> testCases) {
+    }
+
+    private record Sample(ReferenceSolution reference, String verdict, String message, long runtimeMs) {
+    }
+}
@@ -0,0 +1,20 @@
+package com.code.algonix.problems.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Kod template'i (editor uchun)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeTemplateResponse {
+    private Long id;
+    private Long problemId;
+    private String language;
+    private String code;
+}
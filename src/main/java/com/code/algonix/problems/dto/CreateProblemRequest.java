@@ -19,12 +19,14 @@ public class CreateProblemRequest {
     private List<String> categories;
     private List<String> tags;
     private String description;
-    private String descriptionHtml;
+    private String descriptionHtml; // e'tiborga olinmaydi - HTML description'dan serverda render qilinadi
     private List<ExampleRequest> examples;
     private List<String> constraints;
     private List<String> hints;
     private Map<String, String> codeTemplates;
     private List<TestCaseRequest> testCases;
+    private List<TestGroupRequest> testGroups; // ixtiyoriy subtask'lar
+    private List<ReferenceSolutionRequest> referenceSolutions; // time limitni kalibrlash uchun
     private List<Long> relatedProblems;
     private List<String> companies;
     private Double frequency;
@@ -53,5 +55,23 @@ public class CreateProblemRequest {
         private String expectedOutput;
         private Boolean isHidden;
         private Integer timeLimitMs;
+        private String group; // TestGroupRequest.name
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TestGroupRequest {
+        private String name;
+        private Integer points;
+        private List<String> dependsOn; // faqat oldingi guruhlar
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReferenceSolutionRequest {
+        private String language;
+        private String code;
     }
 }
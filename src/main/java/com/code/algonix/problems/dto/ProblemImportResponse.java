@@ -0,0 +1,27 @@
+package com.code.algonix.problems.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Ommaviy import natijasi
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProblemImportResponse {
+    private String source;
+    private Integer total;
+    private Integer imported;
+    private Integer unchanged; // content hash bir xil - o'tkazib yuborildi
+    private Integer conflictCount; // slug mavjud, lekin mazmuni boshqa - o'zgartirilmadi
+    private Integer failedCount;
+    private List<String> conflicts; // slug'lar (birinchi 100 tasi)
+    private List<String> failed; // "slug: sabab" (birinchi 100 tasi)
+    private Long durationMs;
+}
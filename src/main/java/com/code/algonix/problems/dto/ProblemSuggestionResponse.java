@@ -0,0 +1,23 @@
+package com.code.algonix.problems.dto;
+
+import com.code.algonix.problems.Problem;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Autocomplete natijasi
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProblemSuggestionResponse {
+    private Long id;
+    private Integer sequenceNumber;
+    private String slug;
+    private String title;
+    private Problem.Difficulty difficulty;
+}
@@ -12,6 +12,7 @@ import lombok.NoArgsConstructor;
 public class RunCodeResponse {
     private String status; // success, error
     private String output;
+    private String stderr;
     private String expectedOutput;
     private Integer runtime;
     private Double memory;
@@ -0,0 +1,38 @@
+package com.code.algonix.problems.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Submission jarayoni haqida SSE event (queued, compiling, test, verdict)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SubmissionEvent {
+    public static final String QUEUED = "queued";
+    public static final String COMPILING = "compiling";
+    public static final String TEST = "test";
+    public static final String VERDICT = "verdict";
+
+    private String type;
+    private Long submissionId;
+    private Integer testNumber;
+    private Integer totalTests;
+    private Integer passedTests;
+    private Integer score;
+    private Boolean passed;
+    private String status;
+    private Integer runtime;
+    private Double memory;
+    private String message;
+    private LocalDateTime timestamp;
+}
@@ -18,10 +18,11 @@ public class SubmissionResponse {
     private Long submissionId;
     private Long userId;
     private Long problemId;
-    private String code;
+    private String code; // ro'yxat javoblarida null
     private String language;
     private Submission.SubmissionStatus status;
     private List<TestResultDto> testResults;
+    private List<GroupResultDto> groupResults; // subtask natijalari (guruhli masalalar)
     private OverallStats overallStats;
     private RewardInfo rewardInfo;  // Gamification rewards
     private LocalDateTime submittedAt;
@@ -40,6 +41,7 @@ public class SubmissionResponse {
         private String expectedOutput;
         private String actualOutput;
         private String errorMessage;
+        private Boolean truncated; // to'liq matn: GET /api/submissions/{id}/tests/{testCaseId}/output
     }
 
     @Data
@@ -53,6 +55,21 @@ public class SubmissionResponse {
         private Double runtimePercentile;
         private Double memory;
         private Double memoryPercentile;
+        private Integer score;
+        private Integer maxScore;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class GroupResultDto {
+        private String name;
+        private String status; // PASSED, FAILED, SKIPPED
+        private Integer points;
+        private Integer earnedPoints;
+        private Integer testsRun;
+        private Integer totalTests;
     }
 
     @Data
@@ -0,0 +1,22 @@
+package com.code.algonix.problems.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Bitta test natijasining to'liq matnlari (submission javobida faqat preview bo'ladi)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TestOutputResponse {
+    private Long submissionId;
+    private Long testCaseId;
+    private String status;
+    private String input;
+    private String expectedOutput;
+    private String actualOutput;
+}
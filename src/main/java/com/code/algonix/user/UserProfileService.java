@@ -19,7 +19,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.code.algonix.exception.ResourceNotFoundException;
 import com.code.algonix.problems.Problem;
-import com.code.algonix.problems.ProblemRepository;
+import com.code.algonix.problems.ProblemCatalogIndex;
 import com.code.algonix.problems.SubmissionRepository;
 import com.code.algonix.user.dto.CategoryStatsResponse;
 import com.code.algonix.user.dto.ChangePasswordRequest;
@@ -35,8 +35,9 @@ public class UserProfileService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final ProblemRepository problemRepository;
     private final SubmissionRepository submissionRepository;
+    private final ProblemCatalogIndex problemCatalogIndex;
+    private final UserSolvedStatsService userSolvedStatsService;
     
     // Avatar upload directory
     private static final String AVATAR_UPLOAD_DIR = "uploads/avatars/";
@@ -220,29 +221,22 @@ public class UserProfileService {
         UserEntity user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // Get total problems count
-        Long totalProblems = problemRepository.count();
-        
-        // Get user's total solved problems
-        Long userSolvedProblems = submissionRepository.countSolvedProblemsByUser(user);
+        // Masalalar soni - katalog indeksidan, yechilganlari - UserStatistics hisoblagichlaridan
+        ProblemCatalogIndex.Counts counts = problemCatalogIndex.counts();
+        UserSolvedStatsService.SolvedSummary solved = userSolvedStatsService.getSolvedSummary(user);
 
-        // Get difficulty statistics
         List<DifficultyStatsResponse.DifficultyStatDto> difficultyStats = new ArrayList<>();
-        
         for (Problem.Difficulty difficulty : Problem.Difficulty.values()) {
-            Long totalByDifficulty = problemRepository.countByDifficulty(difficulty);
-            Long solvedByDifficulty = submissionRepository.countSolvedProblemsByUserAndDifficulty(user, difficulty);
-            
             difficultyStats.add(DifficultyStatsResponse.DifficultyStatDto.builder()
                     .name(difficulty.name())
-                    .total(totalByDifficulty.intValue())
-                    .solved(solvedByDifficulty.intValue())
+                    .total((int) counts.difficulty(difficulty))
+                    .solved(solved.difficulty(difficulty))
                     .build());
         }
 
         return DifficultyStatsResponse.builder()
-                .allProblems(totalProblems.intValue())
-                .allUserSolvedProblems(userSolvedProblems.intValue())
+                .allProblems((int) counts.total())
+                .allUserSolvedProblems(solved.total())
                 .difficultyStats(difficultyStats)
                 .build();
     }
@@ -251,35 +245,25 @@ public class UserProfileService {
         UserEntity user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // Get total problems count
-        Long totalProblems = problemRepository.count();
-        
-        // Get user's total solved problems
-        Long userSolvedProblems = submissionRepository.countSolvedProblemsByUser(user);
+        ProblemCatalogIndex.Counts counts = problemCatalogIndex.counts();
+        UserSolvedStatsService.SolvedSummary solved = userSolvedStatsService.getSolvedSummary(user);
 
-        // Get all categories with their problem counts
-        List<Object[]> categoryData = problemRepository.countByCategory();
-        
-        // Get user's solved problems by category
-        List<CategoryStatsResponse.CategoryStatDto> categoryStats = new ArrayList<>();
-        
-        for (Object[] data : categoryData) {
-            String categoryName = (String) data[0];
-            Long totalByCategory = (Long) data[1];
-            
-            // Count user's solved problems in this category
-            Long solvedByCategory = submissionRepository.countSolvedProblemsByUserAndCategory(user, categoryName);
-            
-            categoryStats.add(CategoryStatsResponse.CategoryStatDto.builder()
-                    .name(categoryName)
-                    .total(totalByCategory.intValue())
-                    .solved(solvedByCategory.intValue())
-                    .build());
+        // Foydalanuvchi yechganlari category bo'yicha - bitta GROUP BY (har category uchun alohida so'rov emas)
+        Map<String, Long> solvedByCategory = new HashMap<>();
+        for (Object[] row : submissionRepository.countSolvedProblemsByUserGroupedByCategory(user)) {
+            solvedByCategory.put((String) row[0], (Long) row[1]);
         }
 
+        List<CategoryStatsResponse.CategoryStatDto> categoryStats = new ArrayList<>();
+        counts.byCategory().forEach((categoryName, total) -> categoryStats.add(CategoryStatsResponse.CategoryStatDto.builder()
+                .name(categoryName)
+                .total(total.intValue())
+                .solved(solvedByCategory.getOrDefault(categoryName, 0L).intValue())
+                .build()));
+
         return CategoryStatsResponse.builder()
-                .allProblems(totalProblems.intValue())
-                .allUserSolvedProblems(userSolvedProblems.intValue())
+                .allProblems((int) counts.total())
+                .allUserSolvedProblems(solved.total())
                 .categoryStats(categoryStats)
                 .build();
     }
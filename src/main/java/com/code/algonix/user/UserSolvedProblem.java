@@ -0,0 +1,45 @@
+package com.code.algonix.user;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Foydalanuvchi yechgan masala - (user, problem) bo'yicha bitta qator.
+ * Hisoblagichlar faqat shu qator yangi qo'shilganda oshiriladi (UserSolvedStatsService)
+ */
+@Entity
+@Table(name = "user_solved_problems")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSolvedProblem {
+
+    @EmbeddedId
+    private Key id;
+
+    @CreationTimestamp
+    private LocalDateTime solvedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Column(name = "user_id")
+        private Long userId;
+
+        @Column(name = "problem_id")
+        private Long problemId;
+    }
+}
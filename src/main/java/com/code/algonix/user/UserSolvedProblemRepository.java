@@ -0,0 +1,18 @@
+package com.code.algonix.user;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface UserSolvedProblemRepository extends JpaRepository<UserSolvedProblem, UserSolvedProblem.Key> {
+
+    // Parallel ACCEPTED submission'lardan faqat bittasi qator qo'shadi (1), qolganlari 0 oladi
+    @Modifying
+    @Query(value = "INSERT INTO user_solved_problems (user_id, problem_id, solved_at) " +
+                   "VALUES (:userId, :problemId, CURRENT_TIMESTAMP) ON CONFLICT DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("problemId") Long problemId);
+}
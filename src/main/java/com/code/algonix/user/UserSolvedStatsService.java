@@ -0,0 +1,123 @@
+package com.code.algonix.user;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.code.algonix.problems.Problem;
+import com.code.algonix.problems.SubmissionRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Foydalanuvchi yechgan masalalar soni (jami va difficulty bo'yicha) - UserStatistics'dagi hisoblagichlar.
+ * Masala birinchi marta yechilganda oshiriladi (RewardService), statistika endpoint'lari
+ * submission'lar bo'yicha COUNT(DISTINCT ...) o'rniga shu qiymatlarni o'qiydi.
+ * Hisoblagichlari hali to'ldirilmagan foydalanuvchi uchun birinchi murojaatda bitta GROUP BY bilan to'ldiriladi.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class UserSolvedStatsService {
+
+    private final UserStatisticsRepository userStatisticsRepository;
+    private final UserSolvedProblemRepository userSolvedProblemRepository;
+    private final SubmissionRepository submissionRepository;
+
+    /**
+     * Yechilgan masalalar soni: jami va difficulty bo'yicha
+     */
+    public record SolvedSummary(int total, Map<Problem.Difficulty, Integer> byDifficulty) {
+
+        static final SolvedSummary EMPTY = new SolvedSummary(0, Map.of());
+
+        public int difficulty(Problem.Difficulty difficulty) {
+            return byDifficulty.getOrDefault(difficulty, 0);
+        }
+    }
+
+    @Transactional
+    public SolvedSummary getSolvedSummary(UserEntity user) {
+        UserStatistics stats = user.getStatistics();
+        if (stats == null) {
+            // Statistikasi yo'q foydalanuvchi hali masala yechmagan (birinchi yechimda yaratiladi)
+            return SolvedSummary.EMPTY;
+        }
+        if (!Boolean.TRUE.equals(stats.getSolvedCountsSynced())) {
+            backfill(stats);
+            userStatisticsRepository.save(stats);
+        }
+
+        Map<Problem.Difficulty, Integer> byDifficulty = new EnumMap<>(Problem.Difficulty.class);
+        for (Problem.Difficulty difficulty : Problem.Difficulty.values()) {
+            byDifficulty.put(difficulty, solved(stats, difficulty));
+        }
+        return new SolvedSummary(stats.getTotalSolved(), byDifficulty);
+    }
+
+    /**
+     * Masala birinchi marta yechildi - chaqiruvchi tranzaksiyasida.
+     * (user, problem) qatori qo'shilsa hisoblagich bitta atomik UPDATE bilan oshiriladi; qator allaqachon bo'lsa
+     * (parallel ACCEPTED yoki rejudge'dan keyin qayta yechish) hisoblagichlar GROUP BY'dan qayta hisoblanadi.
+     * Hisoblagichlar to'ldirilmagan bo'lsa, to'ldiriladi (joriy ACCEPTED submission ham hisobga kiradi)
+     */
+    public void recordFirstSolve(UserStatistics stats, Problem problem) {
+        boolean inserted = userSolvedProblemRepository.insertIfAbsent(stats.getUser().getId(), problem.getId()) > 0;
+        if (!Boolean.TRUE.equals(stats.getSolvedCountsSynced()) || !inserted || stats.getId() == null) {
+            backfill(stats);
+            return;
+        }
+        // Xotiradagi qiymatlarga tegilmaydi - @DynamicUpdate ular ustidan yozmasin
+        userStatisticsRepository.incrementSolved(stats.getId(), problem.getDifficulty().name());
+    }
+
+    /**
+     * Hisoblagichlarni tayyor sonlar bilan to'liq almashtirish (masalan rejudge'dan keyin bir sahifa foydalanuvchilari
+     * uchun bitta GROUP BY natijasi). Jami difficulty'lar yig'indisiga teng, qator to'ldirilgan deb belgilanadi
+     */
+    public void resync(UserStatistics stats, Map<Problem.Difficulty, Integer> solvedByDifficulty) {
+        int total = 0;
+        for (Problem.Difficulty difficulty : Problem.Difficulty.values()) {
+            int count = solvedByDifficulty.getOrDefault(difficulty, 0);
+            setSolved(stats, difficulty, count);
+            total += count;
+        }
+        stats.setTotalSolved(total);
+        stats.setSolvedCountsSynced(true);
+    }
+
+    private void backfill(UserStatistics stats) {
+        Map<Problem.Difficulty, Integer> solved = new EnumMap<>(Problem.Difficulty.class);
+        for (Object[] row : submissionRepository.countSolvedProblemsByUserGroupedByDifficulty(stats.getUser())) {
+            solved.put((Problem.Difficulty) row[0], ((Long) row[1]).intValue());
+        }
+        resync(stats, solved);
+        log.debug("Solved counters backfilled for user {}: {} problems", stats.getUser().getId(), stats.getTotalSolved());
+    }
+
+    private static int solved(UserStatistics stats, Problem.Difficulty difficulty) {
+        Integer value = switch (difficulty) {
+            case BEGINNER -> stats.getBeginnerSolved();
+            case BASIC -> stats.getBasicSolved();
+            case EASY -> stats.getEasySolved();
+            case NORMAL -> stats.getNormalSolved();
+            case MEDIUM -> stats.getMediumSolved();
+            case HARD -> stats.getHardSolved();
+        };
+        return value == null ? 0 : value;
+    }
+
+    private static void setSolved(UserStatistics stats, Problem.Difficulty difficulty, int value) {
+        switch (difficulty) {
+            case BEGINNER -> stats.setBeginnerSolved(value);
+            case BASIC -> stats.setBasicSolved(value);
+            case EASY -> stats.setEasySolved(value);
+            case NORMAL -> stats.setNormalSolved(value);
+            case MEDIUM -> stats.setMediumSolved(value);
+            case HARD -> stats.setHardSolved(value);
+        }
+    }
+}
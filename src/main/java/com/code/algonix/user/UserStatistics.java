@@ -1,5 +1,7 @@
 package com.code.algonix.user;
 
+import org.hibernate.annotations.DynamicUpdate;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -14,7 +16,9 @@ import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
 
+// Faqat o'zgargan ustunlar yoziladi: coin/XP saqlanganda atomik oshirilgan solved hisoblagichlari ustidan yozilmaydi
 @Entity
+@DynamicUpdate
 @Table(name = "user_statistics")
 @Data
 @NoArgsConstructor
@@ -42,6 +46,11 @@ public class UserStatistics {
     @Builder.Default
     private Integer hardSolved = 0;
     @Builder.Default
+    private Integer easySolved = 0;
+    // Solved hisoblagichlari submission'lardan to'ldirilganmi (UserSolvedStatsService, lazy backfill)
+    @Builder.Default
+    private Boolean solvedCountsSynced = false;
+    @Builder.Default
     private Double acceptanceRate = 0.0;
     @Builder.Default
     private Integer ranking = 0;
@@ -1,11 +1,13 @@
 package com.code.algonix.user;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,6 +16,20 @@ import org.springframework.stereotype.Repository;
 public interface UserStatisticsRepository extends JpaRepository<UserStatistics, Long> {
     Optional<UserStatistics> findByUserId(Long userId);
     Optional<UserStatistics> findByUser(UserEntity user);
+    List<UserStatistics> findByUserIdIn(Collection<Long> userIds);
+
+    // Birinchi yechim: jami va difficulty hisoblagichi bitta atomik UPDATE bilan (read-modify-write emas)
+    @Modifying
+    @Query(value = "UPDATE user_statistics SET total_solved = COALESCE(total_solved, 0) + 1, " +
+                   "beginner_solved = COALESCE(beginner_solved, 0) + CASE WHEN :difficulty = 'BEGINNER' THEN 1 ELSE 0 END, " +
+                   "basic_solved = COALESCE(basic_solved, 0) + CASE WHEN :difficulty = 'BASIC' THEN 1 ELSE 0 END, " +
+                   "easy_solved = COALESCE(easy_solved, 0) + CASE WHEN :difficulty = 'EASY' THEN 1 ELSE 0 END, " +
+                   "normal_solved = COALESCE(normal_solved, 0) + CASE WHEN :difficulty = 'NORMAL' THEN 1 ELSE 0 END, " +
+                   "medium_solved = COALESCE(medium_solved, 0) + CASE WHEN :difficulty = 'MEDIUM' THEN 1 ELSE 0 END, " +
+                   "hard_solved = COALESCE(hard_solved, 0) + CASE WHEN :difficulty = 'HARD' THEN 1 ELSE 0 END " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int incrementSolved(@Param("id") Long id, @Param("difficulty") String difficulty);
     
     // Admin panel uchun
     @Query("SELECT u.username, us.totalSolved FROM UserStatistics us JOIN us.user u ORDER BY us.totalSolved DESC")
@@ -0,0 +1,15 @@
+-- Per (problem, language, metric) histogram of accepted runtimes / memory
+CREATE TABLE IF NOT EXISTS performance_histograms (
+    id BIGSERIAL PRIMARY KEY,
+    problem_id BIGINT NOT NULL,
+    language VARCHAR(50) NOT NULL,
+    metric VARCHAR(20) NOT NULL,
+    data BYTEA,
+    total_count BIGINT,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    UNIQUE(problem_id, language, metric)
+);
+
+COMMENT ON TABLE performance_histograms IS 'Log-linear histograms used for runtime/memory percentiles';
+COMMENT ON COLUMN performance_histograms.data IS 'Serialized non-empty buckets (index, count)';
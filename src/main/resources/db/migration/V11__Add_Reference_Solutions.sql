@@ -0,0 +1,36 @@
+-- Reference (author) solutions used to calibrate time limits
+CREATE TABLE IF NOT EXISTS reference_solutions (
+    id BIGSERIAL PRIMARY KEY,
+    problem_id BIGINT NOT NULL REFERENCES problems(id) ON DELETE CASCADE,
+    language VARCHAR(50) NOT NULL,
+    code TEXT NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Time limit calibration results (runtimes normalised to the baseline judge node)
+CREATE TABLE IF NOT EXISTS time_limit_calibrations (
+    id BIGSERIAL PRIMARY KEY,
+    problem_id BIGINT NOT NULL REFERENCES problems(id) ON DELETE CASCADE,
+    status VARCHAR(20) NOT NULL,
+    runs_per_solution INTEGER,
+    slowest_ms BIGINT,
+    proposed_time_limit_ms INTEGER,
+    previous_time_limit_ms INTEGER,
+    applied BOOLEAN DEFAULT FALSE,
+    message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS time_limit_calibration_runs (
+    calibration_id BIGINT NOT NULL REFERENCES time_limit_calibrations(id) ON DELETE CASCADE,
+    reference_solution_id BIGINT,
+    language VARCHAR(50),
+    verdict VARCHAR(50),
+    samples INTEGER,
+    min_ms BIGINT,
+    median_ms BIGINT,
+    max_ms BIGINT
+);
+
+CREATE INDEX IF NOT EXISTS idx_time_limit_calibrations_problem ON time_limit_calibrations(problem_id);
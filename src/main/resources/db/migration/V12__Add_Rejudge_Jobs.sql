@@ -0,0 +1,24 @@
+-- Bulk rejudge jobs with checkpointed progress (last_submission_id)
+CREATE TABLE IF NOT EXISTS rejudge_jobs (
+    id BIGSERIAL PRIMARY KEY,
+    problem_id BIGINT,
+    contest_id BIGINT,
+    language VARCHAR(50),
+    verdict VARCHAR(50),
+    status VARCHAR(20) NOT NULL,
+    max_submission_id BIGINT,
+    last_submission_id BIGINT DEFAULT 0,
+    total_count BIGINT DEFAULT 0,
+    processed_count BIGINT DEFAULT 0,
+    changed_count BIGINT DEFAULT 0,
+    newly_accepted_count BIGINT DEFAULT 0,
+    failed_count BIGINT DEFAULT 0,
+    created_by VARCHAR(255),
+    message TEXT,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    started_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_rejudge_jobs_status ON rejudge_jobs(status);
+CREATE INDEX IF NOT EXISTS idx_contest_submissions_submission ON contest_submissions(submission_id);
@@ -0,0 +1,26 @@
+-- Compact test_results: input/expected output come from test_cases,
+-- actual output is kept only for failing tests (long outputs gzip'ed separately)
+CREATE TABLE IF NOT EXISTS test_result_outputs (
+    id BIGSERIAL PRIMARY KEY,
+    compressed BYTEA NOT NULL,
+    original_length INTEGER
+);
+
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS output_truncated BOOLEAN DEFAULT FALSE;
+ALTER TABLE test_results ADD COLUMN IF NOT EXISTS full_output_id BIGINT REFERENCES test_result_outputs(id);
+
+-- input/expected_output faqat test case'i bor va unga aynan teng qatorlarda tozalanadi.
+-- test_case_id ON DELETE SET NULL: test case o'chirilgan qatorlarda bu ustunlar yagona nusxa - saqlanadi
+UPDATE test_results tr SET input = NULL, expected_output = NULL
+FROM test_cases tc
+WHERE tr.test_case_id = tc.id
+  AND tr.input IS NOT DISTINCT FROM tc.input
+  AND tr.expected_output IS NOT DISTINCT FROM tc.expected_output;
+
+-- O'tgan testning chiqishi expected output bilan bir xil - faqat test case hali mavjud bo'lsa qayta tiklanadi.
+-- Eski uzun chiqishlar qisqartirilmaydi: SQL'da gzip yo'q, qisqartirilsa to'liq chiqish butunlay yo'qoladi
+UPDATE test_results tr SET actual_output = NULL
+WHERE tr.status = 'PASSED'
+  AND tr.input IS NULL
+  AND tr.expected_output IS NULL
+  AND EXISTS (SELECT 1 FROM test_cases tc WHERE tc.id = tr.test_case_id);
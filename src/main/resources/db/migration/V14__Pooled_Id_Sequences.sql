@@ -0,0 +1,21 @@
+-- Submission/test natijalari va contest jadvallari uchun pooled sequence'lar (allocationSize = 50).
+-- IDENTITY o'rniga sequence ishlatilsa Hibernate INSERT'larni batch qila oladi.
+CREATE SEQUENCE IF NOT EXISTS submissions_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_results_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS submission_group_results_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_result_outputs_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contests_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contest_submissions_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contest_participants_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS contest_problems_seq INCREMENT BY 50;
+
+-- Mavjud ID'lar bilan to'qnashmasligi uchun sequence'larni suramiz. Hibernate pooled optimizer birinchi
+-- nextval'ni blok oxiri deb oladi (ID'lar nextval-49..nextval), shuning uchun MAX(id) + allocationSize
+SELECT setval('submissions_seq', COALESCE((SELECT MAX(id) FROM submissions), 0) + 50, false);
+SELECT setval('test_results_seq', COALESCE((SELECT MAX(id) FROM test_results), 0) + 50, false);
+SELECT setval('submission_group_results_seq', COALESCE((SELECT MAX(id) FROM submission_group_results), 0) + 50, false);
+SELECT setval('test_result_outputs_seq', COALESCE((SELECT MAX(id) FROM test_result_outputs), 0) + 50, false);
+SELECT setval('contests_seq', COALESCE((SELECT MAX(id) FROM contests), 0) + 50, false);
+SELECT setval('contest_submissions_seq', COALESCE((SELECT MAX(id) FROM contest_submissions), 0) + 50, false);
+SELECT setval('contest_participants_seq', COALESCE((SELECT MAX(id) FROM contest_participants), 0) + 50, false);
+SELECT setval('contest_problems_seq', COALESCE((SELECT MAX(id) FROM contest_problems), 0) + 50, false);
@@ -0,0 +1,38 @@
+-- Submission kodlari sha-256 bo'yicha deduplikatsiya qilingan jadvalga ko'chiriladi.
+-- Eski kodlar siqilmagan holda ko'chiriladi (compressed = FALSE), yangilari thresholddan katta bo'lsa gzip.
+CREATE TABLE IF NOT EXISTS source_blobs (
+    hash VARCHAR(64) PRIMARY KEY,
+    content BYTEA NOT NULL,
+    compressed BOOLEAN NOT NULL DEFAULT FALSE,
+    original_length INTEGER,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+);
+
+ALTER TABLE submissions ADD COLUMN IF NOT EXISTS source_hash VARCHAR(64);
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'submissions' AND column_name = 'code') THEN
+        INSERT INTO source_blobs (hash, content, compressed, original_length)
+        SELECT DISTINCT encode(sha256(convert_to(code, 'UTF8')), 'hex'), convert_to(code, 'UTF8'), FALSE,
+               octet_length(convert_to(code, 'UTF8'))
+        FROM submissions
+        ON CONFLICT DO NOTHING;
+
+        UPDATE submissions SET source_hash = encode(sha256(convert_to(code, 'UTF8')), 'hex')
+        WHERE source_hash IS NULL;
+
+        ALTER TABLE submissions DROP COLUMN code;
+    END IF;
+END $$;
+
+ALTER TABLE submissions ALTER COLUMN source_hash SET NOT NULL;
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_submissions_source_blob') THEN
+        ALTER TABLE submissions ADD CONSTRAINT fk_submissions_source_blob
+            FOREIGN KEY (source_hash) REFERENCES source_blobs(hash);
+    END IF;
+END $$;
@@ -0,0 +1,20 @@
+-- Masalalar importi: content hash (o'zgarmagan masala qayta yozilmaydi)
+ALTER TABLE problems ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
+
+-- Masala va uning bolalari uchun pooled sequence'lar - import INSERT'lari batch qilinadi
+CREATE SEQUENCE IF NOT EXISTS problems_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS problem_examples_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS code_templates_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_cases_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS test_groups_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS reference_solutions_seq INCREMENT BY 50;
+-- problems_seq V1'da INCREMENT 1 bilan yaratilgan - yuqoridagi CREATE uni o'zgartirmaydi
+ALTER SEQUENCE problems_seq INCREMENT BY 50;
+
+-- Pooled optimizer: birinchi nextval blok oxiri (ID'lar nextval-49..nextval) - MAX(id) + allocationSize
+SELECT setval('problems_seq', COALESCE((SELECT MAX(id) FROM problems), 0) + 50, false);
+SELECT setval('problem_examples_seq', COALESCE((SELECT MAX(id) FROM problem_examples), 0) + 50, false);
+SELECT setval('code_templates_seq', COALESCE((SELECT MAX(id) FROM code_templates), 0) + 50, false);
+SELECT setval('test_cases_seq', COALESCE((SELECT MAX(id) FROM test_cases), 0) + 50, false);
+SELECT setval('test_groups_seq', COALESCE((SELECT MAX(id) FROM test_groups), 0) + 50, false);
+SELECT setval('reference_solutions_seq', COALESCE((SELECT MAX(id) FROM reference_solutions), 0) + 50, false);
@@ -0,0 +1,16 @@
+-- Foydalanuvchi yechgan masalalar hisoblagichlari: birinchi yechimda oshiriladi,
+-- mavjud qatorlar birinchi o'qishda submission'lardan to'ldiriladi (solved_counts_synced = false)
+ALTER TABLE user_statistics ADD COLUMN IF NOT EXISTS easy_solved INTEGER DEFAULT 0;
+ALTER TABLE user_statistics ADD COLUMN IF NOT EXISTS solved_counts_synced BOOLEAN DEFAULT FALSE;
+
+-- Yechilgan (user, problem) juftliklari: hisoblagich faqat yangi qator qo'shilganda oshiriladi
+CREATE TABLE IF NOT EXISTS user_solved_problems (
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    problem_id BIGINT NOT NULL REFERENCES problems(id) ON DELETE CASCADE,
+    solved_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, problem_id)
+);
+
+INSERT INTO user_solved_problems (user_id, problem_id)
+SELECT DISTINCT user_id, problem_id FROM submissions WHERE status = 'ACCEPTED'
+ON CONFLICT DO NOTHING;
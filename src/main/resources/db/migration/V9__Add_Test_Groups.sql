@@ -0,0 +1,36 @@
+-- Test groups (subtasks) with per-group points and dependencies
+CREATE TABLE IF NOT EXISTS test_groups (
+    id BIGSERIAL PRIMARY KEY,
+    problem_id BIGINT NOT NULL REFERENCES problems(id) ON DELETE CASCADE,
+    name VARCHAR(255) NOT NULL,
+    points INTEGER DEFAULT 0,
+    order_index INTEGER
+);
+
+CREATE TABLE IF NOT EXISTS test_group_dependencies (
+    test_group_id BIGINT NOT NULL REFERENCES test_groups(id) ON DELETE CASCADE,
+    depends_on VARCHAR(255)
+);
+
+ALTER TABLE test_cases ADD COLUMN IF NOT EXISTS test_group_id BIGINT
+    REFERENCES test_groups(id) ON DELETE SET NULL;
+
+-- Per-submission group results (IOI-style scoring)
+ALTER TABLE submissions ADD COLUMN IF NOT EXISTS score INTEGER;
+ALTER TABLE submissions ADD COLUMN IF NOT EXISTS max_score INTEGER;
+
+CREATE TABLE IF NOT EXISTS submission_group_results (
+    id BIGSERIAL PRIMARY KEY,
+    submission_id BIGINT NOT NULL REFERENCES submissions(id) ON DELETE CASCADE,
+    test_group_id BIGINT REFERENCES test_groups(id) ON DELETE SET NULL,
+    group_name VARCHAR(255) NOT NULL,
+    status VARCHAR(20),
+    points INTEGER,
+    earned_points INTEGER,
+    tests_run INTEGER,
+    total_tests INTEGER
+);
+
+CREATE INDEX IF NOT EXISTS idx_test_groups_problem_id ON test_groups(problem_id);
+CREATE INDEX IF NOT EXISTS idx_test_cases_test_group_id ON test_cases(test_group_id);
+CREATE INDEX IF NOT EXISTS idx_submission_group_results_submission_id ON submission_group_results(submission_id);
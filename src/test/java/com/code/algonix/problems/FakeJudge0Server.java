@@ -0,0 +1,161 @@
+package com.code.algonix.problems;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * Testlar uchun lokal Judge0 o'rnini bosuvchi server (faqat batch endpoint'lar).
+ * Dastur stdin'ni qaytaradi (echo); manba kodda "COMPILE_ERROR" bo'lsa kompilyatsiya xatosi,
+ * "TLE" bo'lsa time limit, stdin "REJECT" bo'lsa batch'da token o'rniga xato qaytadi. Natija birinchi pendingPolls ta so'rovda "Processing" bo'lib turadi.
+ */
+class FakeJudge0Server implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final Map<String, Submission> submissions = new ConcurrentHashMap<>();
+    private final int pendingPolls;
+
+    final AtomicInteger batchPosts = new AtomicInteger();
+    final AtomicInteger batchGets = new AtomicInteger();
+    final AtomicInteger maxBatchSize = new AtomicInteger();
+
+    FakeJudge0Server(int pendingPolls) throws IOException {
+        this.pendingPolls = pendingPolls;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        this.server.setExecutor(Executors.newFixedThreadPool(4));
+        this.server.createContext("/submissions/batch", this::handle);
+        this.server.start();
+    }
+
+    String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            if ("POST".equals(exchange.getRequestMethod())) {
+                create(exchange);
+            } else {
+                fetch(exchange);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void create(HttpExchange exchange) throws IOException {
+        batchPosts.incrementAndGet();
+        JsonNode batch = objectMapper.readTree(exchange.getRequestBody()).get("submissions");
+        maxBatchSize.accumulateAndGet(batch.size(), Math::max);
+
+        List<Map<String, Object>> tokens = new ArrayList<>();
+        for (JsonNode submission : batch) {
+            String stdin = decode(submission.path("stdin").asText(null));
+            if (stdin.contains("REJECT")) {
+                tokens.add(Map.of("stdin", List.of("is invalid")));
+                continue;
+            }
+            String token = UUID.randomUUID().toString();
+            submissions.put(token, new Submission(
+                    decode(submission.path("source_code").asText(null)),
+                    stdin,
+                    decode(submission.path("expected_output").asText(null))));
+            tokens.add(Map.of("token", token));
+        }
+        respond(exchange, 201, tokens);
+    }
+
+    private void fetch(HttpExchange exchange) throws IOException {
+        batchGets.incrementAndGet();
+        String tokens = "";
+        for (String param : exchange.getRequestURI().getRawQuery().split("&")) {
+            if (param.startsWith("tokens=")) {
+                tokens = URLDecoder.decode(param.substring(7), StandardCharsets.UTF_8);
+            }
+        }
+
+        List<Map<String, Object>> results = new ArrayList<>();
+        for (String token : tokens.split(",")) {
+            Submission submission = submissions.get(token);
+            results.add(submission == null ? null : submission.poll(token));
+        }
+        respond(exchange, 200, Map.of("submissions", results));
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    private static String decode(String value) {
+        return value == null ? "" : new String(Base64.getDecoder().decode(value), StandardCharsets.UTF_8);
+    }
+
+    private static String encode(String value) {
+        return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private class Submission {
+        private final String source;
+        private final String stdin;
+        private final String expected;
+        private final AtomicInteger polls = new AtomicInteger();
+
+        Submission(String source, String stdin, String expected) {
+            this.source = source;
+            this.stdin = stdin;
+            this.expected = expected;
+        }
+
+        Map<String, Object> poll(String token) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("token", token);
+            if (polls.incrementAndGet() <= pendingPolls) {
+                result.put("status", Map.of("id", 2, "description", "Processing"));
+                return result;
+            }
+
+            if (source.contains("COMPILE_ERROR")) {
+                result.put("compile_output", encode("main.py:1: syntax error"));
+                result.put("status", Map.of("id", 6, "description", "Compilation Error"));
+            } else if (source.contains("TLE")) {
+                result.put("status", Map.of("id", 5, "description", "Time Limit Exceeded"));
+            } else {
+                boolean accepted = stdin.trim().equals(expected.trim());
+                result.put("stdout", encode(stdin + "\n"));
+                result.put("status", accepted
+                        ? Map.of("id", 3, "description", "Accepted")
+                        : Map.of("id", 4, "description", "Wrong Answer"));
+            }
+            result.put("time", "0.012");
+            result.put("memory", 2048);
+            return result;
+        }
+    }
+}
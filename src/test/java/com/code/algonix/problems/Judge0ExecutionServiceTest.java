@@ -0,0 +1,111 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class Judge0ExecutionServiceTest {
+
+    private FakeJudge0Server server;
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private Judge0ExecutionService service(int pendingPolls) throws Exception {
+        server = new FakeJudge0Server(pendingPolls);
+        Judge0ExecutionService service = new Judge0ExecutionService();
+        ReflectionTestUtils.setField(service, "judge0ApiUrl", server.url());
+        ReflectionTestUtils.setField(service, "rapidApiKey", "");
+        ReflectionTestUtils.setField(service, "batchSize", 20);
+        ReflectionTestUtils.setField(service, "requestTimeoutMs", 5000L);
+        ReflectionTestUtils.setField(service, "pollInitialDelayMs", 10L);
+        ReflectionTestUtils.setField(service, "pollMaxDelayMs", 50L);
+        ReflectionTestUtils.setField(service, "pollTimeoutMs", 5000L);
+        return service;
+    }
+
+    private static List<TestCase> testCases(int count, int wrongIndex) {
+        List<TestCase> testCases = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            TestCase testCase = new TestCase();
+            testCase.setId((long) i + 1);
+            testCase.setInput("value-" + i);
+            testCase.setExpectedOutput(i == wrongIndex ? "other" : "value-" + i);
+            testCase.setIsHidden(i >= 2);
+            testCases.add(testCase);
+        }
+        return testCases;
+    }
+
+    @Test
+    void executeCode_AllPassed_UsesBatchEndpoints() throws Exception {
+        Judge0ExecutionService service = service(2);
+
+        CodeExecutionService.ExecutionResult result = service.executeCode("print(input())", "python", testCases(45, -1));
+
+        assertEquals(CodeExecutionService.ExecutionStatus.ACCEPTED, result.getStatus());
+        assertEquals(45, result.getPassedTestCases());
+        assertEquals(45, result.getTestResults().size());
+        assertEquals(12, result.getTestResults().get(0).getRuntime());
+        // 45 test -> 3 ta batch (20 + 20 + 5), har poll ham 3 ta so'rov
+        assertEquals(3, server.batchPosts.get());
+        assertEquals(20, server.maxBatchSize.get());
+        assertEquals(9, server.batchGets.get());
+    }
+
+    @Test
+    void executeCode_HiddenFailure_StopsAtFirstFailure() throws Exception {
+        Judge0ExecutionService service = service(0);
+
+        CodeExecutionService.ExecutionResult result = service.executeCode("print(input())", "python", testCases(10, 4));
+
+        assertEquals(CodeExecutionService.ExecutionStatus.WRONG_ANSWER, result.getStatus());
+        assertEquals(4, result.getPassedTestCases());
+        assertEquals(5, result.getTestResults().size());
+        assertEquals("value-4", result.getTestResults().get(4).getActualOutput());
+    }
+
+    @Test
+    void executeCode_CompileError() throws Exception {
+        Judge0ExecutionService service = service(1);
+
+        CodeExecutionService.ExecutionResult result = service.executeCode("COMPILE_ERROR", "python", testCases(3, -1));
+
+        assertEquals(CodeExecutionService.ExecutionStatus.COMPILE_ERROR, result.getStatus());
+        assertEquals("main.py:1: syntax error", result.getErrorMessage());
+    }
+
+    @Test
+    void executeCode_UnsupportedLanguage() throws Exception {
+        Judge0ExecutionService service = service(0);
+
+        CodeExecutionService.ExecutionResult result = service.executeCode("x", "cobol", testCases(1, -1));
+
+        assertEquals(CodeExecutionService.ExecutionStatus.RUNTIME_ERROR, result.getStatus());
+        assertEquals(0, server.batchPosts.get());
+    }
+
+    @Test
+    void executeCode_RejectedBatchItem_FailsFast() throws Exception {
+        Judge0ExecutionService service = service(0);
+        List<TestCase> testCases = testCases(3, -1);
+        testCases.get(1).setInput("REJECT");
+
+        long start = System.nanoTime();
+        CodeExecutionService.ExecutionResult result = service.executeCode("print(input())", "python", testCases);
+
+        assertEquals(CodeExecutionService.ExecutionStatus.RUNTIME_ERROR, result.getStatus());
+        assertTrue(result.getErrorMessage().contains("is invalid"));
+        assertEquals(0, server.batchGets.get());
+        assertTrue(System.nanoTime() - start < 4_000_000_000L);
+    }
+}
@@ -0,0 +1,53 @@
+package com.code.algonix.problems;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void percentBeaten_EmptyHistogram() {
+        assertEquals(100.0, new LatencyHistogram().percentBeaten(50));
+    }
+
+    @Test
+    void percentBeaten_CountsSlowerResults() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int runtime = 1; runtime <= 100; runtime++) {
+            histogram.record(runtime * 10);
+        }
+
+        assertEquals(100, histogram.getTotalCount());
+        assertTrue(histogram.percentBeaten(1) > 99.0);
+        assertTrue(histogram.percentBeaten(100_000) < 1.0);
+        assertEquals(50.0, histogram.percentBeaten(500), 4.0);
+    }
+
+    @Test
+    void bucketIndex_IsMonotonicAndBounded() {
+        int previous = -1;
+        for (long value = 0; value < 1_000_000; value += 7) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(index >= previous);
+            previous = index;
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(0, LatencyHistogram.bucketIndex(-5));
+    }
+
+    @Test
+    void toBytes_RoundTrip() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(3);
+        histogram.record(250);
+        histogram.record(250);
+        histogram.record(40_000);
+
+        LatencyHistogram restored = LatencyHistogram.fromBytes(histogram.toBytes());
+
+        assertEquals(histogram.getTotalCount(), restored.getTotalCount());
+        assertEquals(histogram.percentBeaten(250), restored.percentBeaten(250));
+        assertEquals(histogram.percentBeaten(10), restored.percentBeaten(10));
+    }
+}
@@ -0,0 +1,46 @@
+package com.code.algonix.problems;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MarkdownRendererTest {
+
+    private final MarkdownRenderer renderer = new MarkdownRenderer();
+
+    @Test
+    void render_MarkdownAndTables() {
+        String html = renderer.render("# Masala\n\n**Kirish:** `n`\n\n| n | javob |\n|---|---|\n| 1 | 2 |\n");
+
+        assertTrue(html.contains("<h1>Masala</h1>"));
+        assertTrue(html.contains("<strong>Kirish:</strong> <code>n</code>"));
+        assertTrue(html.contains("<td>1</td>"));
+    }
+
+    @Test
+    void render_RemovesScriptsAndUnsafeLinks() {
+        String html = renderer.render("<script>alert(1)</script>\n\n[x](javascript:alert(1)) <img src=x onerror=alert(1)>");
+
+        assertFalse(html.contains("script"));
+        assertFalse(html.contains("javascript:"));
+        assertFalse(html.contains("onerror"));
+    }
+
+    @Test
+    void render_KeepsMathIntact() {
+        String html = renderer.render("Hisoblang: $a_i * b_i$ va\n\n$$\\sum_{i=1}^{n} x_i * y_i$$");
+
+        assertTrue(html.contains("<span class=\"math math-inline\">$a_i * b_i$</span>"));
+        assertTrue(html.contains("<span class=\"math math-display\">$$\\sum_{i=1}^{n} x_i * y_i$$</span>"));
+        assertFalse(html.contains("<em>"));
+    }
+
+    @Test
+    void render_IgnoresDollarsInCodeAndPrices() {
+        String html = renderer.render("`echo $HOME$` narxi $5 va $10\n\n```\nx = $y$\n```\n");
+
+        assertFalse(html.contains("math"));
+        assertTrue(html.contains("<code>echo $HOME$</code>"));
+        assertTrue(html.contains("x = $y$"));
+    }
+}
@@ -0,0 +1,59 @@
+package com.code.algonix.problems;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PatternScannerTest {
+
+    @Test
+    void scan_ReportsOverlappingMatchesWithPositions() {
+        PatternScanner scanner = new PatternScanner(List.of("he", "she", "his", "hers"));
+
+        List<PatternScanner.Match> matches = scanner.scan("ushers");
+
+        assertEquals(List.of(
+                new PatternScanner.Match("she", 1, 4),
+                new PatternScanner.Match("he", 2, 4),
+                new PatternScanner.Match("hers", 2, 6)), matches);
+    }
+
+    @Test
+    void findFirst_IsCaseInsensitive() {
+        PatternScanner scanner = new PatternScanner(List.of("Runtime.getRuntime()", "ProcessBuilder"));
+
+        assertTrue(scanner.findFirst("new processbuilder(\"ls\")").isPresent());
+        assertTrue(scanner.findFirst("RUNTIME.GETRUNTIME().exec(x)").isPresent());
+        assertTrue(scanner.findFirst("int main() { return 0; }").isEmpty());
+    }
+
+    @Test
+    void findFirst_WordBoundaryAndCallSyntax() {
+        PatternScanner scanner = new PatternScanner(List.of("\\beval("));
+
+        assertTrue(scanner.findFirst("x = eval(\"1\")").isPresent());
+        assertTrue(scanner.findFirst("x = eval  (\"1\")").isPresent());
+        assertTrue(scanner.findFirst("medieval(1)").isEmpty());
+        assertTrue(scanner.findFirst("const evaluate = 1; eval").isEmpty());
+    }
+
+    @Test
+    void findFirst_NonAsciiTextResetsMatch() {
+        PatternScanner scanner = new PatternScanner(List.of("import os"));
+
+        assertTrue(scanner.findFirst("# o'zbekcha izoh: ўзбек\nimport os").isPresent());
+        assertTrue(scanner.findFirst("importё os").isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> new PatternScanner(List.of("ўзбек")));
+    }
+
+    @Test
+    void javascriptPatterns_AllowAnonymousFunctions() {
+        PatternScanner scanner = new PatternScanner(SecurityExecutionService.DEFAULT_PATTERNS.get("javascript"));
+
+        assertTrue(scanner.findFirst("var f = function (a) {}").isEmpty());
+        assertTrue(scanner.findFirst("arr.map(function(x) { return x * 2; })").isEmpty());
+        assertTrue(scanner.findFirst("var g = new Function(\"return 1\")").isPresent());
+    }
+}
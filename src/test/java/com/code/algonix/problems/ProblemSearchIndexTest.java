@@ -0,0 +1,45 @@
+package com.code.algonix.problems;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ProblemSearchIndexTest {
+
+    private final ProblemSearchIndex index = ProblemSearchIndex.build(List.of(
+            ProblemSearchIndex.Document.of("Two Sum", List.of("array", "hash-table", "Amazon"), "Find two numbers"),
+            ProblemSearchIndex.Document.of("Ikkita sonni qo'shish", List.of("math"), "Ikki sonning yig'indisi"),
+            ProblemSearchIndex.Document.of("Valid Parentheses", List.of("stack"), "Use an array as a stack"),
+            ProblemSearchIndex.Document.EMPTY));
+
+    @Test
+    void search_RanksTitleAboveDescription() {
+        ProblemSearchIndex.Result result = index.search("array");
+
+        assertEquals(List.of(0, 2), result.matches().stream().boxed().toList());
+        assertTrue(result.scores()[0] > result.scores()[2]);
+    }
+
+    @Test
+    void search_RequiresAllWordsAndTreatsLastAsPrefix() {
+        assertEquals(List.of(0), index.search("two nu").matches().stream().boxed().toList());
+        assertEquals(List.of(0), index.search("amaz").matches().stream().boxed().toList());
+        assertTrue(index.search("two stack").matches().isEmpty());
+        // Faqat oxirgi so'z prefiks
+        assertTrue(index.search("tw sum").matches().isEmpty());
+    }
+
+    @Test
+    void search_IgnoresCaseAndApostrophes() {
+        assertEquals(List.of(1), index.search("QOSHISH").matches().stream().boxed().toList());
+        assertEquals(List.of(1), index.search("qoʻsh").matches().stream().boxed().toList());
+        assertEquals(List.of(0), index.search("HASH TABLE").matches().stream().boxed().toList());
+    }
+
+    @Test
+    void search_WithoutWordsReturnsNull() {
+        assertNull(index.search("  ?! "));
+    }
+}
@@ -0,0 +1,94 @@
+package com.code.algonix.problems;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TestGroupPlanTest {
+
+    @Test
+    void execute_ScoresGroupsAndSkipsDependents() {
+        Problem problem = new Problem();
+        TestGroup small = group(problem, 1L, "small", 30, 0);
+        TestGroup large = group(problem, 2L, "large", 70, 1, "small");
+        TestGroup other = group(problem, 3L, "other", 20, 2);
+        List<TestCase> tests = List.of(test(1L, small), test(2L, small), test(3L, large), test(4L, other), test(5L, other));
+
+        TestGroupPlan plan = TestGroupPlan.of(tests);
+        TestGroupPlan.Outcome outcome = plan.execute(runner(Set.of(2L)));
+
+        assertTrue(plan.isGrouped());
+        assertEquals(120, plan.getMaxScore());
+        assertEquals(20, outcome.score());
+        assertEquals(List.of(CodeExecutionService.GroupStatus.FAILED, CodeExecutionService.GroupStatus.SKIPPED,
+                CodeExecutionService.GroupStatus.PASSED), statuses(outcome));
+        assertEquals(4, outcome.results().size()); // large guruh ishga tushirilmaydi
+        assertEquals(2, outcome.firstFailureNumber());
+        assertEquals(3, outcome.passedCount());
+    }
+
+    @Test
+    void execute_EmptyGroupCountsAsPassed() {
+        Problem problem = new Problem();
+        TestGroup empty = group(problem, 1L, "empty", 10, 0);
+        TestGroup main = group(problem, 2L, "main", 90, 1, "empty");
+        List<TestCase> tests = List.of(test(1L, main));
+
+        TestGroupPlan plan = TestGroupPlan.of(tests);
+        TestGroupPlan.Outcome outcome = plan.execute(runner(Set.of()));
+
+        assertEquals(100, plan.getMaxScore());
+        assertEquals(100, outcome.score());
+        assertEquals(List.of(CodeExecutionService.GroupStatus.PASSED, CodeExecutionService.GroupStatus.PASSED),
+                statuses(outcome));
+        assertEquals(0, outcome.groupResults().get(0).getTotalTests());
+    }
+
+    @Test
+    void execute_UngroupedStopsOnFirstFailure() {
+        List<TestCase> tests = List.of(test(1L, null), test(2L, null), test(3L, null));
+
+        TestGroupPlan plan = TestGroupPlan.of(tests);
+        TestGroupPlan.Outcome outcome = plan.execute(runner(Set.of(2L)));
+
+        assertFalse(plan.isGrouped());
+        assertEquals(2, outcome.results().size());
+        assertEquals(1, outcome.passedCount());
+        assertEquals(2, outcome.firstFailureNumber());
+    }
+
+    private static TestGroupPlan.TestRunner runner(Set<Long> failing) {
+        return (testCase, testNumber, totalTests) -> CodeExecutionService.TestCaseResult.builder()
+                .testCaseId(testCase.getId())
+                .passed(!failing.contains(testCase.getId()))
+                .status(failing.contains(testCase.getId())
+                        ? CodeExecutionService.ExecutionStatus.WRONG_ANSWER
+                        : CodeExecutionService.ExecutionStatus.ACCEPTED)
+                .build();
+    }
+
+    private static List<CodeExecutionService.GroupStatus> statuses(TestGroupPlan.Outcome outcome) {
+        return outcome.groupResults().stream().map(CodeExecutionService.GroupResult::getStatus).toList();
+    }
+
+    private static TestGroup group(Problem problem, Long id, String name, int points, int order, String... dependsOn) {
+        TestGroup group = TestGroup.builder()
+                .id(id)
+                .problem(problem)
+                .name(name)
+                .points(points)
+                .orderIndex(order)
+                .dependsOn(new ArrayList<>(List.of(dependsOn)))
+                .build();
+        problem.getTestGroups().add(group);
+        return group;
+    }
+
+    private static TestCase test(Long id, TestGroup group) {
+        return TestCase.builder().id(id).testGroup(group).build();
+    }
+}